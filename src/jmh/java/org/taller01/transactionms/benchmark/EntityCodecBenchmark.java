@@ -0,0 +1,81 @@
+package org.taller01.transactionms.benchmark;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.infrastructure.config.MongoConfig;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+import org.taller01.transactionms.infrastructure.mapper.TransactionEntityCodec;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura de un documento del historial desde BSON: el codec escrito a mano contra el camino de
+ * Spring Data ({@code Document} intermedio y {@code MappingMongoConverter}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityCodecBenchmark {
+
+  private final TransactionEntityCodec codec = new TransactionEntityCodec();
+  private final DocumentCodec documentCodec = new DocumentCodec();
+  private MappingMongoConverter converter;
+  private byte[] bson;
+
+  @Setup
+  public void setUp() {
+    var conversions = new MongoConfig().mongoCustomConversions();
+    var context = new MongoMappingContext();
+    context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+    converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+    converter.setCustomConversions(conversions);
+    converter.afterPropertiesSet();
+
+    var entity = TransactionEntity.builder().id("65a0c0ffee0000000000abcd")
+        .type(TransactionType.TRANSFER).status(TransactionStatus.SUCCESS)
+        .fromAccountId("68bd2d02a44f743f92283c1d").toAccountId("68bd301812736c427ae171ee")
+        .amount(Money.of("1250.50")).createdAt(Instant.parse("2025-01-01T10:15:30Z"))
+        .message("Transferencia realizada con éxito").build();
+    var buffer = new BasicOutputBuffer();
+    codec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+    bson = buffer.toByteArray();
+  }
+
+  @Benchmark
+  public TransactionEntity codec() {
+    return codec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)),
+        DecoderContext.builder().build());
+  }
+
+  @Benchmark
+  public TransactionEntity springData() {
+    Document document = documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bson)),
+        DecoderContext.builder().build());
+    return converter.read(TransactionEntity.class, document);
+  }
+}
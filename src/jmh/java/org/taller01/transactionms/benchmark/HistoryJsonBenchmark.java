@@ -0,0 +1,95 @@
+package org.taller01.transactionms.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.infrastructure.config.MoneyJsonComponent;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+import org.taller01.transactionms.infrastructure.mapper.TransactionEntityCodec;
+import org.taller01.transactionms.infrastructure.mapper.TransactionEntityMapper;
+import org.taller01.transactionms.infrastructure.mapper.TransactionJsonWriter;
+import org.taller01.transactionms.infrastructure.mapper.TransactionMapper;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Una fila del historial de BSON a bytes JSON en un buffer Netty: {@link TransactionJsonWriter}
+ * sobre el documento crudo contra codec, mappers y Jackson (el camino del controlador).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HistoryJsonBenchmark {
+
+  private final NettyDataBufferFactory buffers =
+      new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+  private final TransactionJsonWriter writer = new TransactionJsonWriter();
+  private final TransactionEntityCodec codec = new TransactionEntityCodec();
+  private final TransactionEntityMapper entityMapper = new TransactionEntityMapper();
+  private final TransactionMapper mapper = new TransactionMapper();
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+      .registerModule(MoneyJsonComponent.module())
+      .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  private RawBsonDocument document;
+  private DataBuffer buffer;
+
+  @Setup
+  public void setUp() {
+    var entity = TransactionEntity.builder().id("65a0c0ffee0000000000abcd")
+        .type(TransactionType.TRANSFER).status(TransactionStatus.SUCCESS)
+        .fromAccountId("68bd2d02a44f743f92283c1d").toAccountId("68bd301812736c427ae171ee")
+        .amount(Money.of("1250.50")).createdAt(Instant.parse("2025-01-01T10:15:30.250Z"))
+        .message("Transferencia realizada con éxito").build();
+    document = new RawBsonDocument(entity, codec);
+    buffer = buffers.allocateBuffer(512);
+  }
+
+  @TearDown
+  public void release() {
+    DataBufferUtils.release(buffer);
+  }
+
+  // Se reutiliza el mismo buffer para medir solo la escritura
+  @Benchmark
+  public DataBuffer rawJson() {
+    writer.write(document, buffer.writePosition(0));
+    return buffer;
+  }
+
+  @Benchmark
+  public DataBuffer jackson() throws Exception {
+    ByteBuffer bson = document.getByteBuffer().asNIO();
+    TransactionEntity entity =
+        codec.decode(new BsonBinaryReader(bson), DecoderContext.builder().build());
+    try (OutputStream out = buffer.writePosition(0).asOutputStream()) {
+      objectMapper.writeValue(out, mapper.toResponse(entityMapper.toDomain(entity)));
+    }
+    return buffer;
+  }
+}
@@ -0,0 +1,66 @@
+package org.taller01.transactionms.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.dto.response.TransactionResponse;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+import org.taller01.transactionms.infrastructure.mapper.TransactionEntityMapper;
+import org.taller01.transactionms.infrastructure.mapper.TransactionMapper;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide las conversiones entidad ↔ dominio ↔ respuesta que se repiten por cada fila del historial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+  private TransactionEntityMapper entityMapper;
+  private TransactionMapper responseMapper;
+  private Transaction transaction;
+  private TransactionEntity entity;
+
+  @Setup
+  public void setUp() {
+    entityMapper = new TransactionEntityMapper();
+    responseMapper = new TransactionMapper();
+    transaction = Transaction.builder().id("68bd301812736c427ae171ee")
+        .type(TransactionType.TRANSFER).status(TransactionStatus.SUCCESS)
+        .fromAccountId("68bd2d02a44f743f92283c1d").toAccountId("68bd301812736c427ae171ee")
+        .amount(Money.of("25.50")).createdAt(Instant.parse("2025-09-08T03:16:00Z"))
+        .message("Transferencia realizada con éxito").build();
+    entity = entityMapper.toEntity(transaction);
+  }
+
+  @Benchmark
+  public TransactionEntity toEntity() {
+    return entityMapper.toEntity(transaction);
+  }
+
+  @Benchmark
+  public Transaction toDomain() {
+    return entityMapper.toDomain(entity);
+  }
+
+  @Benchmark
+  public TransactionResponse toResponse() {
+    return responseMapper.toResponse(transaction);
+  }
+}
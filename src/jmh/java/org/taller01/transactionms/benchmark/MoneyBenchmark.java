@@ -0,0 +1,43 @@
+package org.taller01.transactionms.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.taller01.transactionms.domain.model.Money;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lo que cada solicitud hace con el monto: leerlo del JSON, compararlo con el saldo y escribirlo
+ * de vuelta. {@code BigDecimal} queda como referencia.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+  private final String amountText = "1250.50";
+  private final Money balance = Money.of("5000.00");
+  private final BigDecimal decimalBalance = new BigDecimal("5000.00");
+
+  @Benchmark
+  public boolean money() {
+    Money amount = Money.of(amountText);
+    return !balance.isLessThan(amount) && amount.toString().length() > 0;
+  }
+
+  @Benchmark
+  public boolean bigDecimal() {
+    BigDecimal amount = new BigDecimal(amountText);
+    return decimalBalance.compareTo(amount) >= 0 && amount.toPlainString().length() > 0;
+  }
+}
@@ -0,0 +1,120 @@
+package org.taller01.transactionms.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.taller01.transactionms.domain.factory.TransactionFactory;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.strategy.DepositTransaction;
+import org.taller01.transactionms.domain.strategy.TransferTransaction;
+import org.taller01.transactionms.domain.strategy.WithdrawTransaction;
+import org.taller01.transactionms.dto.request.DepositRequest;
+import org.taller01.transactionms.dto.request.TransferRequest;
+import org.taller01.transactionms.dto.request.WithdrawRequest;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada estrategia con AccountMS y Mongo simulados. Throughput da ops/s y SampleTime los
+ * percentiles (p99); la tasa de asignación se obtiene con {@code -prof gc}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-jmh.xml")
+public class StrategyBenchmark {
+
+  private static final Money AMOUNT = Money.of("25.50");
+
+  private static final DepositRequest DEPOSIT = new DepositRequest("acc-1", AMOUNT);
+  private static final WithdrawRequest WITHDRAW = new WithdrawRequest("acc-1", AMOUNT);
+  private static final TransferRequest TRANSFER = new TransferRequest("acc-1", "acc-2", AMOUNT);
+  private static final TransferRequest TRANSFER_SAME_ACCOUNT =
+      new TransferRequest("acc-1", "acc-1", AMOUNT);
+  private static final TransferRequest TRANSFER_OVERDRAFT =
+      new TransferRequest("acc-1", "acc-2", Money.of("1000000.00"));
+
+  /** Estrategias con un AccountMS que siempre responde bien. */
+  @State(Scope.Benchmark)
+  public static class Healthy {
+    DepositTransaction deposit;
+    WithdrawTransaction withdraw;
+    TransferTransaction transfer;
+
+    @Setup
+    public void setUp() {
+      StubAccountClient client = StubAccountClient.healthy(Money.of("5000.00"));
+      StubTransactionRepository repo = new StubTransactionRepository();
+      TransactionFactory factory = new TransactionFactory();
+      deposit = new DepositTransaction(repo, client, factory);
+      withdraw = new WithdrawTransaction(repo, client, factory);
+      transfer = new TransferTransaction(repo, client, factory);
+    }
+  }
+
+  /** Estrategias con un AccountMS que responde 404 en todas las llamadas. */
+  @State(Scope.Benchmark)
+  public static class Failing {
+    DepositTransaction deposit;
+    WithdrawTransaction withdraw;
+    TransferTransaction transfer;
+
+    @Setup
+    public void setUp() {
+      StubAccountClient client = StubAccountClient.failing();
+      StubTransactionRepository repo = new StubTransactionRepository();
+      TransactionFactory factory = new TransactionFactory();
+      deposit = new DepositTransaction(repo, client, factory);
+      withdraw = new WithdrawTransaction(repo, client, factory);
+      transfer = new TransferTransaction(repo, client, factory);
+    }
+  }
+
+  @Benchmark
+  public Transaction depositSuccess(Healthy state) {
+    return state.deposit.execute(DEPOSIT).block();
+  }
+
+  @Benchmark
+  public Transaction depositFailure(Failing state) {
+    return state.deposit.execute(DEPOSIT).block();
+  }
+
+  @Benchmark
+  public Transaction withdrawSuccess(Healthy state) {
+    return state.withdraw.execute(WITHDRAW).block();
+  }
+
+  @Benchmark
+  public Transaction withdrawFailure(Failing state) {
+    return state.withdraw.execute(WITHDRAW).block();
+  }
+
+  @Benchmark
+  public Transaction transferSuccess(Healthy state) {
+    return state.transfer.execute(TRANSFER).block();
+  }
+
+  @Benchmark
+  public Transaction transferInsufficientBalance(Healthy state) {
+    return state.transfer.execute(TRANSFER_OVERDRAFT).block();
+  }
+
+  @Benchmark
+  public Transaction transferSameAccount(Healthy state) {
+    return state.transfer.execute(TRANSFER_SAME_ACCOUNT).block();
+  }
+
+  @Benchmark
+  public Transaction transferFailure(Failing state) {
+    return state.transfer.execute(TRANSFER).block();
+  }
+}
@@ -0,0 +1,53 @@
+package org.taller01.transactionms.benchmark;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import org.taller01.transactionms.infrastructure.external.account.AccountResponse;
+import org.taller01.transactionms.infrastructure.external.account.AccountType;
+import reactor.core.publisher.Mono;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * AccountClientPort en memoria: responde de inmediato para que el benchmark mida solo nuestro
+ * código. En modo fallido todas las operaciones terminan con el mismo error pre-construido.
+ */
+public class StubAccountClient implements AccountClientPort {
+
+  private final Mono<AccountResponse> account;
+  private final Mono<Void> mutation;
+
+  private StubAccountClient(Mono<AccountResponse> account, Mono<Void> mutation) {
+    this.account = account;
+    this.mutation = mutation;
+  }
+
+  public static StubAccountClient healthy(Money balance) {
+    AccountResponse response =
+        new AccountResponse("acc", "000123", balance, AccountType.SAVINGS, "client");
+    return new StubAccountClient(Mono.just(response), Mono.empty());
+  }
+
+  public static StubAccountClient failing() {
+    WebClientResponseException ex = WebClientResponseException.create(404, "Not Found",
+        HttpHeaders.EMPTY, "account not found".getBytes(StandardCharsets.UTF_8),
+        StandardCharsets.UTF_8);
+    return new StubAccountClient(Mono.error(ex), Mono.error(ex));
+  }
+
+  @Override
+  public Mono<Void> deposit(String accountId, Money amount) {
+    return mutation;
+  }
+
+  @Override
+  public Mono<Void> withdraw(String accountId, Money amount) {
+    return mutation;
+  }
+
+  @Override
+  public Mono<AccountResponse> getAccount(String accountId) {
+    return account;
+  }
+}
@@ -0,0 +1,57 @@
+package org.taller01.transactionms.benchmark;
+
+import org.taller01.transactionms.domain.model.HistoryCursor;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+/**
+ * ITransactionRepository sin persistencia: devuelve la misma transacción recibida.
+ */
+public class StubTransactionRepository implements ITransactionRepository {
+
+  @Override
+  public Mono<Transaction> save(Transaction transaction) {
+    return Mono.just(transaction);
+  }
+
+  @Override
+  public Flux<Transaction> saveAll(List<Transaction> transactions) {
+    return Flux.fromIterable(transactions);
+  }
+
+  @Override
+  public Flux<Transaction> findHistory(HistoryQuery query) {
+    return Flux.empty();
+  }
+
+  @Override
+  public Flux<Transaction> findPageByAccountId(String accountId, HistoryCursor after, int limit) {
+    return Flux.empty();
+  }
+
+  @Override
+  public Mono<Transaction> findById(String id) {
+    return Mono.empty();
+  }
+
+  @Override
+  public Flux<Transaction> findByStatus(TransactionStatus status) {
+    return Flux.empty();
+  }
+
+  @Override
+  public Mono<Transaction> compareAndSetStatus(String id, TransactionStatus expected,
+      TransactionStatus status) {
+    return Mono.empty();
+  }
+
+  @Override
+  public Mono<Transaction> update(Transaction transaction) {
+    return Mono.just(transaction);
+  }
+}
@@ -0,0 +1,150 @@
+package org.taller01.transactionms.application.service;
+
+import org.springframework.stereotype.Component;
+import org.taller01.transactionms.domain.exception.AccountBusyException;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.model.RequestDeadline;
+import org.taller01.transactionms.infrastructure.config.SequencingProperties;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.concurrent.Queues;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Ejecuta en orden, una a la vez, las operaciones de una misma cuenta y en paralelo las de cuentas
+ * distintas. Cada cuenta cae en un carril (hash de su id); el carril es una cola MPSC sin bloqueos
+ * con un bucle de drenado de un solo dueño, y rechaza cuando su cola está llena.
+ */
+@Component
+public class AccountSequencer {
+
+  private final boolean enabled;
+  private final Lane[] lanes;
+  private final int mask;
+
+  public AccountSequencer(SequencingProperties properties) {
+    this.enabled = properties.isEnabled();
+    int stripes = Integer.highestOneBit(Math.max(1, properties.getStripes() - 1) << 1);
+    this.lanes = new Lane[stripes];
+    this.mask = stripes - 1;
+    for (int i = 0; i < stripes; i++) {
+      lanes[i] = new Lane(properties.getMaxQueueDepth());
+    }
+  }
+
+  /**
+   * Encola {@code work} en el carril de la cuenta. La operación se arma y suscribe recién cuando le
+   * toca el turno, con el contexto de Reactor del llamador.
+   */
+  public <T> Mono<T> submit(String accountId, Supplier<Mono<T>> work) {
+    if (!enabled || accountId == null) {
+      return Mono.defer(work);
+    }
+    return lanes[spread(accountId.hashCode()) & mask].submit(work);
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static final class Lane {
+    private final Queue<Task<?>> queue = Queues.<Task<?>>unboundedMultiproducer().get();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final int maxDepth;
+    private volatile boolean busy;
+
+    Lane(int maxDepth) {
+      this.maxDepth = maxDepth;
+    }
+
+    <T> Mono<T> submit(Supplier<Mono<T>> work) {
+      return Mono.create(sink -> {
+        if (pending.incrementAndGet() > maxDepth) {
+          pending.decrementAndGet();
+          sink.error(new AccountBusyException(Messages.ACCOUNT_BUSY));
+          return;
+        }
+        Task<T> task = new Task<>(work, sink);
+        sink.onCancel(task::cancel);
+        queue.offer(task);
+        drain();
+      });
+    }
+
+    // Solo un hilo drena a la vez (wip); los demás dejan constancia y el dueño vuelve a mirar
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        while (!busy) {
+          Task<?> task = queue.poll();
+          if (task == null) {
+            break;
+          }
+          pending.decrementAndGet();
+          busy = true;
+          task.run(this::onTaskDone);
+        }
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void onTaskDone() {
+      busy = false;
+      drain();
+    }
+  }
+
+  private static final class Task<T> {
+    private final Supplier<Mono<T>> work;
+    private final MonoSink<T> sink;
+    private volatile boolean cancelled;
+
+    Task(Supplier<Mono<T>> work, MonoSink<T> sink) {
+      this.work = work;
+      this.sink = sink;
+    }
+
+    void cancel() {
+      cancelled = true;
+    }
+
+    /**
+     * Una vez iniciada, la operación no se cancela aunque el llamador se vaya: puede estar a mitad
+     * de una mutación en AccountMS y el carril debe seguir ocupado hasta que termine.
+     */
+    void run(Runnable onDone) {
+      if (cancelled) {
+        onDone.run();
+        return;
+      }
+      // Si el plazo venció esperando turno no se empieza: el llamador ya no está
+      if (RequestDeadline.from(sink.contextView()).filter(RequestDeadline::isExpired).isPresent()) {
+        sink.error(new DeadlineExceededException(Messages.DEADLINE_EXCEEDED));
+        onDone.run();
+        return;
+      }
+      Mono<T> mono;
+      try {
+        mono = work.get();
+      } catch (RuntimeException ex) {
+        sink.error(ex);
+        onDone.run();
+        return;
+      }
+      mono.contextWrite(sink.contextView()).subscribe(sink::success, ex -> {
+        sink.error(ex);
+        onDone.run();
+      }, () -> {
+        sink.success();
+        onDone.run();
+      });
+    }
+  }
+}
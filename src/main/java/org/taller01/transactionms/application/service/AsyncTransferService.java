@@ -0,0 +1,184 @@
+package org.taller01.transactionms.application.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.taller01.transactionms.domain.exception.AccountBusyException;
+import org.taller01.transactionms.domain.exception.AsyncQueueFullException;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.factory.TransactionFactory;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.in.AsyncTransferUseCase;
+import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import org.taller01.transactionms.domain.strategy.TransactionStrategy;
+import org.taller01.transactionms.dto.request.TransferRequest;
+import org.taller01.transactionms.infrastructure.config.AsyncTransferProperties;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transferencias en dos fases: la solicitud HTTP solo inserta el registro {@code PENDING}; un
+ * pipeline acotado lo toma ({@code PENDING -> PROCESSING}), ejecuta la transferencia en el carril
+ * de la cuenta de origen y guarda el resultado sobre el mismo id. La cola tiene lugar para
+ * {@code queueCapacity} transferencias: lo que no entra se rechaza al aceptar, o queda
+ * {@code PENDING} hasta el próximo arranque si venía de un reintento o de la recuperación.
+ */
+@Slf4j
+@Service
+public class AsyncTransferService implements AsyncTransferUseCase {
+
+  private final ITransactionRepository repository;
+  private final TransactionStrategy<TransferRequest> strategy;
+  private final AccountSequencer sequencer;
+  private final TransactionFactory factory;
+  private final AsyncTransferProperties properties;
+  private final Sinks.Many<Transaction> queue;
+  private final AtomicInteger outstanding = new AtomicInteger();
+
+  @SuppressWarnings("unchecked")
+  public AsyncTransferService(Map<TransactionType, TransactionStrategy<?>> strategyMap,
+      ITransactionRepository repository, AccountSequencer sequencer, TransactionFactory factory,
+      AsyncTransferProperties properties) {
+    this.repository = repository;
+    this.strategy =
+        (TransactionStrategy<TransferRequest>) strategyMap.get(TransactionType.TRANSFER);
+    this.sequencer = sequencer;
+    this.factory = factory;
+    this.properties = properties;
+    // Encolan los hilos de Mongo y los temporizadores de reintento a la vez: cola multi-productor
+    this.queue = Sinks.unsafe().many().unicast()
+        .onBackpressureBuffer(new ArrayBlockingQueue<>(properties.getQueueCapacity()));
+    queue.asFlux().flatMap(this::run, properties.getConcurrency()).subscribe();
+  }
+
+  @Override
+  public Mono<Transaction> accept(TransferRequest request) {
+    return Mono.defer(() -> {
+      if (outstanding.incrementAndGet() > properties.getQueueCapacity()) {
+        outstanding.decrementAndGet();
+        return Mono.error(new AsyncQueueFullException(Messages.ASYNC_QUEUE_FULL));
+      }
+      Transaction pending = Transaction.builder().type(TransactionType.TRANSFER)
+          .status(TransactionStatus.PENDING).fromAccountId(request.fromAccountId())
+          .toAccountId(request.toAccountId()).amount(request.amount()).createdAt(Instant.now())
+          .message(Messages.TRANSFER_PENDING).build();
+      // Se suscribe aparte: si el cliente corta después del insert, la transferencia igual se
+      // encola en vez de quedar PENDING hasta el próximo arranque
+      Mono<Transaction> saved = repository.save(pending).flatMap(this::admit)
+          .doOnError(ex -> outstanding.decrementAndGet()).cache();
+      saved.subscribe(tx -> {
+      }, ex -> log.warn("⚠️ No se pudo aceptar la transferencia de {} a {}: {}",
+          request.fromAccountId(), request.toAccountId(), ex.getMessage()));
+      return saved;
+    });
+  }
+
+  /**
+   * Si la cola rechaza la transferencia recién guardada se marca FAILED: si quedara PENDING, la
+   * recuperación del próximo arranque la ejecutaría después de haberle respondido al cliente que no
+   * se aceptó.
+   */
+  private Mono<Transaction> admit(Transaction pending) {
+    if (enqueue(pending)) {
+      return Mono.just(pending);
+    }
+    return repository
+        .compareAndSetStatus(pending.getId(), TransactionStatus.PENDING, TransactionStatus.FAILED)
+        .then(Mono.error(new AsyncQueueFullException(Messages.ASYNC_QUEUE_FULL)));
+  }
+
+  private boolean enqueue(Transaction pending) {
+    Sinks.EmitResult result = queue.tryEmitNext(pending);
+    if (result.isFailure()) {
+      log.warn("⚠️ No se pudo encolar la transferencia {}: {}", pending.getId(), result);
+    }
+    return result.isSuccess();
+  }
+
+  // Sin lugar en la cola queda PENDING hasta la recuperación del próximo arranque
+  private void enqueueOrDefer(Transaction pending) {
+    outstanding.incrementAndGet();
+    if (!enqueue(pending)) {
+      outstanding.decrementAndGet();
+    }
+  }
+
+  private Mono<Void> run(Transaction pending) {
+    // El cambio condicional evita que dos instancias procesen la misma transferencia
+    return repository
+        .compareAndSetStatus(pending.getId(), TransactionStatus.PENDING,
+            TransactionStatus.PROCESSING)
+        .flatMap(claimed -> sequencer
+            .submit(claimed.getFromAccountId(),
+                () -> Mono.defer(() -> strategy.process(toRequest(claimed)))
+                    .onErrorResume(ex -> Mono
+                        .just(factory.failure(TransactionType.TRANSFER, claimed.getFromAccountId(),
+                            claimed.getToAccountId(), claimed.getAmount(), ex.getMessage()))))
+            .map(result -> withIdentity(result, claimed)).flatMap(repository::update)
+            .onErrorResume(AccountBusyException.class, ex -> requeue(claimed)))
+        .doOnError(ex -> log.error("❌ La transferencia {} quedó sin resultado: {}", pending.getId(),
+            ex.getMessage(), ex))
+        .onErrorResume(ex -> Mono.empty()).doFinally(signal -> outstanding.decrementAndGet())
+        .then();
+  }
+
+  /**
+   * El carril de la cuenta estaba lleno: la transferencia no llegó a ejecutarse, así que vuelve a
+   * {@code PENDING} y se encola de nuevo tras {@code requeueDelay} en vez de quedar fallida.
+   */
+  private Mono<Transaction> requeue(Transaction claimed) {
+    return repository
+        .compareAndSetStatus(claimed.getId(), TransactionStatus.PROCESSING,
+            TransactionStatus.PENDING)
+        .delayElement(properties.getRequeueDelay()).doOnNext(this::enqueueOrDefer);
+  }
+
+  private static TransferRequest toRequest(Transaction tx) {
+    return new TransferRequest(tx.getFromAccountId(), tx.getToAccountId(), tx.getAmount());
+  }
+
+  // El resultado reemplaza al registro pendiente: conserva su id y su lugar en el historial
+  private static Transaction withIdentity(Transaction result, Transaction claimed) {
+    result.setId(claimed.getId());
+    result.setCreatedAt(claimed.getCreatedAt());
+    return result;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void recover() {
+    if (!properties.isRecoverOnStartup()) {
+      return;
+    }
+    repository.findByStatus(TransactionStatus.PENDING).doOnNext(this::enqueueOrDefer).count()
+        .subscribe(count -> {
+          if (count > 0) {
+            log.info("🔁 {} transferencia(s) pendiente(s) vueltas a encolar", count);
+          }
+        }, ex -> log.warn("⚠️ No se pudieron recuperar las transferencias pendientes: {}",
+            ex.getMessage()));
+    // Una PROCESSING tras un reinicio pudo haber retirado sin depositar: no se reintenta sola
+    repository.findByStatus(TransactionStatus.PROCESSING).count().filter(count -> count > 0)
+        .subscribe(count -> log.warn(
+            "⚠️ {} transferencia(s) quedaron en PROCESSING tras un reinicio y requieren revisión",
+            count), ex -> {
+            });
+  }
+
+  // Lo que siga en cola queda PENDING y se recupera en el próximo arranque
+  @PreDestroy
+  void shutdown() {
+    queue.tryEmitComplete();
+  }
+
+  int outstanding() {
+    return outstanding.get();
+  }
+}
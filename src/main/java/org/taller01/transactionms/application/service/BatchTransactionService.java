@@ -0,0 +1,157 @@
+package org.taller01.transactionms.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.factory.TransactionFactory;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.in.BatchTransactionUseCase;
+import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import org.taller01.transactionms.domain.strategy.TransactionStrategy;
+import org.taller01.transactionms.dto.request.BatchTransactionRequest;
+import org.taller01.transactionms.dto.request.DepositRequest;
+import org.taller01.transactionms.dto.request.TransferRequest;
+import org.taller01.transactionms.dto.request.WithdrawRequest;
+import org.taller01.transactionms.infrastructure.config.BatchProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchTransactionService implements BatchTransactionUseCase {
+
+  private final Map<TransactionType, TransactionStrategy<?>> strategyMap;
+  private final ITransactionRepository transactionRepository;
+  private final TransactionFactory factory;
+  private final BatchProperties properties;
+  private final AccountSequencer sequencer;
+
+  @Override
+  public Flux<Transaction> submit(Flux<BatchTransactionRequest> requests) {
+    // flatMapSequential acota la concurrencia hacia AccountMS sin perder el orden de entrada;
+    // cada resultado pasa a un escritor por bloques que no depende de quien lee la respuesta.
+    return Flux.defer(() -> {
+      ChunkWriter writer = new ChunkWriter();
+      return requests.flatMapSequential(item -> sequenced(item).flatMap(writer::submit),
+          properties.getConcurrency()).doFinally(signal -> writer.close());
+    });
+  }
+
+  /**
+   * Mismo carril por cuenta que las operaciones individuales. Un error de un elemento (carril
+   * lleno, elemento inválido) queda como su propio resultado FAILED: cortar el flujo dejaría sin
+   * respuesta a los elementos siguientes con los anteriores ya aplicados en AccountMS.
+   */
+  private Mono<Transaction> sequenced(BatchTransactionRequest item) {
+    String account =
+        item.type() == TransactionType.TRANSFER ? item.fromAccountId() : item.accountId();
+    return sequencer.submit(account, () -> Mono.defer(() -> process(item))).onErrorResume(ex -> {
+      log.warn("⚠️ Elemento del lote fallido ({}): {}", item.type(), ex.getMessage());
+      return Mono.just(failure(item, ex.getMessage()));
+    });
+  }
+
+  private Mono<Transaction> process(BatchTransactionRequest item) {
+    return switch (item.type()) {
+      case DEPOSIT -> item.accountId() == null ? incomplete(item)
+          : this.<DepositRequest>strategy(item.type())
+              .process(new DepositRequest(item.accountId(), item.amount()));
+      case WITHDRAWAL -> item.accountId() == null ? incomplete(item)
+          : this.<WithdrawRequest>strategy(item.type())
+              .process(new WithdrawRequest(item.accountId(), item.amount()));
+      case TRANSFER -> item.fromAccountId() == null || item.toAccountId() == null
+          ? incomplete(item)
+          : this.<TransferRequest>strategy(item.type()).process(
+              new TransferRequest(item.fromAccountId(), item.toAccountId(), item.amount()));
+    };
+  }
+
+  private Mono<Transaction> incomplete(BatchTransactionRequest item) {
+    return Mono.just(failure(item, Messages.BATCH_ITEM_INCOMPLETE));
+  }
+
+  private Transaction failure(BatchTransactionRequest item, String message) {
+    String from = item.type() == TransactionType.DEPOSIT ? null
+        : firstNonNull(item.fromAccountId(), item.accountId());
+    String to = item.type() == TransactionType.WITHDRAWAL ? null
+        : firstNonNull(item.toAccountId(), item.accountId());
+    return factory.failure(item.type(), from, to, item.amount(), message);
+  }
+
+  private static String firstNonNull(String first, String second) {
+    return first != null ? first : second;
+  }
+
+  /**
+   * Agrupa los resultados de un lote para insertarlos con un solo viaje a Mongo por bloque. El
+   * flujo de escritura se suscribe aparte, así que un resultado ya encolado se guarda aunque el
+   * cliente cancele; al cerrar se envía el bloque incompleto.
+   */
+  private final class ChunkWriter {
+
+    private final Sinks.Many<PendingWrite> queue;
+
+    ChunkWriter() {
+      // Los resultados llegan desde varios hilos a la vez. Cada submit espera su inserción, así
+      // que nunca hay más de concurrency pendientes
+      queue = Sinks.unsafe().many().unicast()
+          .onBackpressureBuffer(new ArrayBlockingQueue<>(properties.getConcurrency()));
+      queue.asFlux()
+          .bufferTimeout(properties.getInsertChunkSize(), properties.getMaxChunkDelay(), true)
+          .concatMap(this::flush).subscribe();
+    }
+
+    Mono<Transaction> submit(Transaction transaction) {
+      return Mono.create(sink -> {
+        PendingWrite write = new PendingWrite(transaction, sink);
+        Sinks.EmitResult result = queue.tryEmitNext(write);
+        if (result.isFailure()) {
+          // El movimiento ya se aplicó en AccountMS: un resultado que llega tras cerrar (o que no
+          // entra en la cola) no se descarta, se inserta solo
+          if (result != Sinks.EmitResult.FAIL_TERMINATED) {
+            log.warn("⚠️ Resultado del lote insertado fuera de bloque: {}", result);
+          }
+          flush(List.of(write)).subscribe();
+        }
+      });
+    }
+
+    void close() {
+      queue.tryEmitComplete();
+    }
+
+    private Mono<Void> flush(List<PendingWrite> chunk) {
+      List<Transaction> transactions = chunk.stream().map(PendingWrite::transaction).toList();
+      return transactionRepository.saveAll(transactions).collectList().doOnNext(saved -> {
+        for (int i = 0; i < chunk.size(); i++) {
+          chunk.get(i).sink().success(saved.get(i));
+        }
+      }).onErrorResume(ex -> {
+        // Los movimientos ya se aplicaron en AccountMS: se informan aunque no quedaran guardados
+        log.error("❌ No se registraron {} transacciones del lote: {}", chunk.size(),
+            ex.getMessage(), ex);
+        chunk.forEach(write -> write.sink().success(write.transaction()));
+        return Mono.empty();
+      }).then();
+    }
+  }
+
+  private record PendingWrite(Transaction transaction, MonoSink<Transaction> sink) {}
+
+  @SuppressWarnings("unchecked")
+  private <T> TransactionStrategy<T> strategy(TransactionType type) {
+    TransactionStrategy<?> strategy = strategyMap.get(type);
+    if (strategy == null) {
+      throw new IllegalArgumentException("Tipo de transacción no soportado: " + type);
+    }
+    return (TransactionStrategy<T>) strategy;
+  }
+}
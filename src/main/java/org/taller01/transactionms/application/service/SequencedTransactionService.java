@@ -0,0 +1,93 @@
+package org.taller01.transactionms.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.taller01.transactionms.domain.model.AccountSummary;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.StatsQuery;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionPage;
+import org.taller01.transactionms.domain.model.TransactionStats;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.in.TransactionUseCase;
+import org.taller01.transactionms.dto.request.DepositRequest;
+import org.taller01.transactionms.dto.request.TransferRequest;
+import org.taller01.transactionms.dto.request.WithdrawRequest;
+import org.taller01.transactionms.infrastructure.metrics.TransactionTimer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Pone cada operación en el carril de la cuenta que afecta (la de origen en transferencias), así
+ * las operaciones concurrentes sobre una cuenta no compiten por su saldo en AccountMS. Cada
+ * operación se mide como {@code transactionms.operation{type, status}}, espera en el carril
+ * incluida.
+ */
+@Primary
+@Service
+public class SequencedTransactionService implements TransactionUseCase {
+
+  private final TransactionService delegate;
+  private final AccountSequencer sequencer;
+  private final Map<TransactionType, TransactionTimer> timers =
+      new EnumMap<>(TransactionType.class);
+
+  public SequencedTransactionService(TransactionService delegate, AccountSequencer sequencer,
+      MeterRegistry registry) {
+    this.delegate = delegate;
+    this.sequencer = sequencer;
+    for (TransactionType type : TransactionType.values()) {
+      timers.put(type,
+          new TransactionTimer(registry, "transactionms.operation",
+              "Duración de una operación, incluida la espera en el carril de la cuenta",
+              Tags.of("type", type.name())));
+    }
+  }
+
+  @Override
+  public Mono<Transaction> deposit(DepositRequest request) {
+    return timers.get(TransactionType.DEPOSIT)
+        .time(sequencer.submit(request.accountId(), () -> delegate.deposit(request)));
+  }
+
+  @Override
+  public Mono<Transaction> withdraw(WithdrawRequest request) {
+    return timers.get(TransactionType.WITHDRAWAL)
+        .time(sequencer.submit(request.accountId(), () -> delegate.withdraw(request)));
+  }
+
+  @Override
+  public Mono<Transaction> transfer(TransferRequest request) {
+    return timers.get(TransactionType.TRANSFER)
+        .time(sequencer.submit(request.fromAccountId(), () -> delegate.transfer(request)));
+  }
+
+  @Override
+  public Flux<Transaction> getHistory(HistoryQuery query) {
+    return delegate.getHistory(query);
+  }
+
+  @Override
+  public Mono<TransactionPage> getHistoryPage(String accountId, String cursor, int size) {
+    return delegate.getHistoryPage(accountId, cursor, size);
+  }
+
+  @Override
+  public Mono<AccountSummary> getSummary(String accountId) {
+    return delegate.getSummary(accountId);
+  }
+
+  @Override
+  public Flux<TransactionStats> getStats(StatsQuery query) {
+    return delegate.getStats(query);
+  }
+
+  @Override
+  public Mono<Transaction> findById(String id) {
+    return delegate.findById(id);
+  }
+}
@@ -2,24 +2,44 @@ package org.taller01.transactionms.application.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.taller01.transactionms.domain.exception.InvalidRequestException;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.exception.ResourceNotFoundException;
+import org.taller01.transactionms.domain.model.AccountSummary;
+import org.taller01.transactionms.domain.model.HistoryCursor;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.StatsGranularity;
+import org.taller01.transactionms.domain.model.StatsQuery;
 import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionPage;
+import org.taller01.transactionms.domain.model.TransactionStats;
 import org.taller01.transactionms.domain.model.TransactionType;
 import org.taller01.transactionms.domain.port.in.TransactionUseCase;
+import org.taller01.transactionms.domain.port.out.IAccountSummaryRepository;
 import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import org.taller01.transactionms.domain.port.out.ITransactionStatsRepository;
 import org.taller01.transactionms.domain.strategy.TransactionStrategy;
 import org.taller01.transactionms.dto.request.DepositRequest;
 import org.taller01.transactionms.dto.request.TransferRequest;
 import org.taller01.transactionms.dto.request.WithdrawRequest;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class TransactionService implements TransactionUseCase {
 
+  static final int MAX_PAGE_SIZE = 100;
+  static final int DEFAULT_STATS_BUCKETS = 60;
+  static final int MAX_STATS_BUCKETS = 1440;
+
   private final Map<TransactionType, TransactionStrategy<?>> strategyMap;
   private final ITransactionRepository transactionRepository; // 👈 inyección directa
+  private final IAccountSummaryRepository summaryRepository;
+  private final ITransactionStatsRepository statsRepository;
 
   @SuppressWarnings("unchecked")
   private <T> TransactionStrategy<T> getStrategy(TransactionType type) {
@@ -46,9 +66,58 @@ public class TransactionService implements TransactionUseCase {
   }
 
   @Override
-  public Flux<Transaction> getHistory(String accountId) {
-    // ✅ directo desde el repo
-    return transactionRepository.findByAccountId(accountId);
+  public Flux<Transaction> getHistory(HistoryQuery query) {
+    // ✅ directo desde el repo: los filtros se resuelven en la consulta, no aquí
+    return transactionRepository.findHistory(query);
+  }
+
+  @Override
+  public Mono<TransactionPage> getHistoryPage(String accountId, String cursor, int size) {
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    HistoryCursor after = cursor == null || cursor.isBlank() ? null : HistoryCursor.decode(cursor);
+
+    // Se pide una fila de más solo para saber si existe una página siguiente
+    return transactionRepository.findPageByAccountId(accountId, after, pageSize + 1).collectList()
+        .map(rows -> toPage(rows, pageSize));
+  }
+
+  private TransactionPage toPage(List<Transaction> rows, int pageSize) {
+    if (rows.size() <= pageSize) {
+      return new TransactionPage(rows, null);
+    }
+    List<Transaction> items = rows.subList(0, pageSize);
+    return new TransactionPage(items, HistoryCursor.of(items.get(pageSize - 1)).encode());
+  }
+
+  @Override
+  public Mono<AccountSummary> getSummary(String accountId) {
+    return summaryRepository.findByAccountId(accountId)
+        .defaultIfEmpty(AccountSummary.empty(accountId));
+  }
+
+  @Override
+  public Flux<TransactionStats> getStats(StatsQuery query) {
+    StatsGranularity granularity =
+        query.granularity() == null ? StatsGranularity.HOUR : query.granularity();
+    long bucketMillis = granularity.size().toMillis();
+    // Sin rango: los últimos DEFAULT_STATS_BUCKETS buckets, incluido el que está en curso
+    Instant to = query.to() != null ? query.to()
+        : granularity.bucketStart(Instant.now()).plus(granularity.size());
+    Instant from = granularity.bucketStart(
+        query.from() != null ? query.from() : to.minusMillis(bucketMillis * DEFAULT_STATS_BUCKETS));
+    if (!from.isBefore(to)) {
+      return Flux.error(new InvalidRequestException(Messages.INVALID_HISTORY_RANGE));
+    }
+    if ((to.toEpochMilli() - from.toEpochMilli()) / bucketMillis > MAX_STATS_BUCKETS) {
+      return Flux
+          .error(new InvalidRequestException(Messages.INVALID_STATS_RANGE + MAX_STATS_BUCKETS));
+    }
+    return statsRepository.find(new StatsQuery(query.accountId(), granularity, from, to));
   }
-}
 
+  @Override
+  public Mono<Transaction> findById(String id) {
+    return transactionRepository.findById(id).switchIfEmpty(
+        Mono.error(() -> new ResourceNotFoundException(Messages.TRANSACTION_NOT_FOUND + id)));
+  }
+}
@@ -0,0 +1,7 @@
+package org.taller01.transactionms.domain.exception;
+
+public class AccountBusyException extends RuntimeException {
+  public AccountBusyException(String message) {
+    super(message);
+  }
+}
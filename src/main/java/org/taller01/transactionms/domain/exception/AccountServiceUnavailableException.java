@@ -0,0 +1,7 @@
+package org.taller01.transactionms.domain.exception;
+
+public class AccountServiceUnavailableException extends RuntimeException {
+  public AccountServiceUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package org.taller01.transactionms.domain.exception;
+
+public class AsyncQueueFullException extends RuntimeException {
+  public AsyncQueueFullException(String message) {
+    super(message);
+  }
+}
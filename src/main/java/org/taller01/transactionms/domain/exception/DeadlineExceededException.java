@@ -0,0 +1,7 @@
+package org.taller01.transactionms.domain.exception;
+
+public class DeadlineExceededException extends RuntimeException {
+  public DeadlineExceededException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package org.taller01.transactionms.domain.exception;
+
+public class IdempotencyConflictException extends RuntimeException {
+  public IdempotencyConflictException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,7 @@
+package org.taller01.transactionms.domain.exception;
+
+public class InvalidRequestException extends RuntimeException {
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+}
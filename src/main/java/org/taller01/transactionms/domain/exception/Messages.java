@@ -9,4 +9,43 @@ public final class Messages {
   public static final String TRANSFER_FAILED = "Error al realizar la transferencia";
   public static final String SAME_ACCOUNT_TRANSFER = "No se puede transferir a la misma cuenta";
   public static final String INSUFFICIENT_BALANCE = "Saldo insuficiente para la transferencia";
+  public static final String BATCH_ITEM_INCOMPLETE =
+      "Faltan las cuentas requeridas para el tipo de transacción";
+  public static final String ACCOUNT_BUSY =
+      "La cuenta tiene demasiadas operaciones pendientes, intente nuevamente";
+  public static final String IDEMPOTENCY_KEY_REUSED =
+      "La Idempotency-Key ya se usó con otra solicitud";
+  public static final String IDEMPOTENCY_IN_FLIGHT =
+      "La solicitud original con esta Idempotency-Key sigue en curso";
+  public static final String IDEMPOTENCY_FAILED_AFTER_WRITE =
+      "La solicitud original con esta Idempotency-Key falló después de modificar la cuenta; "
+          + "revise el historial antes de reintentar con otra clave";
+  public static final String IDEMPOTENCY_KEY_TOO_LONG =
+      "La Idempotency-Key no puede superar los 255 caracteres";
+  public static final String ACCOUNTMS_TIMEOUT = "AccountMS no respondió a tiempo";
+  public static final String ACCOUNTMS_CIRCUIT_OPEN =
+      "AccountMS no está disponible en este momento, intente nuevamente";
+  public static final String ACCOUNTMS_OVERLOADED =
+      "AccountMS está saturado, se rechazó la operación";
+  public static final String DEADLINE_EXCEEDED = "Se agotó el plazo de la solicitud";
+  public static final String ADMISSION_TOO_MANY =
+      "Demasiadas solicitudes en curso, intente nuevamente";
+  public static final String ADMISSION_OVERLOADED =
+      "El servicio está sobrecargado, intente nuevamente";
+  public static final String TRANSFER_PENDING = "Transferencia aceptada, pendiente de procesar";
+  public static final String ASYNC_QUEUE_FULL =
+      "Hay demasiadas transferencias pendientes, intente nuevamente";
+  public static final String WRITE_QUEUE_FULL =
+      "Hay demasiadas escrituras pendientes, intente nuevamente";
+  public static final String TRANSACTION_NOT_FOUND = "No existe la transacción ";
+  public static final String INVALID_HISTORY_RANGE =
+      "El inicio del rango (from) debe ser anterior al fin (to)";
+  public static final String INVALID_HISTORY_AMOUNT_RANGE =
+      "El monto mínimo no puede superar al máximo";
+  public static final String INVALID_HISTORY_LIMIT = "El límite debe ser mayor que cero";
+  public static final String INVALID_HISTORY_FIELD =
+      "Campo no disponible en el historial (fields): ";
+  public static final String INVALID_STATS_RANGE =
+      "El rango de estadísticas supera el máximo de buckets: ";
+  public static final String INVALID_CURSOR = "El cursor de paginación no es válido";
 }
@@ -0,0 +1,7 @@
+package org.taller01.transactionms.domain.exception;
+
+public class WriteQueueFullException extends RuntimeException {
+  public WriteQueueFullException(String message) {
+    super(message);
+  }
+}
@@ -1,22 +1,22 @@
 package org.taller01.transactionms.domain.factory;
 
 import org.springframework.stereotype.Component;
+import org.taller01.transactionms.domain.model.Money;
 import org.taller01.transactionms.domain.model.Transaction;
 import org.taller01.transactionms.domain.model.TransactionStatus;
 import org.taller01.transactionms.domain.model.TransactionType;
-import java.math.BigDecimal;
 import java.time.Instant;
 
 @Component
 public class TransactionFactory {
 
-  public Transaction success(TransactionType type, String fromId, String toId, BigDecimal amount,
+  public Transaction success(TransactionType type, String fromId, String toId, Money amount,
       String message) {
     return Transaction.builder().type(type).status(TransactionStatus.SUCCESS).fromAccountId(fromId)
         .toAccountId(toId).amount(amount).createdAt(Instant.now()).message(message).build();
   }
 
-  public Transaction failure(TransactionType type, String fromId, String toId, BigDecimal amount,
+  public Transaction failure(TransactionType type, String fromId, String toId, Money amount,
       String message) {
     return Transaction.builder().type(type).status(TransactionStatus.FAILED).fromAccountId(fromId)
         .toAccountId(toId).amount(amount).createdAt(Instant.now()).message(message).build();
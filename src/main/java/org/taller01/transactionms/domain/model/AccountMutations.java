@@ -0,0 +1,37 @@
+package org.taller01.transactionms.domain.model;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Marca si la solicitud en curso ya envió alguna escritura (depósito o retiro) a AccountMS. Viaja
+ * en el contexto de Reactor, como {@link RequestDeadline}: quien necesita saber si un error llegó
+ * antes o después de tocar saldos (la idempotencia) la pone, y el cliente HTTP la marca.
+ */
+public final class AccountMutations {
+
+  private static final String CONTEXT_KEY = AccountMutations.class.getName();
+
+  private volatile boolean attempted;
+
+  public static AccountMutations track() {
+    return new AccountMutations();
+  }
+
+  public Context writeTo(Context context) {
+    return context.put(CONTEXT_KEY, this);
+  }
+
+  /**
+   * Registra que sale una escritura hacia AccountMS. Se marca al enviarla y no al recibir la
+   * respuesta: una escritura sin respuesta (plazo, red) pudo haberse aplicado igual.
+   */
+  public static void markAttempted(ContextView context) {
+    context.<AccountMutations>getOrEmpty(CONTEXT_KEY)
+        .ifPresent(mutations -> mutations.attempted = true);
+  }
+
+  public boolean attempted() {
+    return attempted;
+  }
+}
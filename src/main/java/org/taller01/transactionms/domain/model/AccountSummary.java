@@ -0,0 +1,13 @@
+package org.taller01.transactionms.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Resumen de movimientos de una cuenta. Los montos solo suman transacciones SUCCESS; los conteos
+ * incluyen todos los estados.
+ */
+public record AccountSummary(String accountId,BigDecimal totalDeposited,BigDecimal totalWithdrawn,BigDecimal totalTransferredIn,BigDecimal totalTransferredOut,Map<TransactionStatus,Long>countsByStatus,Instant lastTransactionAt){
+
+public static AccountSummary empty(String accountId){return new AccountSummary(accountId,BigDecimal.ZERO,BigDecimal.ZERO,BigDecimal.ZERO,BigDecimal.ZERO,Map.of(),null);}}
@@ -0,0 +1,75 @@
+package org.taller01.transactionms.domain.model;
+
+import org.taller01.transactionms.domain.exception.InvalidRequestException;
+import org.taller01.transactionms.domain.exception.Messages;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Posición de la última transacción entregada en una página del historial. El orden es
+ * {@code (createdAt, id)} descendente, así que el par identifica la fila de forma única.
+ * <p>
+ * Para el cliente es un token opaco: solo debe reenviarlo tal cual en la siguiente petición.
+ */
+public final class HistoryCursor {
+
+  private static final char SEPARATOR = ':';
+
+  private final Instant createdAt;
+  private final String id;
+
+  public HistoryCursor(Instant createdAt, String id) {
+    this.createdAt = createdAt;
+    this.id = id;
+  }
+
+  public static HistoryCursor of(Transaction tx) {
+    return new HistoryCursor(tx.getCreatedAt(), tx.getId());
+  }
+
+  public Instant createdAt() {
+    return createdAt;
+  }
+
+  public String id() {
+    return id;
+  }
+
+  public String encode() {
+    String raw = createdAt.toEpochMilli() + String.valueOf(SEPARATOR) + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static HistoryCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int sep = raw.indexOf(SEPARATOR);
+      if (sep <= 0 || sep == raw.length() - 1) {
+        throw new InvalidRequestException(Messages.INVALID_CURSOR);
+      }
+      Instant createdAt = Instant.ofEpochMilli(Long.parseLong(raw.substring(0, sep)));
+      return new HistoryCursor(createdAt, raw.substring(sep + 1));
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidRequestException(Messages.INVALID_CURSOR);
+    }
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof HistoryCursor cursor && Objects.equals(createdAt, cursor.createdAt)
+        && Objects.equals(id, cursor.id);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(createdAt, id);
+  }
+
+  @Override
+  public String toString() {
+    return "HistoryCursor[createdAt=" + createdAt + ", id=" + id + "]";
+  }
+}
@@ -0,0 +1,137 @@
+package org.taller01.transactionms.domain.model;
+
+import org.taller01.transactionms.domain.exception.InvalidRequestException;
+import org.taller01.transactionms.domain.exception.Messages;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Filtros del historial de una cuenta. Todos son opcionales salvo la cuenta: {@code from} es
+ * inclusivo y {@code to} exclusivo sobre {@code createdAt}, los montos son inclusivos y los
+ * conjuntos vacíos no filtran. El resultado siempre va por {@code (createdAt, id)} descendente.
+ * {@code fields} limita los campos de cada transacción; vacío devuelve todos.
+ */
+public final class HistoryQuery {
+
+  private final String accountId;
+  private final Instant from;
+  private final Instant to;
+  private final Set<TransactionType> types;
+  private final Set<TransactionStatus> statuses;
+  private final Money minAmount;
+  private final Money maxAmount;
+  private final Integer limit;
+  private final Set<TransactionField> fields;
+
+  public HistoryQuery(String accountId, Instant from, Instant to, Set<TransactionType> types,
+      Set<TransactionStatus> statuses, Money minAmount, Money maxAmount, Integer limit,
+      Set<TransactionField> fields) {
+    if (from != null && to != null && !from.isBefore(to)) {
+      throw new InvalidRequestException(Messages.INVALID_HISTORY_RANGE);
+    }
+    if (minAmount != null && maxAmount != null && maxAmount.isLessThan(minAmount)) {
+      throw new InvalidRequestException(Messages.INVALID_HISTORY_AMOUNT_RANGE);
+    }
+    if (limit != null && limit <= 0) {
+      throw new InvalidRequestException(Messages.INVALID_HISTORY_LIMIT);
+    }
+    this.accountId = accountId;
+    this.from = from;
+    this.to = to;
+    this.types = types == null ? Set.of() : Set.copyOf(types);
+    this.statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+    this.minAmount = minAmount;
+    this.maxAmount = maxAmount;
+    this.limit = limit;
+    this.fields = fields == null ? Set.of() : Set.copyOf(fields);
+  }
+
+  public HistoryQuery(String accountId, Instant from, Instant to, Set<TransactionType> types,
+      Set<TransactionStatus> statuses, Money minAmount, Money maxAmount, Integer limit) {
+    this(accountId, from, to, types, statuses, minAmount, maxAmount, limit, null);
+  }
+
+  public static HistoryQuery forAccount(String accountId) {
+    return new HistoryQuery(accountId, null, null, null, null, null, null, null);
+  }
+
+  public String accountId() {
+    return accountId;
+  }
+
+  public Instant from() {
+    return from;
+  }
+
+  public Instant to() {
+    return to;
+  }
+
+  public Set<TransactionType> types() {
+    return types;
+  }
+
+  public Set<TransactionStatus> statuses() {
+    return statuses;
+  }
+
+  public Money minAmount() {
+    return minAmount;
+  }
+
+  public Money maxAmount() {
+    return maxAmount;
+  }
+
+  public Integer limit() {
+    return limit;
+  }
+
+  public Set<TransactionField> fields() {
+    return fields;
+  }
+
+  /** Misma semántica que la consulta en Mongo, para almacenes que filtran en memoria. */
+  public boolean matches(Transaction tx) {
+    Instant at = tx.getCreatedAt();
+    Money amount = tx.getAmount();
+    if (from != null && (at == null || at.isBefore(from))) {
+      return false;
+    }
+    if (to != null && (at == null || !at.isBefore(to))) {
+      return false;
+    }
+    if (!types.isEmpty() && !types.contains(tx.getType())) {
+      return false;
+    }
+    if (!statuses.isEmpty() && !statuses.contains(tx.getStatus())) {
+      return false;
+    }
+    if (minAmount != null && (amount == null || amount.isLessThan(minAmount))) {
+      return false;
+    }
+    return maxAmount == null || amount != null && !maxAmount.isLessThan(amount);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof HistoryQuery query && Objects.equals(accountId, query.accountId)
+        && Objects.equals(from, query.from) && Objects.equals(to, query.to)
+        && types.equals(query.types) && statuses.equals(query.statuses)
+        && Objects.equals(minAmount, query.minAmount) && Objects.equals(maxAmount, query.maxAmount)
+        && Objects.equals(limit, query.limit) && fields.equals(query.fields);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(accountId, from, to, types, statuses, minAmount, maxAmount, limit, fields);
+  }
+
+  @Override
+  public String toString() {
+    return "HistoryQuery[accountId=" + accountId + ", from=" + from + ", to=" + to + ", types="
+        + types + ", statuses=" + statuses + ", minAmount=" + minAmount + ", maxAmount=" + maxAmount
+        + ", limit=" + limit + ", fields=" + fields + "]";
+  }
+}
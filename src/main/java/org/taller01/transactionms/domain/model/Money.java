@@ -0,0 +1,194 @@
+package org.taller01.transactionms.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Monto con escala fija de {@link #SCALE} decimales guardado como {@code long} de unidades menores
+ * (centavos). Las operaciones son exactas y fallan con {@link ArithmeticException} ante desborde o
+ * si un valor trae más decimales de los representables, en vez de redondear en silencio.
+ */
+public final class Money implements Comparable<Money> {
+
+  public static final int SCALE = 2;
+  public static final Money ZERO = new Money(0);
+
+  private static final long UNIT = 100;
+
+  // Long.MAX_VALUE en centavos tiene 17 dígitos enteros; el resto lo valida longValueExact
+  private static final int MAX_INTEGER_DIGITS = 18;
+
+  private final long minorUnits;
+
+  private Money(long minorUnits) {
+    // Sin MIN_VALUE, negate y abs nunca desbordan
+    if (minorUnits == Long.MIN_VALUE) {
+      throw new ArithmeticException("Monto fuera de rango");
+    }
+    this.minorUnits = minorUnits;
+  }
+
+  public static Money ofMinor(long minorUnits) {
+    return new Money(minorUnits);
+  }
+
+  /**
+   * Rechaza antes de reescalar lo que no puede ser un monto: con notación exponencial un texto
+   * corto ({@code 1e99999999}) haría que {@code setScale} arme un número de millones de dígitos.
+   */
+  public static Money of(BigDecimal value) {
+    if (value.signum() == 0) {
+      return ZERO;
+    }
+    if (value.precision() - value.scale() > MAX_INTEGER_DIGITS) {
+      throw new ArithmeticException("Monto fuera de rango");
+    }
+    if (value.stripTrailingZeros().scale() > SCALE) {
+      throw new ArithmeticException("El monto admite como máximo " + SCALE + " decimales");
+    }
+    return new Money(
+        value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+  }
+
+  /**
+   * Lee la forma decimal ({@code "12"}, {@code "-0.5"}, {@code "10.50"}) sin pasar por
+   * {@link BigDecimal}; solo la notación exponencial usa el camino lento.
+   */
+  public static Money of(String text) {
+    int length = text.length();
+    int i = 0;
+    boolean negative = false;
+    if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+      negative = text.charAt(0) == '-';
+      i++;
+    }
+    long units = 0;
+    int decimals = -1;
+    boolean digits = false;
+    for (; i < length; i++) {
+      char c = text.charAt(i);
+      if (c == '.' && decimals < 0) {
+        decimals = 0;
+        continue;
+      }
+      if (c == 'e' || c == 'E') {
+        return of(new BigDecimal(text));
+      }
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("Monto inválido: " + text);
+      }
+      digits = true;
+      if (decimals >= SCALE) {
+        if (c != '0') {
+          throw new ArithmeticException("El monto admite como máximo " + SCALE + " decimales");
+        }
+        continue;
+      }
+      units = Math.addExact(Math.multiplyExact(units, 10), c - '0');
+      if (decimals >= 0) {
+        decimals++;
+      }
+    }
+    if (!digits) {
+      throw new NumberFormatException("Monto inválido: " + text);
+    }
+    for (int d = Math.max(decimals, 0); d < SCALE; d++) {
+      units = Math.multiplyExact(units, 10);
+    }
+    return new Money(negative ? -units : units);
+  }
+
+  /**
+   * Lectura tolerante para montos ya persistidos: antes de {@code Money} el monto era un
+   * {@link BigDecimal} sin escala fija, así que hay documentos con más de {@link #SCALE} decimales
+   * (p. ej. {@code "10.555"}). Se redondean con {@link RoundingMode#HALF_EVEN} en vez de fallar; el
+   * desborde sigue siendo error. Las entradas nuevas pasan por {@link #of(BigDecimal)}.
+   */
+  public static Money ofStored(BigDecimal value) {
+    // Por debajo de 10^-(SCALE+1) redondea a cero; evita reescalar exponentes enormes
+    if (value.signum() == 0 || value.precision() - value.scale() < -SCALE) {
+      return ZERO;
+    }
+    if (value.precision() - value.scale() > MAX_INTEGER_DIGITS) {
+      throw new ArithmeticException("Monto fuera de rango");
+    }
+    return new Money(
+        value.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+  }
+
+  /** Como {@link #ofStored(BigDecimal)}; la forma habitual de dos decimales va por el atajo. */
+  public static Money ofStored(String text) {
+    try {
+      return of(text);
+    } catch (ArithmeticException ex) {
+      return ofStored(new BigDecimal(text));
+    }
+  }
+
+  public long minorUnits() {
+    return minorUnits;
+  }
+
+  public Money plus(Money other) {
+    return new Money(Math.addExact(minorUnits, other.minorUnits));
+  }
+
+  public Money minus(Money other) {
+    return new Money(Math.subtractExact(minorUnits, other.minorUnits));
+  }
+
+  public Money negate() {
+    return new Money(-minorUnits);
+  }
+
+  public boolean isPositive() {
+    return minorUnits > 0;
+  }
+
+  public boolean isNegative() {
+    return minorUnits < 0;
+  }
+
+  public boolean isZero() {
+    return minorUnits == 0;
+  }
+
+  public boolean isLessThan(Money other) {
+    return minorUnits < other.minorUnits;
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(minorUnits, other.minorUnits);
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(minorUnits, SCALE);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof Money money && minorUnits == money.minorUnits;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(minorUnits);
+  }
+
+  /** Forma decimal plana con {@link #SCALE} decimales, p. ej. {@code "-12.05"}. */
+  @Override
+  public String toString() {
+    long abs = Math.abs(minorUnits);
+    long fraction = abs % UNIT;
+    StringBuilder text = new StringBuilder(24);
+    if (minorUnits < 0) {
+      text.append('-');
+    }
+    text.append(abs / UNIT).append('.');
+    if (fraction < 10) {
+      text.append('0');
+    }
+    return text.append(fraction).toString();
+  }
+}
@@ -0,0 +1,94 @@
+package org.taller01.transactionms.domain.model;
+
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
+import org.taller01.transactionms.domain.exception.Messages;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Instante límite de la solicitud en curso (reloj monotónico). Viaja en el contexto de Reactor para
+ * que cada llamada hacia abajo use solo el tiempo que le queda al llamador.
+ */
+public final class RequestDeadline {
+
+  /** Header entrante y saliente: milisegundos que le quedan a la solicitud. */
+  public static final String HEADER = "X-Request-Timeout";
+
+  private static final String CONTEXT_KEY = RequestDeadline.class.getName();
+
+  private final long deadlineNanos;
+
+  public RequestDeadline(long deadlineNanos) {
+    this.deadlineNanos = deadlineNanos;
+  }
+
+  public static RequestDeadline after(Duration timeout) {
+    return new RequestDeadline(System.nanoTime() + timeout.toNanos());
+  }
+
+  public long deadlineNanos() {
+    return deadlineNanos;
+  }
+
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+  }
+
+  public boolean isExpired() {
+    return deadlineNanos - System.nanoTime() <= 0;
+  }
+
+  public Context writeTo(Context context) {
+    return context.put(CONTEXT_KEY, this);
+  }
+
+  public static Optional<RequestDeadline> from(ContextView context) {
+    return context.getOrEmpty(CONTEXT_KEY);
+  }
+
+  /**
+   * Quita el plazo: lo que sigue debe completarse aunque el llamador ya no espere (por ejemplo, el
+   * depósito de una transferencia cuyo retiro ya se aplicó).
+   */
+  public static Context clear(Context context) {
+    return context.delete(CONTEXT_KEY);
+  }
+
+  /**
+   * Corta {@code call} con el plazo de {@code context}, si lo hay, con
+   * {@link DeadlineExceededException}. Sirve para aplicar el plazo de cada suscriptor por fuera de
+   * una petición compartida que corre sin plazo.
+   */
+  public static <T> Mono<T> within(Mono<T> call, ContextView context) {
+    return from(context).map(deadline -> deadline.bound(call)).orElse(call);
+  }
+
+  private <T> Mono<T> bound(Mono<T> call) {
+    if (isExpired()) {
+      return expired();
+    }
+    return call.timeout(remaining(), expired());
+  }
+
+  private static <T> Mono<T> expired() {
+    return Mono.error(() -> new DeadlineExceededException(Messages.DEADLINE_EXCEEDED));
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof RequestDeadline deadline && deadlineNanos == deadline.deadlineNanos;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(deadlineNanos);
+  }
+
+  @Override
+  public String toString() {
+    return "RequestDeadline[deadlineNanos=" + deadlineNanos + "]";
+  }
+}
@@ -0,0 +1,145 @@
+package org.taller01.transactionms.domain.model;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Desglose de tiempos de la solicitud en curso. Viaja en el contexto de Reactor, como
+ * {@link RequestDeadline}, y cada fase suma su duración en un arreglo fijo: registrar no reserva
+ * memoria más allá del objeto de la solicitud. Una fase que se repite (un lote) acumula duración y
+ * cantidad.
+ */
+public final class RequestTimings {
+
+  /** Header de respuesta con el desglose. */
+  public static final String HEADER = "Server-Timing";
+
+  private static final String CONTEXT_KEY = RequestTimings.class.getName();
+
+  public enum Phase {
+    GET_ACCOUNT("account-balance"), GET_ACCOUNT_METADATA("account-metadata"), WITHDRAW(
+        "withdraw"), DEPOSIT("deposit"), SAVE("db-save"), SERIALIZE("serialize");
+
+    private final String metric;
+
+    Phase(String metric) {
+      this.metric = metric;
+    }
+
+    public String metric() {
+      return metric;
+    }
+  }
+
+  private static final Phase[] PHASES = Phase.values();
+
+  private final long startNanos;
+  // Duración en [2 * ordinal] y cantidad en [2 * ordinal + 1]
+  private final AtomicLongArray phases = new AtomicLongArray(PHASES.length * 2);
+  private volatile long handledNanos;
+  private volatile long committedNanos;
+
+  private RequestTimings(long startNanos) {
+    this.startNanos = startNanos;
+  }
+
+  public static RequestTimings start() {
+    return new RequestTimings(System.nanoTime());
+  }
+
+  public Context writeTo(Context context) {
+    return context.put(CONTEXT_KEY, this);
+  }
+
+  public static RequestTimings from(ContextView context) {
+    return context.getOrDefault(CONTEXT_KEY, null);
+  }
+
+  /**
+   * Mide {@code call} como {@code phase} si la solicitud lleva desglose; si no, la devuelve tal
+   * cual.
+   */
+  public static <T> Mono<T> time(Phase phase, Mono<T> call) {
+    return Mono.deferContextual(ctx -> {
+      RequestTimings timings = from(ctx);
+      if (timings == null) {
+        return call;
+      }
+      long start = System.nanoTime();
+      return call.doFinally(signal -> timings.record(phase, System.nanoTime() - start));
+    });
+  }
+
+  /**
+   * Marca el momento en que el controlador entrega su resultado; lo que falta hasta enviar los
+   * headers es serialización.
+   */
+  public static <T> Mono<T> handled(Mono<T> result) {
+    return result.doOnEach(signal -> {
+      if (signal.isOnNext()) {
+        RequestTimings timings = from(signal.getContextView());
+        if (timings != null) {
+          timings.handledNanos = System.nanoTime();
+        }
+      }
+    });
+  }
+
+  public void record(Phase phase, long nanos) {
+    int index = phase.ordinal() * 2;
+    phases.addAndGet(index, nanos);
+    phases.incrementAndGet(index + 1);
+  }
+
+  /** Se llama justo antes de enviar los headers. */
+  public void committed() {
+    long now = System.nanoTime();
+    committedNanos = now;
+    long handled = handledNanos;
+    if (handled != 0) {
+      record(Phase.SERIALIZE, now - handled);
+    }
+  }
+
+  public long elapsedNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  /** Valor del header {@code Server-Timing}: fases registradas y total hasta el envío. */
+  public String serverTiming() {
+    StringBuilder header = new StringBuilder(128);
+    for (Phase phase : PHASES) {
+      int index = phase.ordinal() * 2;
+      if (phases.get(index + 1) > 0) {
+        millis(header.append(phase.metric()).append(";dur="), phases.get(index)).append(", ");
+      }
+    }
+    long end = committedNanos != 0 ? committedNanos : System.nanoTime();
+    return millis(header.append("total;dur="), end - startNanos).toString();
+  }
+
+  /** Desglose completo para el log: incluye cuántas veces se repitió cada fase. */
+  public String describe() {
+    StringBuilder text = new StringBuilder(160);
+    for (Phase phase : PHASES) {
+      int index = phase.ordinal() * 2;
+      long count = phases.get(index + 1);
+      if (count > 0) {
+        millis(text.append(phase.metric()).append('='), phases.get(index)).append("ms");
+        if (count > 1) {
+          text.append(" (x").append(count).append(')');
+        }
+        text.append(", ");
+      }
+    }
+    return millis(text.append("total="), elapsedNanos()).append("ms").toString();
+  }
+
+  // Milisegundos con un decimal, sin String.format
+  private static StringBuilder millis(StringBuilder out, long nanos) {
+    long tenths = Math.max(0, nanos) / 100_000;
+    return out.append(tenths / 10).append('.').append(tenths % 10);
+  }
+}
@@ -0,0 +1,26 @@
+package org.taller01.transactionms.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Ancho de los buckets de estadísticas. Los límites se calculan en UTC.
+ */
+public enum StatsGranularity {
+  MINUTE(ChronoUnit.MINUTES), HOUR(ChronoUnit.HOURS), DAY(ChronoUnit.DAYS);
+
+  private final ChronoUnit unit;
+
+  StatsGranularity(ChronoUnit unit) {
+    this.unit = unit;
+  }
+
+  public Instant bucketStart(Instant instant) {
+    return instant.truncatedTo(unit);
+  }
+
+  public Duration size() {
+    return unit.getDuration();
+  }
+}
@@ -0,0 +1,9 @@
+package org.taller01.transactionms.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Buckets de {@code granularity} con inicio en {@code [from, to)}. Sin cuenta son los globales; sin
+ * rango, el servicio usa los más recientes.
+ */
+public record StatsQuery(String accountId,StatsGranularity granularity,Instant from,Instant to){}
@@ -1,7 +1,6 @@
 package org.taller01.transactionms.domain.model;
 
 import lombok.*;
-import java.math.BigDecimal;
 import java.time.Instant;
 
 /**
@@ -17,7 +16,7 @@ public class Transaction {
   private TransactionStatus status;
   private String fromAccountId;
   private String toAccountId;
-  private BigDecimal amount;
+  private Money amount;
   private Instant createdAt;
   private String message;
 }
@@ -0,0 +1,65 @@
+package org.taller01.transactionms.domain.model;
+
+import org.taller01.transactionms.domain.exception.InvalidRequestException;
+import org.taller01.transactionms.domain.exception.Messages;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Campos de una transacción que se pueden pedir por separado en el historial. El orden de
+ * declaración es el de la respuesta completa.
+ */
+public enum TransactionField {
+  ID("id", Transaction::getId), TYPE("type", Transaction::getType), STATUS("status",
+      Transaction::getStatus), FROM_ACCOUNT_ID("fromAccountId",
+          Transaction::getFromAccountId), TO_ACCOUNT_ID("toAccountId",
+              Transaction::getToAccountId), AMOUNT("amount", Transaction::getAmount), CREATED_AT(
+                  "createdAt",
+                  Transaction::getCreatedAt), MESSAGE("message", Transaction::getMessage);
+
+  private final String property;
+  private final Function<Transaction, Object> getter;
+
+  TransactionField(String property, Function<Transaction, Object> getter) {
+    this.property = property;
+    this.getter = getter;
+  }
+
+  /** Nombre de la propiedad en {@link Transaction} y en la respuesta. */
+  public String property() {
+    return property;
+  }
+
+  public Object valueOf(Transaction transaction) {
+    return getter.apply(transaction);
+  }
+
+  /**
+   * Convierte nombres de propiedad ({@code amount}, {@code createdAt}); vacío o null es "todos".
+   */
+  public static Set<TransactionField> fromProperties(Collection<String> properties) {
+    EnumSet<TransactionField> fields = EnumSet.noneOf(TransactionField.class);
+    if (properties == null) {
+      return fields;
+    }
+    for (String property : properties) {
+      String name = property.trim();
+      if (name.isEmpty()) {
+        continue;
+      }
+      fields.add(forProperty(name));
+    }
+    return fields;
+  }
+
+  private static TransactionField forProperty(String property) {
+    for (TransactionField field : values()) {
+      if (field.property.equals(property)) {
+        return field;
+      }
+    }
+    throw new InvalidRequestException(Messages.INVALID_HISTORY_FIELD + property);
+  }
+}
@@ -0,0 +1,8 @@
+package org.taller01.transactionms.domain.model;
+
+import java.util.List;
+
+/**
+ * Página del historial. {@code nextCursor} es {@code null} cuando no quedan más transacciones.
+ */
+public record TransactionPage(List<Transaction>items,String nextCursor){}
@@ -0,0 +1,11 @@
+package org.taller01.transactionms.domain.model;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Un bucket de estadísticas: cantidad y suma de montos por tipo y estado de las transacciones
+ * creadas entre {@code start} y {@code start + granularity}. {@code accountId} es {@code null} en
+ * los buckets globales.
+ */
+public record TransactionStats(String accountId,StatsGranularity granularity,Instant start,Map<TransactionType,Map<TransactionStatus,Long>>counts,Map<TransactionType,Map<TransactionStatus,Money>>amounts){}
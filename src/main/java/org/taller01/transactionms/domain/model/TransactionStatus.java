@@ -1,5 +1,12 @@
 package org.taller01.transactionms.domain.model;
 
 public enum TransactionStatus {
-  SUCCESS, FAILED
+  /** Transferencia asíncrona aceptada y guardada, aún sin procesar. */
+  PENDING,
+  /** Un worker tomó la transferencia y está operando en AccountMS. */
+  PROCESSING, SUCCESS, FAILED;
+
+  public boolean isTerminal() {
+    return this == SUCCESS || this == FAILED;
+  }
 }
@@ -0,0 +1,13 @@
+package org.taller01.transactionms.domain.port.in;
+
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.dto.request.TransferRequest;
+import reactor.core.publisher.Mono;
+
+public interface AsyncTransferUseCase {
+  /**
+   * Guarda la transferencia como {@code PENDING} y la deja en cola; el resultado se consulta luego
+   * por id.
+   */
+  Mono<Transaction> accept(TransferRequest request);
+}
@@ -0,0 +1,13 @@
+package org.taller01.transactionms.domain.port.in;
+
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.dto.request.BatchTransactionRequest;
+import reactor.core.publisher.Flux;
+
+public interface BatchTransactionUseCase {
+  /**
+   * Procesa cada elemento con su estrategia y devuelve las transacciones persistidas en el mismo
+   * orden de entrada.
+   */
+  Flux<Transaction> submit(Flux<BatchTransactionRequest> requests);
+}
@@ -1,6 +1,11 @@
 package org.taller01.transactionms.domain.port.in;
 
+import org.taller01.transactionms.domain.model.AccountSummary;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.StatsQuery;
 import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionPage;
+import org.taller01.transactionms.domain.model.TransactionStats;
 import org.taller01.transactionms.dto.request.DepositRequest;
 import org.taller01.transactionms.dto.request.WithdrawRequest;
 import org.taller01.transactionms.dto.request.TransferRequest;
@@ -14,5 +19,13 @@ public interface TransactionUseCase {
 
   Mono<Transaction> transfer(TransferRequest request);
 
-  Flux<Transaction> getHistory(String accountId);
+  Flux<Transaction> getHistory(HistoryQuery query);
+
+  Mono<TransactionPage> getHistoryPage(String accountId, String cursor, int size);
+
+  Mono<AccountSummary> getSummary(String accountId);
+
+  Flux<TransactionStats> getStats(StatsQuery query);
+
+  Mono<Transaction> findById(String id);
 }
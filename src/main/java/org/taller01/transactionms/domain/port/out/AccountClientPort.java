@@ -1,13 +1,29 @@
 package org.taller01.transactionms.domain.port.out;
 
+import org.taller01.transactionms.domain.model.Money;
 import org.taller01.transactionms.infrastructure.external.account.AccountResponse;
 import reactor.core.publisher.Mono;
-import java.math.BigDecimal;
 
 public interface AccountClientPort {
-  Mono<Void> deposit(String accountId, BigDecimal amount);
+  Mono<Void> deposit(String accountId, Money amount);
 
-  Mono<Void> withdraw(String accountId, BigDecimal amount);
+  Mono<Void> withdraw(String accountId, Money amount);
+
+  /**
+   * Depósito que completa una transferencia con el retiro ya aplicado. El dinero ya salió de la
+   * cuenta origen, así que las protecciones locales (límite, circuito, plazo) no deben rechazarlo.
+   */
+  default Mono<Void> settleDeposit(String accountId, Money amount) {
+    return deposit(accountId, amount);
+  }
 
   Mono<AccountResponse> getAccount(String accountId);
+
+  /**
+   * Datos de la cuenta para validar existencia, tipo o cliente. Puede venir de caché, así que el
+   * saldo de la respuesta no debe usarse para decidir nada.
+   */
+  default Mono<AccountResponse> getAccountMetadata(String accountId) {
+    return getAccount(accountId);
+  }
 }
@@ -0,0 +1,19 @@
+package org.taller01.transactionms.domain.port.out;
+
+import org.taller01.transactionms.domain.model.AccountSummary;
+import org.taller01.transactionms.domain.model.Transaction;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+public interface IAccountSummaryRepository {
+
+  /**
+   * Suma las transacciones ya guardadas al resumen de cada cuenta involucrada.
+   */
+  Mono<Void> apply(List<Transaction> transactions);
+
+  /**
+   * Resumen de la cuenta; vacío si todavía no tiene transacciones registradas.
+   */
+  Mono<AccountSummary> findByAccountId(String accountId);
+}
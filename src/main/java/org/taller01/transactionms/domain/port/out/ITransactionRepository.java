@@ -1,11 +1,46 @@
 package org.taller01.transactionms.domain.port.out;
 
+import org.taller01.transactionms.domain.model.HistoryCursor;
+import org.taller01.transactionms.domain.model.HistoryQuery;
 import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 
 public interface ITransactionRepository {
   Mono<Transaction> save(Transaction transaction);
 
-  Flux<Transaction> findByAccountId(String accountId);
+  /**
+   * Inserta las transacciones en un solo viaje y las devuelve en el mismo orden. Un elemento
+   * rechazado no impide guardar los demás: se registra en el log y se devuelve sin id.
+   */
+  Flux<Transaction> saveAll(List<Transaction> transactions);
+
+  /**
+   * Transacciones de la cuenta que cumplen los filtros, ordenadas por {@code (createdAt, id)}
+   * descendente.
+   */
+  Flux<Transaction> findHistory(HistoryQuery query);
+
+  /**
+   * Transacciones de la cuenta ordenadas por {@code (createdAt, id)} descendente, empezando justo
+   * después de {@code after} (o desde la más reciente si es {@code null}).
+   */
+  Flux<Transaction> findPageByAccountId(String accountId, HistoryCursor after, int limit);
+
+  Mono<Transaction> findById(String id);
+
+  Flux<Transaction> findByStatus(TransactionStatus status);
+
+  /**
+   * Cambia el estado solo si sigue siendo {@code expected}; vacío si otro ya lo cambió.
+   */
+  Mono<Transaction> compareAndSetStatus(String id, TransactionStatus expected,
+      TransactionStatus status);
+
+  /**
+   * Reemplaza una transacción ya guardada (mismo id) con su resultado.
+   */
+  Mono<Transaction> update(Transaction transaction);
 }
@@ -0,0 +1,22 @@
+package org.taller01.transactionms.domain.port.out;
+
+import org.taller01.transactionms.domain.model.StatsQuery;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStats;
+import reactor.core.publisher.Flux;
+import java.util.List;
+
+public interface ITransactionStatsRepository {
+
+  /**
+   * Encola las transacciones ya guardadas para sumarlas a sus buckets. No espera a Mongo: los
+   * buckets se escriben en segundo plano, agrupados.
+   */
+  void record(List<Transaction> transactions);
+
+  /**
+   * Buckets existentes en el rango, ordenados por inicio; los intervalos sin transacciones no
+   * aparecen.
+   */
+  Flux<TransactionStats> find(StatsQuery query);
+}
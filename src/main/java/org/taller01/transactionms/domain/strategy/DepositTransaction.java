@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
 import org.taller01.transactionms.domain.exception.Messages;
 import org.taller01.transactionms.dto.request.DepositRequest;
 import org.taller01.transactionms.domain.model.Transaction;
@@ -29,13 +30,16 @@ public class DepositTransaction implements TransactionStrategy<DepositRequest> {
 
   @Override
   public Mono<Transaction> execute(DepositRequest req) {
-    return accountClient.deposit(req.accountId(), req.amount()).then(repo.save(factory.success( // 👈
-                                                                                                // cambiamos
-                                                                                                // flatMap
-                                                                                                // ->
-                                                                                                // then
-        TransactionType.DEPOSIT, null, req.accountId(), req.amount(), Messages.DEPOSIT_SUCCESS)))
-        .onErrorResume(ex -> {
+    return process(req).flatMap(repo::save);
+  }
+
+  @Override
+  public Mono<Transaction> process(DepositRequest req) {
+    return accountClient.deposit(req.accountId(), req.amount())
+        .then(Mono.fromSupplier(() -> factory.success(TransactionType.DEPOSIT, null,
+            req.accountId(), req.amount(), Messages.DEPOSIT_SUCCESS)))
+        // Plazo vencido: el llamador ya no espera, no se registra nada
+        .onErrorResume(ex -> !(ex instanceof DeadlineExceededException), ex -> {
           if (ex instanceof WebClientResponseException wcre) {
             int statusCode = wcre.getStatusCode().value();
             String body = wcre.getResponseBodyAsString();
@@ -43,14 +47,14 @@ public class DepositTransaction implements TransactionStrategy<DepositRequest> {
             log.error("❌ Error en AccountMS al depositar en cuenta {}: {} - {}", req.accountId(),
                 statusCode, body, wcre);
 
-            return repo.save(factory.failure(TransactionType.DEPOSIT, null, req.accountId(),
+            return Mono.just(factory.failure(TransactionType.DEPOSIT, null, req.accountId(),
                 req.amount(), "Error en AccountMS: " + statusCode + " - " + body));
           }
 
           log.error("⚠️ Error inesperado al depositar en cuenta {}: {}", req.accountId(),
               ex.getMessage(), ex);
 
-          return repo.save(factory.failure(TransactionType.DEPOSIT, null, req.accountId(),
+          return Mono.just(factory.failure(TransactionType.DEPOSIT, null, req.accountId(),
               req.amount(), ex.getMessage()));
         });
   }
@@ -7,5 +7,14 @@ import reactor.core.publisher.Mono;
 public interface TransactionStrategy<T> {
   TransactionType getType();
 
+  /**
+   * Aplica la operación y persiste la transacción resultante.
+   */
   Mono<Transaction> execute(T request);
+
+  /**
+   * Aplica la operación en AccountMS y devuelve la transacción resultante (exitosa o fallida) sin
+   * persistirla, para que el llamador pueda guardarla en lote.
+   */
+  Mono<Transaction> process(T request);
 }
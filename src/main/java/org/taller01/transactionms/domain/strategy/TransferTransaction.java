@@ -4,8 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
 import org.taller01.transactionms.domain.exception.Messages;
 import org.taller01.transactionms.dto.request.TransferRequest;
+import org.taller01.transactionms.domain.model.RequestDeadline;
 import org.taller01.transactionms.domain.model.Transaction;
 import org.taller01.transactionms.domain.model.TransactionType;
 import org.taller01.transactionms.domain.factory.TransactionFactory;
@@ -29,27 +31,34 @@ public class TransferTransaction implements TransactionStrategy<TransferRequest>
 
   @Override
   public Mono<Transaction> execute(TransferRequest req) {
+    return process(req).flatMap(repo::save);
+  }
+
+  @Override
+  public Mono<Transaction> process(TransferRequest req) {
     // Validación temprana: misma cuenta
     if (req.fromAccountId().equals(req.toAccountId())) {
-      Transaction tx = factory.failure(TransactionType.TRANSFER, req.fromAccountId(),
-          req.toAccountId(), req.amount(), Messages.SAME_ACCOUNT_TRANSFER);
-      return repo.save(tx);
+      return Mono.just(factory.failure(TransactionType.TRANSFER, req.fromAccountId(),
+          req.toAccountId(), req.amount(), Messages.SAME_ACCOUNT_TRANSFER));
     }
 
     return Mono.zip(accountClient.getAccount(req.fromAccountId()),
-        accountClient.getAccount(req.toAccountId())).flatMap(tuple -> {
+        accountClient.getAccountMetadata(req.toAccountId())).flatMap(tuple -> {
           var from = tuple.getT1();
           var amount = req.amount();
 
-          if (from.balance().compareTo(amount) < 0) {
-            return repo.save(factory.failure(TransactionType.TRANSFER, req.fromAccountId(),
+          if (from.balance().isLessThan(amount)) {
+            return Mono.just(factory.failure(TransactionType.TRANSFER, req.fromAccountId(),
                 req.toAccountId(), amount, Messages.INSUFFICIENT_BALANCE));
           }
 
+          // Con el retiro aplicado el depósito debe completarse aunque venza el plazo o AccountMS
+          // esté saturado
           return accountClient.withdraw(req.fromAccountId(), amount)
-              .then(accountClient.deposit(req.toAccountId(), amount))
-              .then(repo.save(factory.success(TransactionType.TRANSFER, req.fromAccountId(),
-                  req.toAccountId(), amount, Messages.TRANSFER_SUCCESS)));
+              .then(accountClient.settleDeposit(req.toAccountId(), amount)
+                  .contextWrite(RequestDeadline::clear))
+              .then(Mono.fromSupplier(() -> factory.success(TransactionType.TRANSFER,
+                  req.fromAccountId(), req.toAccountId(), amount, Messages.TRANSFER_SUCCESS)));
         }).onErrorResume(WebClientResponseException.class, ex -> {
           int statusCode = ex.getStatusCode().value();
           String body = ex.getResponseBodyAsString();
@@ -57,13 +66,13 @@ public class TransferTransaction implements TransactionStrategy<TransferRequest>
           log.error("❌ Error en AccountMS al transferir de {} a {}: {} - {}", req.fromAccountId(),
               req.toAccountId(), statusCode, body, ex);
 
-          return repo.save(factory.failure(TransactionType.TRANSFER, req.fromAccountId(),
+          return Mono.just(factory.failure(TransactionType.TRANSFER, req.fromAccountId(),
               req.toAccountId(), req.amount(), "Error en AccountMS: " + statusCode + " - " + body));
-        }).onErrorResume(e -> {
+        }).onErrorResume(e -> !(e instanceof DeadlineExceededException), e -> {
           log.error("⚠️ Error inesperado al transferir de {} a {}: {}", req.fromAccountId(),
               req.toAccountId(), e.getMessage(), e);
 
-          return repo.save(factory.failure(TransactionType.TRANSFER, req.fromAccountId(),
+          return Mono.just(factory.failure(TransactionType.TRANSFER, req.fromAccountId(),
               req.toAccountId(), req.amount(), e.getMessage()));
         });
   }
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
 import org.taller01.transactionms.domain.exception.Messages;
 import org.taller01.transactionms.dto.request.WithdrawRequest;
 import org.taller01.transactionms.domain.model.Transaction;
@@ -29,9 +30,14 @@ public class WithdrawTransaction implements TransactionStrategy<WithdrawRequest>
 
   @Override
   public Mono<Transaction> execute(WithdrawRequest req) {
+    return process(req).flatMap(repo::save);
+  }
+
+  @Override
+  public Mono<Transaction> process(WithdrawRequest req) {
     return accountClient.withdraw(req.accountId(), req.amount())
-        .then(repo.save(factory.success(TransactionType.WITHDRAWAL, req.accountId(), null,
-            req.amount(), Messages.WITHDRAW_SUCCESS)))
+        .then(Mono.fromSupplier(() -> factory.success(TransactionType.WITHDRAWAL, req.accountId(),
+            null, req.amount(), Messages.WITHDRAW_SUCCESS)))
         .onErrorResume(WebClientResponseException.class, ex -> {
           int statusCode = ex.getStatusCode().value();
           String body = ex.getResponseBodyAsString();
@@ -39,13 +45,13 @@ public class WithdrawTransaction implements TransactionStrategy<WithdrawRequest>
           log.error("❌ Error en AccountMS al retirar de cuenta {}: {} - {}", req.accountId(),
               statusCode, body, ex);
 
-          return repo.save(factory.failure(TransactionType.WITHDRAWAL, req.accountId(), null,
+          return Mono.just(factory.failure(TransactionType.WITHDRAWAL, req.accountId(), null,
               req.amount(), "Error en AccountMS: " + statusCode + " - " + body));
-        }).onErrorResume(e -> {
+        }).onErrorResume(e -> !(e instanceof DeadlineExceededException), e -> {
           log.error("⚠️ Error inesperado al retirar de cuenta {}: {}", req.accountId(),
               e.getMessage(), e);
 
-          return repo.save(factory.failure(TransactionType.WITHDRAWAL, req.accountId(), null,
+          return Mono.just(factory.failure(TransactionType.WITHDRAWAL, req.accountId(), null,
               req.amount(), e.getMessage()));
         });
   }
@@ -0,0 +1,12 @@
+package org.taller01.transactionms.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.TransactionType;
+
+/**
+ * Elemento de un lote. {@code accountId} aplica a depósitos y retiros; {@code fromAccountId} y
+ * {@code toAccountId} a transferencias.
+ */
+public record BatchTransactionRequest(@NotNull TransactionType type,String accountId,String fromAccountId,String toAccountId,@NotNull @Positive Money amount){}
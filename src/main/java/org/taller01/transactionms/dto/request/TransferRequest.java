@@ -3,6 +3,6 @@ package org.taller01.transactionms.dto.request;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
-import java.math.BigDecimal;
+import org.taller01.transactionms.domain.model.Money;
 
-public record TransferRequest(@NotBlank String fromAccountId,@NotBlank String toAccountId,@NotNull @Positive BigDecimal amount){}
+public record TransferRequest(@NotBlank String fromAccountId,@NotBlank String toAccountId,@NotNull @Positive Money amount){}
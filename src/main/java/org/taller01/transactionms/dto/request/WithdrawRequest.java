@@ -3,6 +3,6 @@ package org.taller01.transactionms.dto.request;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
-import java.math.BigDecimal;
+import org.taller01.transactionms.domain.model.Money;
 
-public record WithdrawRequest(@NotBlank String accountId,@NotNull @Positive BigDecimal amount){}
+public record WithdrawRequest(@NotBlank String accountId,@NotNull @Positive Money amount){}
@@ -0,0 +1,21 @@
+package org.taller01.transactionms.dto.response;
+
+import lombok.*;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountSummaryResponse {
+  private String accountId;
+  private BigDecimal totalDeposited;
+  private BigDecimal totalWithdrawn;
+  private BigDecimal totalTransferredIn;
+  private BigDecimal totalTransferredOut;
+  private Map<TransactionStatus, Long> countsByStatus;
+  private Instant lastTransactionAt;
+}
@@ -0,0 +1,13 @@
+package org.taller01.transactionms.dto.response;
+
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionPageResponse {
+  private List<TransactionResponse> content;
+  private String nextCursor;
+}
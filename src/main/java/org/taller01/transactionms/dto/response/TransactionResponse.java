@@ -1,9 +1,9 @@
 package org.taller01.transactionms.dto.response;
 
 import lombok.*;
+import org.taller01.transactionms.domain.model.Money;
 import org.taller01.transactionms.domain.model.TransactionStatus;
 import org.taller01.transactionms.domain.model.TransactionType;
-import java.math.BigDecimal;
 import java.time.Instant;
 
 @Data
@@ -16,7 +16,7 @@ public class TransactionResponse {
   private TransactionStatus status;
   private String fromAccountId;
   private String toAccountId;
-  private BigDecimal amount;
+  private Money amount;
   private Instant createdAt;
   private String message;
 }
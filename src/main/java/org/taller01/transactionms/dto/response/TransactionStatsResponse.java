@@ -0,0 +1,22 @@
+package org.taller01.transactionms.dto.response;
+
+import lombok.*;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.StatsGranularity;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionStatsResponse {
+  private String accountId;
+  private StatsGranularity granularity;
+  private Instant start;
+  private Instant end;
+  private Map<TransactionType, Map<TransactionStatus, Long>> counts;
+  private Map<TransactionType, Map<TransactionStatus, Money>> amounts;
+}
@@ -0,0 +1,18 @@
+package org.taller01.transactionms.dto.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Positive;
+import org.taller01.transactionms.domain.model.Money;
+
+/**
+ * Habilita {@code @Positive} sobre {@link Money}. Hibernate Validator lo descubre por
+ * {@code META-INF/services/jakarta.validation.ConstraintValidator}.
+ */
+public class PositiveMoneyValidator implements ConstraintValidator<Positive, Money> {
+
+  @Override
+  public boolean isValid(Money value, ConstraintValidatorContext context) {
+    return value == null || value.isPositive();
+  }
+}
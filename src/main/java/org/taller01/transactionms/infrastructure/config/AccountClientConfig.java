@@ -0,0 +1,75 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.taller01.transactionms.domain.exception.AccountServiceUnavailableException;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import org.taller01.transactionms.infrastructure.external.account.AdaptiveConcurrencyLimit;
+import org.taller01.transactionms.infrastructure.external.account.CachingAccountClient;
+import org.taller01.transactionms.infrastructure.external.account.HedgingAccountClient;
+import org.taller01.transactionms.infrastructure.external.account.MeteredAccountClient;
+import org.taller01.transactionms.infrastructure.external.account.ResilientAccountClient;
+import org.taller01.transactionms.infrastructure.external.account.WebClientAccountAdapter;
+
+/**
+ * Arma la cadena de decoradores sobre el adaptador HTTP de AccountMS. Las estrategias reciben este
+ * bean (primario) y no el adaptador directo. De adentro hacia afuera: HTTP, hedging, resiliencia,
+ * caché. Un acierto de caché no consume cupo del límite y el plazo de lectura cubre la petición
+ * original y su hedge juntos. Las métricas por operación se toman afuera de todo, tal como las ve
+ * el llamador.
+ */
+@Configuration
+public class AccountClientConfig {
+
+  @Bean
+  @Primary
+  public AccountClientPort accountClient(WebClientAccountAdapter webClientAdapter,
+      AccountMsProperties properties, MeterRegistry registry) {
+    AccountClientPort client = webClientAdapter;
+    if (properties.getHedging().isEnabled()) {
+      client = new HedgingAccountClient(client, webClientAdapter::fetchAccount,
+          properties.getHedging(), registry);
+    }
+    if (properties.getResilience().isEnabled()) {
+      client = resilient(client, properties.getResilience(), registry);
+    }
+    if (properties.getCache().isEnabled()) {
+      client = new CachingAccountClient(client, properties.getCache(), registry);
+    }
+    return new MeteredAccountClient(client, registry);
+  }
+
+  private static AccountClientPort resilient(AccountClientPort client,
+      AccountMsProperties.Resilience resilience, MeterRegistry registry) {
+    var breaker = resilience.getCircuitBreaker();
+    var config =
+        CircuitBreakerConfig.custom().failureRateThreshold(breaker.getFailureRateThreshold())
+            .slowCallRateThreshold(breaker.getSlowCallRateThreshold())
+            .slowCallDurationThreshold(resilience.getReadTimeout())
+            .slidingWindowSize(breaker.getSlidingWindowSize())
+            .minimumNumberOfCalls(breaker.getMinimumNumberOfCalls())
+            .waitDurationInOpenState(breaker.getWaitInOpenState())
+            .permittedNumberOfCallsInHalfOpenState(breaker.getPermittedCallsInHalfOpenState())
+            .recordException(ResilientAccountClient::isOverload)
+            .ignoreExceptions(AccountServiceUnavailableException.class).build();
+    CircuitBreakerRegistry breakers = CircuitBreakerRegistry.of(config);
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(breakers).bindTo(registry);
+    CircuitBreaker circuitBreaker = breakers.circuitBreaker("accountms");
+
+    var limit = new AdaptiveConcurrencyLimit(resilience.getLimit());
+    Gauge.builder("accountms.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+        .register(registry);
+    Gauge.builder("accountms.concurrency.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+        .register(registry);
+
+    return new ResilientAccountClient(client, circuitBreaker, limit, resilience.getReadTimeout(),
+        resilience.getWriteTimeout());
+  }
+}
@@ -0,0 +1,122 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import reactor.netty.http.HttpProtocol;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Ajustes del cliente de AccountMS ({@code accountms.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "accountms")
+public class AccountMsProperties {
+
+  private String baseUrl = "http://localhost:8081";
+
+  private final Pool pool = new Pool();
+  private final Cache cache = new Cache();
+  private final Resilience resilience = new Resilience();
+  private final Hedging hedging = new Hedging();
+  private final Retry retry = new Retry();
+
+  /**
+   * Pool de conexiones de Reactor Netty hacia AccountMS. Con {@code protocols=H2C} cada conexión
+   * multiplexa hasta {@code maxConcurrentStreams} peticiones, así que alcanzan muchas menos.
+   */
+  @Data
+  public static class Pool {
+    private int maxConnections = 200;
+    private int pendingAcquireMaxCount = 1000;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+    private Duration evictInBackground = Duration.ofSeconds(30);
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private List<HttpProtocol> protocols = List.of(HttpProtocol.HTTP11);
+    private long maxConcurrentStreams = 100;
+
+    /** Conexiones que se abren al arrancar, antes de que la app se reporte lista. */
+    private int warmupConnections = 8;
+    private String warmupPath = "/";
+    private Duration warmupTimeout = Duration.ofSeconds(5);
+  }
+
+  /**
+   * Caché de consultas de cuentas. Los datos de la cuenta (existencia, tipo, cliente) casi no
+   * cambian; el saldo sí, por eso vive poco y se invalida con cada depósito o retiro propio.
+   */
+  @Data
+  public static class Cache {
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration metadataTtl = Duration.ofMinutes(30);
+    private Duration balanceTtl = Duration.ofSeconds(2);
+  }
+
+  /**
+   * Plazos por operación, circuit breaker y límite adaptativo de llamadas en curso. Las escrituras
+   * tienen más plazo que las lecturas: cortar un depósito puede dejarlo aplicado en AccountMS y
+   * registrado como FAILED aquí.
+   */
+  @Data
+  public static class Resilience {
+    private boolean enabled = true;
+    private Duration readTimeout = Duration.ofSeconds(2);
+    private Duration writeTimeout = Duration.ofSeconds(5);
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private final Limit limit = new Limit();
+  }
+
+  @Data
+  public static class CircuitBreaker {
+    private float failureRateThreshold = 50;
+    private float slowCallRateThreshold = 80;
+    private int slidingWindowSize = 50;
+    private int minimumNumberOfCalls = 20;
+    private Duration waitInOpenState = Duration.ofSeconds(10);
+    private int permittedCallsInHalfOpenState = 5;
+  }
+
+  /**
+   * AIMD: suma 1/límite por cada llamada rápida y multiplica por {@code backoffRatio} ante un
+   * timeout, un 5xx o una latencia mayor a {@code latencyThreshold}.
+   */
+  @Data
+  public static class Limit {
+    private int initial = 20;
+    private int min = 4;
+    private int max = 200;
+    private double backoffRatio = 0.9;
+    private Duration latencyThreshold = Duration.ofMillis(500);
+  }
+
+  /**
+   * Hedging de {@code getAccount}: si no hay respuesta tras el percentil {@code percentile} de la
+   * latencia reciente (acotado a [minDelay, maxDelay]) se lanza una segunda petición. El
+   * presupuesto limita las peticiones extra a {@code budgetPercent}% del total.
+   */
+  @Data
+  public static class Hedging {
+    private boolean enabled = false;
+    private double percentile = 0.95;
+    private Duration minDelay = Duration.ofMillis(10);
+    private Duration maxDelay = Duration.ofMillis(500);
+    private double budgetPercent = 5;
+    private int windowSize = 1024;
+    private int minSamples = 100;
+  }
+
+  /**
+   * Reintentos de {@code getAccount} ante 5xx o errores de conexión, con backoff exponencial y
+   * jitter. Siempre dentro del plazo de la solicitud; las escrituras no se reintentan.
+   */
+  @Data
+  public static class Retry {
+    private int maxRetries = 2;
+    private Duration minBackoff = Duration.ofMillis(50);
+    private Duration maxBackoff = Duration.ofMillis(500);
+    private double jitter = 0.5;
+  }
+}
@@ -0,0 +1,43 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+/**
+ * Control de admisión ({@code transactionms.admission.*}). Escrituras, historial y lotes tienen
+ * cupos separados para que una ráfaga de lecturas largas no deje sin lugar a los depósitos, y para
+ * que la duración de un lote no cuente como latencia de escritura.
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.admission")
+public class AdmissionProperties {
+
+  private boolean enabled = true;
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  /** Peso de cada muestra en la media móvil exponencial de latencia. */
+  private double ewmaAlpha = 0.2;
+
+  private final Limit writes = new Limit(256, Duration.ofSeconds(1));
+  private final Limit history = new Limit(64, Duration.ZERO);
+  private final Limit batch = new Limit(8, Duration.ZERO);
+
+  /**
+   * Sobre {@code maxInFlight} se responde 429. Si la latencia media supera {@code latencyTarget}
+   * solo se admite hasta {@code degradedRatio * maxInFlight} y el resto recibe 503; las solicitudes
+   * admitidas siguen midiendo, así que el límite se levanta solo cuando la latencia baja. Un
+   * {@code latencyTarget} de 0 desactiva ese criterio (útil para streams largos).
+   */
+  @Data
+  public static class Limit {
+    private int maxInFlight;
+    private Duration latencyTarget;
+    private double degradedRatio = 0.25;
+
+    public Limit(int maxInFlight, Duration latencyTarget) {
+      this.maxInFlight = maxInFlight;
+      this.latencyTarget = latencyTarget;
+    }
+  }
+}
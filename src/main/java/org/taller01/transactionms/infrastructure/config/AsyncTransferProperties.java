@@ -0,0 +1,25 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+/**
+ * Transferencias asíncronas ({@code transactionms.async-transfer.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.async-transfer")
+public class AsyncTransferProperties {
+
+  /** Transferencias aceptadas y aún sin terminar; por encima se responde 503. */
+  private int queueCapacity = 1024;
+
+  /** Transferencias procesándose a la vez contra AccountMS. */
+  private int concurrency = 16;
+
+  /** Espera antes de reencolar una transferencia cuyo carril de cuenta estaba lleno. */
+  private Duration requeueDelay = Duration.ofMillis(100);
+
+  /** Al arrancar, vuelve a encolar las transferencias que quedaron en {@code PENDING}. */
+  private boolean recoverOnStartup = true;
+}
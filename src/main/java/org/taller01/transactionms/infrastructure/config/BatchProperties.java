@@ -0,0 +1,22 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+/**
+ * Ajustes del endpoint de lotes ({@code transactionms.batch.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.batch")
+public class BatchProperties {
+
+  /** Elementos del lote en vuelo a la vez contra AccountMS. */
+  private int concurrency = 32;
+
+  /** Transacciones por inserción masiva en Mongo. */
+  private int insertChunkSize = 500;
+
+  /** Espera máxima para completar un bloque antes de insertarlo incompleto. */
+  private Duration maxChunkDelay = Duration.ofMillis(100);
+}
@@ -0,0 +1,25 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Plazos de solicitud ({@code transactionms.deadline.*}). El cliente puede mandar
+ * {@code X-Request-Timeout} en milisegundos; si no, aplica el valor por defecto de la ruta.
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.deadline")
+public class DeadlineProperties {
+
+  private boolean enabled = true;
+  private Duration defaultTimeout = Duration.ofSeconds(10);
+
+  /** Tope para el valor que manda el cliente. */
+  private Duration maxTimeout = Duration.ofSeconds(60);
+
+  /** Plazo por defecto por prefijo de ruta; {@code 0s} deja la ruta sin plazo por defecto. */
+  private Map<String, Duration> overrides = new LinkedHashMap<>();
+}
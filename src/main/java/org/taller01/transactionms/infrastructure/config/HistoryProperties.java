@@ -0,0 +1,24 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Ajustes de lectura del historial ({@code transactionms.history.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.history")
+public class HistoryProperties {
+
+  /**
+   * Documentos por lote del cursor de Mongo y demanda máxima pedida aguas arriba mientras se
+   * transmite el historial. Acota la memoria por petición sin importar el tamaño del historial.
+   */
+  private int streamBatchSize = 256;
+
+  /**
+   * Atiende el historial en JSON y NDJSON escribiendo cada documento BSON del cursor directo al
+   * buffer de respuesta, sin armar entidad, dominio ni DTO. SSE siempre usa el controlador.
+   */
+  private boolean rawJson = true;
+}
@@ -0,0 +1,27 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+/**
+ * Deduplicación por {@code Idempotency-Key} ({@code transactionms.idempotency.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.idempotency")
+public class IdempotencyProperties {
+
+  /** Entradas en la caché local (primer nivel). */
+  private long cacheSize = 10_000;
+  private Duration cacheTtl = Duration.ofMinutes(10);
+
+  /** Tiempo que Mongo guarda cada clave; índice TTL sobre {@code createdAt}. */
+  private Duration retention = Duration.ofHours(24);
+
+  /** Cuánto espera un duplicado a que termine la solicitud original antes de responder 409. */
+  private Duration inFlightWait = Duration.ofSeconds(10);
+  private Duration pollInterval = Duration.ofMillis(100);
+
+  /** Una clave PENDING más vieja que esto se da por abandonada (instancia caída) y se retoma. */
+  private Duration pendingTimeout = Duration.ofMinutes(1);
+}
@@ -0,0 +1,22 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Almacén local de transacciones del perfil {@code log-store} ({@code transactionms.log-store.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.log-store")
+public class LogStoreProperties {
+
+  /** Carpeta de los segmentos; se crea si no existe. */
+  private String directory = "data/transactions";
+
+  /** Tamaño de cada segmento mapeado; al llenarse se abre el siguiente. */
+  private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+  /** Fuerza cada escritura a disco ({@code msync}); sin esto queda en la caché de páginas. */
+  private boolean forceOnWrite = false;
+}
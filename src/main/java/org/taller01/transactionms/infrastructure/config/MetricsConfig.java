@@ -0,0 +1,24 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import org.taller01.transactionms.infrastructure.metrics.MeteredTransactionRepository;
+
+/**
+ * Mide el repositorio de transacciones activo (Mongo o log local, según el perfil). Como con
+ * {@link AccountClientConfig}, los servicios reciben el decorador primario y no el adaptador.
+ */
+@Configuration
+public class MetricsConfig {
+
+  // Spring no se inyecta un bean a sí mismo: store es el único adaptador del perfil activo
+  @Bean
+  @Primary
+  public ITransactionRepository meteredTransactionRepository(ITransactionRepository store,
+      MeterRegistry registry) {
+    return new MeteredTransactionRepository(store, registry);
+  }
+}
@@ -0,0 +1,58 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.boot.jackson.JsonComponent;
+import org.taller01.transactionms.domain.model.Money;
+import java.io.IOException;
+
+/**
+ * {@link Money} en JSON como número decimal, igual que antes con {@code BigDecimal}. Lee y escribe
+ * el texto del número directamente, sin crear un {@code BigDecimal} intermedio.
+ */
+@JsonComponent
+public class MoneyJsonComponent {
+
+  /** Para los {@code ObjectMapper} creados fuera de Spring (clientes de prueba, benchmarks). */
+  public static SimpleModule module() {
+    return new SimpleModule("money").addSerializer(Money.class, new Serializer())
+        .addDeserializer(Money.class, new Deserializer());
+  }
+
+  public static class Serializer extends JsonSerializer<Money> {
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException {
+      gen.writeNumber(value.toString());
+    }
+  }
+
+  public static class Deserializer extends JsonDeserializer<Money> {
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+      JsonToken token = parser.currentToken();
+      if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+          && token != JsonToken.VALUE_STRING) {
+        return (Money) ctxt.handleUnexpectedToken(Money.class, parser);
+      }
+      String text = parser.getText().trim();
+      try {
+        return parse(text);
+      } catch (ArithmeticException | NumberFormatException ex) {
+        throw InvalidFormatException.from(parser, ex.getMessage(), text, Money.class);
+      }
+    }
+
+    // Punto de extensión para montos que no vienen del cliente (ver AccountBalanceDeserializer)
+    protected Money parse(String text) {
+      return Money.of(text);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.types.Decimal128;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.infrastructure.mapper.TransactionEntityCodec;
+import java.util.List;
+
+@Configuration
+public class MongoConfig {
+
+  /**
+   * {@link Money} se guarda como {@code Decimal128}: exacto, comparable en consultas y sumable con
+   * {@code $inc}. Se siguen leyendo los montos de documentos anteriores, que Spring Data guardaba
+   * como texto y sin escala fija: los que traen más de dos decimales se redondean al leer con
+   * {@link Money#ofStored(String)}.
+   */
+  @Bean
+  public MongoCustomConversions mongoCustomConversions() {
+    return new MongoCustomConversions(
+        List.of(MoneyToDecimal128.INSTANCE, Decimal128ToMoney.INSTANCE, StringToMoney.INSTANCE));
+  }
+
+  /**
+   * Registra {@link TransactionEntityCodec} en el cliente reactivo. Lo usa {@code
+   * TransactionCollection} para el historial y las inserciones; el resto de operaciones siguen con
+   * el conversor de Spring Data y producen el mismo documento.
+   */
+  @Bean
+  public MongoClientSettingsBuilderCustomizer transactionEntityCodec() {
+    return settings -> settings.codecRegistry(
+        CodecRegistries.fromRegistries(CodecRegistries.fromCodecs(new TransactionEntityCodec()),
+            MongoClientSettings.getDefaultCodecRegistry()));
+  }
+
+  @WritingConverter
+  enum MoneyToDecimal128 implements Converter<Money, Decimal128> {
+    INSTANCE;
+
+    @Override
+    public Decimal128 convert(Money source) {
+      return Decimal128.parse(source.toString());
+    }
+  }
+
+  @ReadingConverter
+  enum Decimal128ToMoney implements Converter<Decimal128, Money> {
+    INSTANCE;
+
+    @Override
+    public Money convert(Decimal128 source) {
+      return Money.ofStored(source.bigDecimalValue());
+    }
+  }
+
+  @ReadingConverter
+  enum StringToMoney implements Converter<String, Money> {
+    INSTANCE;
+
+    @Override
+    public Money convert(String source) {
+      return Money.ofStored(source);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+/**
+ * Ajustes de escritura en Mongo ({@code transactionms.persistence.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.persistence")
+public class PersistenceProperties {
+
+  private final Batching batching = new Batching();
+
+  /**
+   * Micro-lotes de {@code save}: los guardados concurrentes se juntan y se envían como un único
+   * bulk write desordenado.
+   */
+  @Data
+  public static class Batching {
+    private boolean enabled = false;
+
+    /** Máximo de transacciones por bulk write. */
+    private int maxBatchSize = 256;
+
+    /** Tiempo máximo que un guardado espera a que se llene su lote. */
+    private Duration maxDelay = Duration.ofMillis(5);
+
+    /** Bulk writes en vuelo a la vez. */
+    private int maxConcurrentFlushes = 4;
+
+    /** Guardados en cola sin lote asignado; por encima se rechazan. */
+    private int maxPending = 8192;
+  }
+}
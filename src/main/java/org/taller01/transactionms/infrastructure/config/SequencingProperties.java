@@ -0,0 +1,20 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Carriles por cuenta ({@code transactionms.sequencing.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.sequencing")
+public class SequencingProperties {
+
+  private boolean enabled = true;
+
+  /** Número de carriles; se redondea a potencia de dos. Cuentas distintas pueden compartir uno. */
+  private int stripes = 1024;
+
+  /** Operaciones en espera por carril antes de rechazar con 429. */
+  private int maxQueueDepth = 64;
+}
@@ -0,0 +1,38 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.taller01.transactionms.domain.model.StatsGranularity;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estadísticas por buckets de tiempo ({@code transactionms.stats.*}).
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.stats")
+public class StatsProperties {
+
+  private boolean enabled = true;
+
+  private List<StatsGranularity> granularities =
+      List.of(StatsGranularity.MINUTE, StatsGranularity.HOUR, StatsGranularity.DAY);
+
+  /** Transacciones acumuladas antes de escribir los buckets en un solo bulk. */
+  private int maxBatchSize = 1000;
+
+  /** Espera máxima antes de escribir un lote incompleto. */
+  private Duration maxDelay = Duration.ofSeconds(1);
+
+  /**
+   * Lotes de transacciones en espera de escribirse. Si Mongo no da abasto se descartan (con aviso)
+   * en lugar de frenar las escrituras de transacciones.
+   */
+  private int maxPending = 4096;
+
+  /** Cuánto vive cada bucket desde su inicio; sin entrada no expira. */
+  private Map<StatsGranularity, Duration> retention = new EnumMap<>(Map.of(StatsGranularity.MINUTE,
+      Duration.ofDays(2), StatsGranularity.HOUR, Duration.ofDays(90)));
+}
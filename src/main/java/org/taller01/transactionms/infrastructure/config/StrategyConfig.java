@@ -1,9 +1,11 @@
 package org.taller01.transactionms.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.taller01.transactionms.domain.model.TransactionType;
 import org.taller01.transactionms.domain.strategy.TransactionStrategy;
+import org.taller01.transactionms.infrastructure.metrics.MeteredTransactionStrategy;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -11,9 +13,16 @@ import java.util.stream.Collectors;
 @Configuration
 public class StrategyConfig {
 
+  // Los servicios toman las estrategias de este mapa, así que todas quedan medidas
   @Bean
   public Map<TransactionType, TransactionStrategy<?>> strategyMap(
-      List<TransactionStrategy<?>> strategies) {
-    return strategies.stream().collect(Collectors.toMap(TransactionStrategy::getType, s -> s));
+      List<TransactionStrategy<?>> strategies, MeterRegistry registry) {
+    return strategies.stream()
+        .collect(Collectors.toMap(TransactionStrategy::getType, s -> metered(s, registry)));
+  }
+
+  private static <T> TransactionStrategy<T> metered(TransactionStrategy<T> strategy,
+      MeterRegistry registry) {
+    return new MeteredTransactionStrategy<>(strategy, registry);
   }
 }
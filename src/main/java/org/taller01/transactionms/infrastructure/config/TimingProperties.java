@@ -0,0 +1,22 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+/**
+ * Desglose por solicitud ({@code transactionms.timing.*}): header {@code Server-Timing} y log de
+ * solicitudes lentas.
+ */
+@Data
+@ConfigurationProperties(prefix = "transactionms.timing")
+public class TimingProperties {
+
+  private boolean enabled = true;
+
+  /** Solicitudes que superan este tiempo entran al log de lentas. */
+  private Duration slowThreshold = Duration.ofMillis(500);
+
+  /** Fracción de las solicitudes lentas que se registra (1.0 = todas). */
+  private double slowSampleRate = 0.1;
+}
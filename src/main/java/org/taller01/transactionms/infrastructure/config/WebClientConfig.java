@@ -1,16 +1,82 @@
 package org.taller01.transactionms.infrastructure.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Slf4j
 @Configuration
 public class WebClientConfig {
 
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider accountConnectionProvider(AccountMsProperties properties) {
+    AccountMsProperties.Pool pool = properties.getPool();
+    return ConnectionProvider.builder("accountms").maxConnections(pool.getMaxConnections())
+        .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(pool.getPendingAcquireTimeout()).maxIdleTime(pool.getMaxIdleTime())
+        .maxLifeTime(pool.getMaxLifeTime()).evictInBackground(pool.getEvictInBackground())
+        .metrics(true).build();
+  }
+
   @Bean
-  public WebClient accountWebClient(WebClient.Builder builder) {
-    return builder.baseUrl("http://localhost:8081") // URL del microservicio AccountMS
-        .build();
+  public WebClient accountWebClient(WebClient.Builder builder,
+      ConnectionProvider accountConnectionProvider, AccountMsProperties properties) {
+    AccountMsProperties.Pool pool = properties.getPool();
+    HttpClient httpClient = HttpClient.create(accountConnectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+        .protocol(pool.getProtocols().toArray(HttpProtocol[]::new))
+        .http2Settings(settings -> settings.maxConcurrentStreams(pool.getMaxConcurrentStreams()));
+    return builder.baseUrl(properties.getBaseUrl()) // URL del microservicio AccountMS
+        .clientConnector(new ReactorClientHttpConnector(httpClient)).build();
   }
-}
 
+  /**
+   * Abre {@code warmupConnections} conexiones en paralelo antes de que Spring publique el estado
+   * listo, para que la primera ráfaga después de un despliegue no pague el handshake TCP. Cualquier
+   * respuesta sirve (incluso 404): lo que interesa es la conexión que queda ociosa en el pool. Si
+   * AccountMS no responde se registra y se arranca igual.
+   */
+  @Bean
+  public ApplicationRunner accountMsWarmup(WebClient accountWebClient,
+      AccountMsProperties properties) {
+    AccountMsProperties.Pool pool = properties.getPool();
+    return args -> {
+      int connections = pool.getWarmupConnections();
+      if (connections <= 0) {
+        return;
+      }
+      long start = System.nanoTime();
+      // Cada petición absorbe su error: con AccountMS caído sale una sola línea de resumen en vez
+      // de un error por conexión en onErrorDropped
+      AtomicReference<Throwable> firstError = new AtomicReference<>();
+      Flux.range(0, connections).flatMap(i -> accountWebClient.head().uri(pool.getWarmupPath())
+          .exchangeToMono(ClientResponse::releaseBody).thenReturn(true).onErrorResume(ex -> {
+            firstError.compareAndSet(null, ex);
+            return Mono.just(false);
+          }), connections).filter(opened -> !opened).count().timeout(pool.getWarmupTimeout())
+          .doOnNext(failed -> {
+            if (failed == 0) {
+              log.info("🔥 Pool de AccountMS precalentado: {} conexiones en {} ms", connections,
+                  (System.nanoTime() - start) / 1_000_000);
+            } else {
+              log.warn("⚠️ No se pudo precalentar el pool de AccountMS: {} de {} conexiones "
+                  + "fallaron ({})", failed, connections, firstError.get().getMessage());
+            }
+          }).onErrorResume(ex -> {
+            log.warn("⚠️ No se pudo precalentar el pool de AccountMS: {}", ex.getMessage());
+            return Mono.empty();
+          }).block();
+    };
+  }
+}
@@ -0,0 +1,173 @@
+package org.taller01.transactionms.infrastructure.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.infrastructure.config.AdmissionProperties;
+import org.taller01.transactionms.infrastructure.exception.ApiError;
+import reactor.core.publisher.Mono;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rechaza rápido cuando el servicio está saturado en vez de dejar que todas las solicitudes se
+ * vuelvan lentas. Corre antes que el resto de filtros para que un rechazo cueste lo mínimo.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter implements WebFilter {
+
+  private static final String BASE_PATH = "/transacciones";
+  private static final String HISTORY_PATH = BASE_PATH + "/historial";
+  private static final String BATCH_PATH = BASE_PATH + "/lote";
+
+  private final AdmissionProperties properties;
+  private final ObjectMapper objectMapper;
+  private final Gate writes;
+  private final Gate history;
+  private final Gate batch;
+
+  public AdmissionControlFilter(AdmissionProperties properties, ObjectMapper objectMapper,
+      MeterRegistry registry) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.writes = new Gate("writes", properties.getWrites(), properties.getEwmaAlpha(), registry);
+    this.history =
+        new Gate("history", properties.getHistory(), properties.getEwmaAlpha(), registry);
+    this.batch = new Gate("batch", properties.getBatch(), properties.getEwmaAlpha(), registry);
+  }
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    Gate gate = properties.isEnabled() ? gateFor(exchange) : null;
+    if (gate == null) {
+      return chain.filter(exchange);
+    }
+    HttpStatus rejection = gate.tryAdmit();
+    if (rejection != null) {
+      return reject(exchange, rejection);
+    }
+    long start = System.nanoTime();
+    return chain.filter(exchange).doFinally(signal -> gate.release(System.nanoTime() - start));
+  }
+
+  private Gate gateFor(ServerWebExchange exchange) {
+    String path = exchange.getRequest().getPath().value();
+    if (path.startsWith(HISTORY_PATH)) {
+      return history;
+    }
+    if (!HttpMethod.POST.equals(exchange.getRequest().getMethod())) {
+      return null;
+    }
+    // Un lote dura lo que sus elementos: en el cupo de escrituras inflaría su latencia media
+    if (path.startsWith(BATCH_PATH)) {
+      return batch;
+    }
+    return path.startsWith(BASE_PATH) ? writes : null;
+  }
+
+  private Mono<Void> reject(ServerWebExchange exchange, HttpStatus status) {
+    ServerHttpResponse response = exchange.getResponse();
+    response.setStatusCode(status);
+    response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+        Long.toString(Math.max(1, properties.getRetryAfter().toSeconds())));
+    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+    String message = status == HttpStatus.TOO_MANY_REQUESTS ? Messages.ADMISSION_TOO_MANY
+        : Messages.ADMISSION_OVERLOADED;
+    ApiError body = ApiError.builder().timestamp(Instant.now()).status(status.value())
+        .error(status.is4xxClientError() ? "Solicitud incorrecta" : "Error del servidor")
+        .message(message).path(exchange.getRequest().getPath().value()).build();
+    try {
+      byte[] bytes = objectMapper.writeValueAsBytes(body);
+      return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+    } catch (JsonProcessingException ex) {
+      return response.setComplete();
+    }
+  }
+
+  /**
+   * Cupo de una clase de tráfico: contador de solicitudes en curso y media móvil de latencia. Todo
+   * con atómicos; el filtro no bloquea ni encola.
+   */
+  static final class Gate {
+    private final AdmissionProperties.Limit limit;
+    private final double alpha;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong ewmaNanos = new AtomicLong();
+    private final Counter rejectedLimit;
+    private final Counter rejectedLatency;
+
+    Gate(String name, AdmissionProperties.Limit limit, double alpha, MeterRegistry registry) {
+      this.limit = limit;
+      this.alpha = alpha;
+      Gauge.builder("transactionms.admission.in-flight", inFlight, AtomicInteger::get)
+          .tag("class", name).register(registry);
+      Gauge.builder("transactionms.admission.latency.ewma", ewmaNanos, v -> v.get() / 1e6)
+          .tag("class", name).baseUnit("milliseconds").register(registry);
+      this.rejectedLimit = registry.counter("transactionms.admission.rejected", "class", name,
+          "reason", "in_flight");
+      this.rejectedLatency =
+          registry.counter("transactionms.admission.rejected", "class", name, "reason", "latency");
+    }
+
+    /** {@code null} si se admite; si no, el estado con el que se rechaza. */
+    HttpStatus tryAdmit() {
+      int max = currentMax();
+      for (;;) {
+        int current = inFlight.get();
+        if (current >= max) {
+          return reject(max);
+        }
+        if (inFlight.compareAndSet(current, current + 1)) {
+          return null;
+        }
+      }
+    }
+
+    private int currentMax() {
+      long target = limit.getLatencyTarget().toNanos();
+      if (target > 0 && ewmaNanos.get() > target) {
+        return Math.max(1, (int) (limit.getMaxInFlight() * limit.getDegradedRatio()));
+      }
+      return limit.getMaxInFlight();
+    }
+
+    private HttpStatus reject(int max) {
+      if (max < limit.getMaxInFlight()) {
+        rejectedLatency.increment();
+        return HttpStatus.SERVICE_UNAVAILABLE;
+      }
+      rejectedLimit.increment();
+      return HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    void release(long latencyNanos) {
+      inFlight.decrementAndGet();
+      ewmaNanos.updateAndGet(previous -> previous == 0 ? latencyNanos
+          : (long) (alpha * latencyNanos + (1 - alpha) * previous));
+    }
+
+    int inFlight() {
+      return inFlight.get();
+    }
+
+    long ewmaNanos() {
+      return ewmaNanos.get();
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package org.taller01.transactionms.infrastructure.controller;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.TransactionField;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.infrastructure.config.HistoryProperties;
+import org.taller01.transactionms.infrastructure.mapper.TransactionJsonWriter;
+import org.taller01.transactionms.infrastructure.repository.RawHistoryReader;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Camino rápido de {@code GET /transacciones/historial} en JSON y NDJSON: cada documento del cursor
+ * se escribe como JSON directo a un buffer de la respuesta con {@link TransactionJsonWriter}, sin
+ * pasar por entidad, dominio ni {@code TransactionResponse}. El cuerpo es byte a byte el del
+ * controlador (arreglo JSON o una fila por línea).
+ *
+ * <p>
+ * Se evalúa antes que los controladores anotados y solo toma la solicitud si puede responderla
+ * igual que {@link TransactionController}: SSE, un {@code Accept} con varias opciones o parámetros,
+ * filtros que no convierten o un rango inválido siguen de largo y el controlador responde (o
+ * rechaza) como siempre. Los parámetros se convierten con el mismo {@link ConversionService} de
+ * WebFlux, así que se leen igual en ambos caminos.
+ */
+@Component
+@Profile("!log-store")
+public class RawHistoryRoute implements RouterFunction<ServerResponse> {
+
+  private static final PathPattern PATH =
+      PathPatternParser.defaultInstance.parse("/transacciones/historial");
+
+  private static final TypeDescriptor STRING = TypeDescriptor.valueOf(String.class);
+  private static final TypeDescriptor INSTANT = TypeDescriptor.valueOf(Instant.class);
+  private static final TypeDescriptor TYPES =
+      TypeDescriptor.collection(Set.class, TypeDescriptor.valueOf(TransactionType.class));
+  private static final TypeDescriptor STATUSES =
+      TypeDescriptor.collection(Set.class, TypeDescriptor.valueOf(TransactionStatus.class));
+  private static final TypeDescriptor MONEY = TypeDescriptor.valueOf(Money.class);
+  private static final TypeDescriptor INTEGER = TypeDescriptor.valueOf(Integer.class);
+  private static final TypeDescriptor PROPERTIES =
+      TypeDescriptor.collection(Set.class, TypeDescriptor.valueOf(String.class));
+
+  // Una fila típica ronda los 250 bytes; el buffer crece si el mensaje es largo
+  private static final int ROW_CAPACITY = 512;
+  private static final byte[] EMPTY_ARRAY = {'[', ']'};
+  private static final byte[] END_ARRAY = {']'};
+
+  private final RawHistoryReader reader;
+  private final HistoryProperties historyProperties;
+  private final ConversionService conversionService;
+
+  public RawHistoryRoute(RawHistoryReader reader, HistoryProperties historyProperties,
+      @Qualifier("webFluxConversionService") ConversionService conversionService) {
+    this.reader = reader;
+    this.historyProperties = historyProperties;
+    this.conversionService = conversionService;
+  }
+
+  @Override
+  public Mono<HandlerFunction<ServerResponse>> route(ServerRequest request) {
+    if (!historyProperties.isRawJson() || !HttpMethod.GET.equals(request.method())
+        || !PATH.matches(request.requestPath().pathWithinApplication())) {
+      return Mono.empty();
+    }
+    MediaType mediaType = negotiate(request.headers().accept());
+    HistoryQuery query = mediaType != null ? parse(request.queryParams()) : null;
+    if (query == null) {
+      return Mono.empty();
+    }
+    // Misma etiqueta uri que el controlador en http.server.requests
+    request.attributes().put(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE, PATH);
+    return Mono.just(req -> ServerResponse.ok().contentType(mediaType).body(BodyInserters
+        .fromDataBuffers(stream(query, mediaType, req.exchange().getResponse().bufferFactory()))));
+  }
+
+  // Sin Accept o con */* el controlador elige JSON, el primero de sus produces
+  private static MediaType negotiate(List<MediaType> accept) {
+    if (accept.isEmpty()) {
+      return MediaType.APPLICATION_JSON;
+    }
+    MediaType requested = accept.get(0);
+    if (accept.size() > 1 || !requested.getParameters().isEmpty()) {
+      return null;
+    }
+    if (MediaType.ALL.equals(requested)
+        || requested.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+      return MediaType.APPLICATION_JSON;
+    }
+    return requested.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON)
+        ? MediaType.APPLICATION_NDJSON
+        : null;
+  }
+
+  private HistoryQuery parse(MultiValueMap<String, String> params) {
+    try {
+      String accountId = param(params, "accountId", STRING);
+      if (accountId == null) {
+        return null;
+      }
+      return new HistoryQuery(accountId, param(params, "from", INSTANT),
+          param(params, "to", INSTANT), param(params, "type", TYPES),
+          param(params, "status", STATUSES), param(params, "minAmount", MONEY),
+          param(params, "maxAmount", MONEY), param(params, "limit", INTEGER),
+          TransactionField.fromProperties(param(params, "fields", PROPERTIES)));
+    } catch (RuntimeException ex) {
+      // El controlador repite la conversión y responde el error con el formato de siempre
+      return null;
+    }
+  }
+
+  // Como @RequestParam: un solo valor se convierte como texto y varios como lista
+  @SuppressWarnings("unchecked")
+  private <T> T param(MultiValueMap<String, String> params, String name, TypeDescriptor type) {
+    List<String> values = params.get(name);
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    Object raw = values.size() == 1 ? values.get(0) : values;
+    return (T) conversionService.convert(raw, TypeDescriptor.forObject(raw), type);
+  }
+
+  Flux<DataBuffer> stream(HistoryQuery query, MediaType mediaType, DataBufferFactory buffers) {
+    boolean ndjson = MediaType.APPLICATION_NDJSON.equals(mediaType);
+    return Flux.defer(() -> {
+      TransactionJsonWriter writer = new TransactionJsonWriter(query.fields());
+      boolean[] empty = {true};
+      Flux<DataBuffer> rows = reader.find(query).map(document -> {
+        DataBuffer buffer = buffers.allocateBuffer(ROW_CAPACITY);
+        try {
+          if (!ndjson) {
+            buffer.write((byte) (empty[0] ? '[' : ','));
+          }
+          writer.write(document, buffer);
+          if (ndjson) {
+            buffer.write((byte) '\n');
+          }
+          empty[0] = false;
+          return buffer;
+        } catch (RuntimeException ex) {
+          DataBufferUtils.release(buffer);
+          throw ex;
+        }
+      });
+      return ndjson ? rows
+          : rows.concatWith(
+              Mono.fromSupplier(() -> buffers.wrap(empty[0] ? EMPTY_ARRAY : END_ARRAY)));
+    });
+  }
+}
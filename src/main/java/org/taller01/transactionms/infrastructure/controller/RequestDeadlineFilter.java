@@ -0,0 +1,66 @@
+package org.taller01.transactionms.infrastructure.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.taller01.transactionms.domain.model.RequestDeadline;
+import org.taller01.transactionms.infrastructure.config.DeadlineProperties;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Fija el plazo de cada solicitud y lo deja en el contexto de Reactor. Un valor inválido en el
+ * header se ignora y se usa el de la ruta.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestDeadlineFilter implements WebFilter {
+
+  private final DeadlineProperties properties;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!properties.isEnabled()) {
+      return chain.filter(exchange);
+    }
+    Duration timeout =
+        requested(exchange.getRequest().getHeaders().getFirst(RequestDeadline.HEADER));
+    if (timeout == null) {
+      timeout = defaultFor(exchange.getRequest().getPath().value());
+    }
+    if (timeout.isZero() || timeout.isNegative()) {
+      return chain.filter(exchange);
+    }
+    RequestDeadline deadline = RequestDeadline.after(timeout);
+    return chain.filter(exchange).contextWrite(deadline::writeTo);
+  }
+
+  private Duration requested(String header) {
+    if (header == null) {
+      return null;
+    }
+    try {
+      long millis = Long.parseLong(header.trim());
+      if (millis <= 0) {
+        return null;
+      }
+      Duration requested = Duration.ofMillis(millis);
+      return requested.compareTo(properties.getMaxTimeout()) > 0 ? properties.getMaxTimeout()
+          : requested;
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+
+  private Duration defaultFor(String path) {
+    for (Map.Entry<String, Duration> entry : properties.getOverrides().entrySet()) {
+      if (path.startsWith(entry.getKey())) {
+        return entry.getValue();
+      }
+    }
+    return properties.getDefaultTimeout();
+  }
+}
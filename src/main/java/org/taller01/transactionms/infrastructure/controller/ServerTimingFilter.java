@@ -0,0 +1,58 @@
+package org.taller01.transactionms.infrastructure.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.taller01.transactionms.domain.model.RequestTimings;
+import org.taller01.transactionms.infrastructure.config.TimingProperties;
+import reactor.core.publisher.Mono;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Abre el desglose de tiempos de cada solicitud a {@code /transacciones}, lo devuelve en
+ * {@code Server-Timing} y registra una muestra de las solicitudes lentas con todas sus fases. Corre
+ * después del control de admisión: un rechazo no tiene fases que mostrar.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@RequiredArgsConstructor
+public class ServerTimingFilter implements WebFilter {
+
+  private static final String BASE_PATH = "/transacciones";
+
+  private final TimingProperties properties;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!properties.isEnabled() || !exchange.getRequest().getPath().value().startsWith(BASE_PATH)) {
+      return chain.filter(exchange);
+    }
+    RequestTimings timings = RequestTimings.start();
+    ServerHttpResponse response = exchange.getResponse();
+    response.beforeCommit(() -> {
+      timings.committed();
+      response.getHeaders().set(RequestTimings.HEADER, timings.serverTiming());
+      return Mono.empty();
+    });
+    return chain.filter(exchange).contextWrite(timings::writeTo)
+        .doFinally(signal -> logIfSlow(exchange, timings));
+  }
+
+  private void logIfSlow(ServerWebExchange exchange, RequestTimings timings) {
+    long elapsed = timings.elapsedNanos();
+    if (elapsed < properties.getSlowThreshold().toNanos()
+        || ThreadLocalRandom.current().nextDouble() >= properties.getSlowSampleRate()) {
+      return;
+    }
+    log.warn("🐢 Solicitud lenta {} {} -> {}: {}", exchange.getRequest().getMethod(),
+        exchange.getRequest().getPath().value(), exchange.getResponse().getStatusCode(),
+        timings.describe());
+  }
+}
@@ -2,15 +2,34 @@ package org.taller01.transactionms.infrastructure.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.RequestTimings;
+import org.taller01.transactionms.domain.model.StatsGranularity;
+import org.taller01.transactionms.domain.model.StatsQuery;
+import org.taller01.transactionms.domain.model.TransactionField;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.in.AsyncTransferUseCase;
+import org.taller01.transactionms.domain.port.in.BatchTransactionUseCase;
 import org.taller01.transactionms.domain.port.in.TransactionUseCase;
+import org.taller01.transactionms.dto.request.BatchTransactionRequest;
 import org.taller01.transactionms.dto.request.DepositRequest;
 import org.taller01.transactionms.dto.request.TransferRequest;
 import org.taller01.transactionms.dto.request.WithdrawRequest;
+import org.taller01.transactionms.dto.response.AccountSummaryResponse;
+import org.taller01.transactionms.dto.response.TransactionPageResponse;
 import org.taller01.transactionms.dto.response.TransactionResponse;
+import org.taller01.transactionms.dto.response.TransactionStatsResponse;
 import org.taller01.transactionms.infrastructure.mapper.TransactionMapper;
+import org.taller01.transactionms.infrastructure.repository.IdempotencyStore;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.Instant;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/transacciones")
@@ -18,25 +37,108 @@ import reactor.core.publisher.Mono;
 public class TransactionController {
 
   private final TransactionUseCase service; // depende del puerto (no de la impl)
+  private final BatchTransactionUseCase batchService;
+  private final AsyncTransferUseCase asyncTransfers;
   private final TransactionMapper mapper;
+  private final IdempotencyStore idempotency;
 
+  public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+  // Con Idempotency-Key, un reintento devuelve la respuesta original sin repetir la operación.
+  // RequestTimings::handled marca el fin del controlador: el resto hasta Server-Timing es
+  // serialización.
   @PostMapping("/deposito")
-  public Mono<TransactionResponse> deposit(@Valid @RequestBody DepositRequest request) {
-    return service.deposit(request).map(mapper::toResponse);
+  public Mono<TransactionResponse> deposit(@Valid @RequestBody DepositRequest request,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+    return idempotency
+        .execute(idempotencyKey, "deposito", request,
+            () -> service.deposit(request).map(mapper::toResponse))
+        .transform(RequestTimings::handled);
   }
 
   @PostMapping("/retiro")
-  public Mono<TransactionResponse> withdraw(@Valid @RequestBody WithdrawRequest request) {
-    return service.withdraw(request).map(mapper::toResponse);
+  public Mono<TransactionResponse> withdraw(@Valid @RequestBody WithdrawRequest request,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+    return idempotency
+        .execute(idempotencyKey, "retiro", request,
+            () -> service.withdraw(request).map(mapper::toResponse))
+        .transform(RequestTimings::handled);
   }
 
   @PostMapping("/transferencia")
-  public Mono<TransactionResponse> transfer(@Valid @RequestBody TransferRequest request) {
-    return service.transfer(request).map(mapper::toResponse);
+  public Mono<TransactionResponse> transfer(@Valid @RequestBody TransferRequest request,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+    return idempotency
+        .execute(idempotencyKey, "transferencia", request,
+            () -> service.transfer(request).map(mapper::toResponse))
+        .transform(RequestTimings::handled);
+  }
+
+  // Solo inserta el registro PENDING y responde 202; el estado se consulta en GET /{id}
+  @PostMapping(value = "/transferencia", params = "async=true")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public Mono<TransactionResponse> transferAsync(@Valid @RequestBody TransferRequest request,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+    return idempotency
+        .execute(idempotencyKey, "transferencia-async", request,
+            () -> asyncTransfers.accept(request).map(mapper::toResponse))
+        .transform(RequestTimings::handled);
+  }
+
+  // Acepta un arreglo JSON o un flujo NDJSON; los resultados salen en el orden recibido
+  @PostMapping(value = "/lote",
+      consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public Flux<TransactionResponse> batch(
+      @Valid @RequestBody Flux<BatchTransactionRequest> requests) {
+    return batchService.submit(requests).map(mapper::toResponse);
+  }
+
+  // JSON devuelve un arreglo; NDJSON y SSE emiten cada transacción apenas llega del cursor.
+  // Los filtros (from inclusivo, to exclusivo, type/status repetibles) se aplican en Mongo.
+  @GetMapping(value = "/historial", produces = {MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+  // Con fields solo se leen y responden esos campos; sin él, la transacción completa
+  public Flux<Object> history(@RequestParam String accountId,
+      @RequestParam(required = false) Instant from, @RequestParam(required = false) Instant to,
+      @RequestParam(required = false) Set<TransactionType> type,
+      @RequestParam(required = false) Set<TransactionStatus> status,
+      @RequestParam(required = false) Money minAmount,
+      @RequestParam(required = false) Money maxAmount,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) Set<String> fields) {
+    return Flux.defer(() -> {
+      HistoryQuery query = new HistoryQuery(accountId, from, to, type, status, minAmount, maxAmount,
+          limit, TransactionField.fromProperties(fields));
+      return service.getHistory(query).map(tx -> query.fields().isEmpty() ? mapper.toResponse(tx)
+          : mapper.toFieldsResponse(tx, query.fields()));
+    });
+  }
+
+  @GetMapping("/historial/pagina")
+  public Mono<TransactionPageResponse> historyPage(@RequestParam String accountId,
+      @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+    return service.getHistoryPage(accountId, cursor, size).map(mapper::toPageResponse)
+        .transform(RequestTimings::handled);
+  }
+
+  // Totales mantenidos al guardar cada transacción; evita recorrer el historial completo
+  @GetMapping("/resumen")
+  public Mono<AccountSummaryResponse> summary(@RequestParam String accountId) {
+    return service.getSummary(accountId).map(mapper::toSummaryResponse)
+        .transform(RequestTimings::handled);
+  }
+
+  // Buckets precalculados (globales sin accountId); sin rango devuelve los más recientes
+  @GetMapping("/estadisticas")
+  public Flux<TransactionStatsResponse> stats(@RequestParam(required = false) String accountId,
+      @RequestParam(defaultValue = "HOUR") StatsGranularity granularity,
+      @RequestParam(required = false) Instant from, @RequestParam(required = false) Instant to) {
+    return service.getStats(new StatsQuery(accountId, granularity, from, to))
+        .map(mapper::toStatsResponse);
   }
 
-  @GetMapping("/historial")
-  public Flux<TransactionResponse> history(@RequestParam String accountId) {
-    return service.getHistory(accountId).map(mapper::toResponse);
+  @GetMapping("/{id}")
+  public Mono<TransactionResponse> findById(@PathVariable String id) {
+    return service.findById(id).map(mapper::toResponse).transform(RequestTimings::handled);
   }
 }
@@ -0,0 +1,37 @@
+package org.taller01.transactionms.infrastructure.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Proyección por cuenta. Los montos se guardan como Decimal128 para poder acumularlos con
+ * {@code $inc} sin perder precisión.
+ */
+@Document("account_summaries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountSummaryEntity {
+
+  @Id
+  private String accountId;
+
+  @Field(targetType = FieldType.DECIMAL128)
+  private BigDecimal deposited;
+  @Field(targetType = FieldType.DECIMAL128)
+  private BigDecimal withdrawn;
+  @Field(targetType = FieldType.DECIMAL128)
+  private BigDecimal transferredIn;
+  @Field(targetType = FieldType.DECIMAL128)
+  private BigDecimal transferredOut;
+
+  private Map<String, Long> counts;
+  private Instant lastTransactionAt;
+}
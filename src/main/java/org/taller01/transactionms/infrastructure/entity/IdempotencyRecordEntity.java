@@ -0,0 +1,29 @@
+package org.taller01.transactionms.infrastructure.entity;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.taller01.transactionms.dto.response.TransactionResponse;
+import java.time.Instant;
+
+@Document("idempotency_keys")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecordEntity {
+
+  public static final String PENDING = "PENDING";
+  public static final String COMPLETED = "COMPLETED";
+  /** Falló después de escribir en AccountMS: no se puede repetir sin riesgo de duplicar. */
+  public static final String FAILED = "FAILED";
+
+  @Id
+  private String key;
+
+  /** Endpoint + hash del cuerpo; la misma clave con otra solicitud se rechaza. */
+  private String fingerprint;
+  private String status;
+  private TransactionResponse response;
+  private Instant createdAt;
+}
@@ -2,13 +2,22 @@ package org.taller01.transactionms.infrastructure.entity;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.taller01.transactionms.domain.model.Money;
 import org.taller01.transactionms.domain.model.TransactionStatus;
 import org.taller01.transactionms.domain.model.TransactionType;
-import java.math.BigDecimal;
 import java.time.Instant;
 
+// Cuenta + (createdAt, _id) sirve el historial y la paginación; amount, status y type al final
+// permiten filtrar sin leer el documento y cubren las proyecciones habituales (monto y fecha).
+// Reemplazan a from_createdAt y to_createdAt, que quedan redundantes.
 @Document("transactions")
+@CompoundIndexes({@CompoundIndex(name = "from_createdAt_cover",
+    def = "{'fromAccountId': 1, 'createdAt': -1, '_id': -1, 'amount': 1, 'status': 1, 'type': 1}"),
+    @CompoundIndex(name = "to_createdAt_cover",
+        def = "{'toAccountId': 1, 'createdAt': -1, '_id': -1, 'amount': 1, 'status': 1, 'type': 1}")})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +31,7 @@ public class TransactionEntity {
   private TransactionStatus status;
   private String fromAccountId;
   private String toAccountId;
-  private BigDecimal amount;
+  private Money amount;
   private Instant createdAt;
   private String message;
 }
@@ -0,0 +1,39 @@
+package org.taller01.transactionms.infrastructure.entity;
+
+import lombok.*;
+import org.bson.types.Decimal128;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.taller01.transactionms.domain.model.StatsGranularity;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Bucket de estadísticas. El id es {@code scope|granularity|start} para que cada upsert caiga en un
+ * único documento; {@code scope} es la cuenta o {@code *} para el global. Conteos y montos van
+ * anidados por tipo y estado ({@code counts.DEPOSIT.SUCCESS}) para acumularlos con {@code $inc}.
+ */
+@Document("transaction_stats")
+@CompoundIndex(name = "scope_granularity_start", def = "{'scope': 1, 'granularity': 1, 'start': 1}")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionStatsEntity {
+
+  public static final String GLOBAL_SCOPE = "*";
+
+  @Id
+  private String id;
+
+  private String scope;
+  private StatsGranularity granularity;
+  private Instant start;
+  private Map<String, Map<String, Long>> counts;
+  private Map<String, Map<String, Decimal128>> amounts;
+
+  @Indexed(name = "expireAt_ttl", expireAfterSeconds = 0)
+  private Instant expireAt;
+}
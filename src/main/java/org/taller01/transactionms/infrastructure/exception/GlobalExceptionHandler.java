@@ -12,7 +12,14 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.ServerWebInputException;
+import org.taller01.transactionms.domain.exception.AccountBusyException;
+import org.taller01.transactionms.domain.exception.AccountServiceUnavailableException;
+import org.taller01.transactionms.domain.exception.AsyncQueueFullException;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
+import org.taller01.transactionms.domain.exception.IdempotencyConflictException;
+import org.taller01.transactionms.domain.exception.InvalidRequestException;
 import org.taller01.transactionms.domain.exception.ResourceNotFoundException;
+import org.taller01.transactionms.domain.exception.WriteQueueFullException;
 import java.net.ConnectException;
 import java.time.Instant;
 import java.util.Map;
@@ -38,6 +45,47 @@ public class GlobalExceptionHandler {
     return build(HttpStatus.NOT_FOUND, ex.getMessage(), exchange, null);
   }
 
+  @ExceptionHandler(InvalidRequestException.class)
+  public ResponseEntity<ApiError> invalidRequest(InvalidRequestException ex,
+      ServerWebExchange exchange) {
+    return build(HttpStatus.BAD_REQUEST, ex.getMessage(), exchange, null);
+  }
+
+  @ExceptionHandler(AccountBusyException.class)
+  public ResponseEntity<ApiError> accountBusy(AccountBusyException ex, ServerWebExchange exchange) {
+    return build(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), exchange, null);
+  }
+
+  @ExceptionHandler(AccountServiceUnavailableException.class)
+  public ResponseEntity<ApiError> accountServiceUnavailable(AccountServiceUnavailableException ex,
+      ServerWebExchange exchange) {
+    return build(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), exchange, null);
+  }
+
+  @ExceptionHandler(AsyncQueueFullException.class)
+  public ResponseEntity<ApiError> asyncQueueFull(AsyncQueueFullException ex,
+      ServerWebExchange exchange) {
+    return build(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), exchange, null);
+  }
+
+  @ExceptionHandler(WriteQueueFullException.class)
+  public ResponseEntity<ApiError> writeQueueFull(WriteQueueFullException ex,
+      ServerWebExchange exchange) {
+    return build(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), exchange, null);
+  }
+
+  @ExceptionHandler(DeadlineExceededException.class)
+  public ResponseEntity<ApiError> deadlineExceeded(DeadlineExceededException ex,
+      ServerWebExchange exchange) {
+    return build(HttpStatus.GATEWAY_TIMEOUT, ex.getMessage(), exchange, null);
+  }
+
+  @ExceptionHandler(IdempotencyConflictException.class)
+  public ResponseEntity<ApiError> idempotencyConflict(IdempotencyConflictException ex,
+      ServerWebExchange exchange) {
+    return build(HttpStatus.CONFLICT, ex.getMessage(), exchange, null);
+  }
+
   @ExceptionHandler(ResponseStatusException.class)
   public ResponseEntity<ApiError> status(ResponseStatusException ex, ServerWebExchange exchange) {
     HttpStatus status = HttpStatus.valueOf(ex.getStatusCode().value());
@@ -0,0 +1,17 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.infrastructure.config.MoneyJsonComponent;
+
+/**
+ * Saldo informado por AccountMS. No es un monto de entrada: si trae más de {@link Money#SCALE}
+ * decimales se redondea con {@link Money#ofStored(String)} en vez de rechazar la cuenta entera. Va
+ * fuera de {@link MoneyJsonComponent} para que no se registre como deserializador global.
+ */
+public class AccountBalanceDeserializer extends MoneyJsonComponent.Deserializer {
+
+  @Override
+  protected Money parse(String text) {
+    return Money.ofStored(text);
+  }
+}
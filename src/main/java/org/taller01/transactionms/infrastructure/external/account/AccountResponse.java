@@ -1,5 +1,6 @@
 package org.taller01.transactionms.infrastructure.external.account;
 
-import java.math.BigDecimal;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.taller01.transactionms.domain.model.Money;
 
-public record AccountResponse(String id,String accountNumber,BigDecimal balance,AccountType type,String clientId){}
+public record AccountResponse(String id,String accountNumber,@JsonDeserialize(using=AccountBalanceDeserializer.class)Money balance,AccountType type,String clientId){}
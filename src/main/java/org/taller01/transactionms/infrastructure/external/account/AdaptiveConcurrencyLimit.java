@@ -0,0 +1,74 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import org.taller01.transactionms.infrastructure.config.AccountMsProperties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Límite de llamadas concurrentes a AccountMS que se ajusta con AIMD según la latencia observada.
+ * Todo es lock-free: el cupo se toma con CAS sobre {@code inFlight} y el límite (un double) se
+ * actualiza con CAS sobre sus bits.
+ */
+public class AdaptiveConcurrencyLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyThresholdNanos;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong limitBits;
+
+  public AdaptiveConcurrencyLimit(AccountMsProperties.Limit properties) {
+    this.minLimit = properties.getMin();
+    this.maxLimit = properties.getMax();
+    this.backoffRatio = properties.getBackoffRatio();
+    this.latencyThresholdNanos = properties.getLatencyThreshold().toNanos();
+    this.limitBits = new AtomicLong(Double.doubleToLongBits(properties.getInitial()));
+  }
+
+  public boolean tryAcquire() {
+    for (;;) {
+      int current = inFlight.get();
+      if (current >= getLimit()) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Devuelve el cupo y ajusta el límite con la muestra. {@code dropped} marca una señal de
+   * sobrecarga (timeout, 5xx, conexión rechazada).
+   */
+  public void release(long rttNanos, boolean dropped) {
+    int previous = inFlight.getAndDecrement();
+    if (dropped || rttNanos > latencyThresholdNanos) {
+      update(limit -> Math.max(minLimit, limit * backoffRatio));
+    } else if (previous * 2 >= getLimit()) {
+      // Solo crece si el límite se estaba usando; con poca carga la muestra no dice nada
+      update(limit -> Math.min(maxLimit, limit + 1 / limit));
+    }
+  }
+
+  /** Devuelve el cupo sin muestra (el llamador canceló). */
+  public void cancel() {
+    inFlight.decrementAndGet();
+  }
+
+  public int getLimit() {
+    return (int) Double.longBitsToDouble(limitBits.get());
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private void update(DoubleUnaryOperator function) {
+    limitBits.updateAndGet(
+        bits -> Double.doubleToLongBits(function.applyAsDouble(Double.longBitsToDouble(bits))));
+  }
+}
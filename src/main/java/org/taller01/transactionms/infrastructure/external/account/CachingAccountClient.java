@@ -0,0 +1,92 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.RequestDeadline;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import org.taller01.transactionms.infrastructure.config.AccountMsProperties;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Decorador de {@link AccountClientPort} con dos cachés: una corta para {@code getAccount} (saldo)
+ * y una larga para {@code getAccountMetadata}. Las operaciones que mueven saldo invalidan la
+ * entrada corta de su cuenta. Las métricas salen como {@code cache.*} con
+ * {@code cache=accountms.balance|accountms.metadata}.
+ */
+public class CachingAccountClient implements AccountClientPort {
+
+  private final AccountClientPort delegate;
+  private final AsyncCache<String, AccountResponse> balances;
+  private final AsyncCache<String, AccountResponse> metadata;
+
+  public CachingAccountClient(AccountClientPort delegate, AccountMsProperties.Cache properties,
+      MeterRegistry registry) {
+    this.delegate = delegate;
+    this.balances = CaffeineCacheMetrics.monitor(registry,
+        build(properties.getMaximumSize(), properties.getBalanceTtl()), "accountms.balance");
+    this.metadata = CaffeineCacheMetrics.monitor(registry,
+        build(properties.getMaximumSize(), properties.getMetadataTtl()), "accountms.metadata");
+  }
+
+  private static AsyncCache<String, AccountResponse> build(long maximumSize, Duration ttl) {
+    // Caffeine usa W-TinyLFU para desalojar cuando se alcanza el tamaño máximo
+    return Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats()
+        .buildAsync();
+  }
+
+  /**
+   * Las llamadas concurrentes por la misma cuenta comparten el mismo future mientras carga; cada
+   * una corta con su propio plazo por fuera del future.
+   */
+  @Override
+  public Mono<AccountResponse> getAccount(String accountId) {
+    return Mono.deferContextual(ctx -> RequestDeadline.within(
+        Mono.fromFuture(balances.get(accountId, (id, executor) -> load(id, ctx, metadata)), true),
+        ctx));
+  }
+
+  @Override
+  public Mono<AccountResponse> getAccountMetadata(String accountId) {
+    return Mono.deferContextual(ctx -> RequestDeadline.within(
+        Mono.fromFuture(metadata.get(accountId, (id, executor) -> load(id, ctx, balances)), true),
+        ctx));
+  }
+
+  /**
+   * Consulta AccountMS y aprovecha la respuesta para refrescar también la otra caché. Cada carga va
+   * directo al delegado para no anidar cómputos de Caffeine sobre la misma clave. La carga es de
+   * todos los que esperan el future, así que corre sin el plazo de quien la disparó.
+   */
+  private CompletableFuture<AccountResponse> load(String accountId, ContextView ctx,
+      AsyncCache<String, AccountResponse> other) {
+    return delegate.getAccount(accountId).contextWrite(RequestDeadline::clear).contextWrite(ctx)
+        .doOnNext(account -> other.put(accountId, CompletableFuture.completedFuture(account)))
+        .toFuture();
+  }
+
+  @Override
+  public Mono<Void> deposit(String accountId, Money amount) {
+    return delegate.deposit(accountId, amount).doFinally(signal -> invalidateBalance(accountId));
+  }
+
+  @Override
+  public Mono<Void> settleDeposit(String accountId, Money amount) {
+    return delegate.settleDeposit(accountId, amount)
+        .doFinally(signal -> invalidateBalance(accountId));
+  }
+
+  @Override
+  public Mono<Void> withdraw(String accountId, Money amount) {
+    return delegate.withdraw(accountId, amount).doFinally(signal -> invalidateBalance(accountId));
+  }
+
+  private void invalidateBalance(String accountId) {
+    balances.synchronous().invalidate(accountId);
+  }
+}
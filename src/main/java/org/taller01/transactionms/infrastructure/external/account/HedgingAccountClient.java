@@ -0,0 +1,124 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import org.taller01.transactionms.infrastructure.config.AccountMsProperties;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hedging para la lectura {@code getAccount}: si la petición original no respondió tras un
+ * percentil de la latencia reciente se lanza otra y gana la primera que responda. Depósitos y
+ * retiros pasan directo: una escritura nunca se duplica.
+ */
+public class HedgingAccountClient implements AccountClientPort {
+
+  // El presupuesto se lleva en milésimas de token para no usar doubles atómicos
+  private static final long TOKEN = 1000;
+  private static final long MAX_TOKENS = 10 * TOKEN;
+
+  private final AccountClientPort delegate;
+  private final Function<String, Mono<AccountResponse>> hedgeCall;
+  private final LatencyTracker latencies;
+  private final long minDelayNanos;
+  private final long maxDelayNanos;
+  private final long tokensPerRequest;
+  private final AtomicLong budget = new AtomicLong();
+
+  private final Counter hedgesSent;
+  private final Counter hedgesSkipped;
+
+  /**
+   * @param hedgeCall petición que no se coalesce con la original (si no, la segunda se uniría a la
+   *        primera y no serviría de nada)
+   */
+  public HedgingAccountClient(AccountClientPort delegate,
+      Function<String, Mono<AccountResponse>> hedgeCall, AccountMsProperties.Hedging properties,
+      MeterRegistry registry) {
+    this.delegate = delegate;
+    this.hedgeCall = hedgeCall;
+    this.minDelayNanos = properties.getMinDelay().toNanos();
+    this.maxDelayNanos = properties.getMaxDelay().toNanos();
+    this.latencies = new LatencyTracker(properties.getWindowSize(), properties.getPercentile(),
+        properties.getMinSamples(), maxDelayNanos);
+    this.tokensPerRequest = Math.round(properties.getBudgetPercent() / 100 * TOKEN);
+    this.hedgesSent =
+        Counter.builder("accountms.hedge.requests").tag("result", "sent").register(registry);
+    this.hedgesSkipped =
+        Counter.builder("accountms.hedge.requests").tag("result", "no_budget").register(registry);
+  }
+
+  @Override
+  public Mono<AccountResponse> getAccount(String accountId) {
+    return Mono.defer(() -> {
+      budget.accumulateAndGet(tokensPerRequest,
+          (current, add) -> Math.min(MAX_TOKENS, current + add));
+      long start = System.nanoTime();
+      // cache(): el timeout y la carrera se suscriben a la misma petición original
+      Mono<AccountResponse> primary = delegate.getAccount(accountId)
+          .doOnSuccess(account -> latencies.record(System.nanoTime() - start)).cache();
+      return primary.timeout(Duration.ofNanos(delay(start)),
+          Mono.defer(() -> hedgeOrWait(primary, accountId)));
+    });
+  }
+
+  private long delay(long now) {
+    return Math.max(minDelayNanos, Math.min(maxDelayNanos, latencies.percentileNanos(now)));
+  }
+
+  private Mono<AccountResponse> hedgeOrWait(Mono<AccountResponse> primary, String accountId) {
+    if (!tryConsumeToken()) {
+      hedgesSkipped.increment();
+      return primary;
+    }
+    hedgesSent.increment();
+    return Mono.firstWithValue(primary, hedgeCall.apply(accountId))
+        .onErrorMap(NoSuchElementException.class, HedgingAccountClient::firstCause);
+  }
+
+  private boolean tryConsumeToken() {
+    for (;;) {
+      long current = budget.get();
+      if (current < TOKEN) {
+        return false;
+      }
+      if (budget.compareAndSet(current, current - TOKEN)) {
+        return true;
+      }
+    }
+  }
+
+  // Si fallan las dos, firstWithValue envuelve los errores; se devuelve el de la original
+  private static Throwable firstCause(NoSuchElementException ex) {
+    Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+    List<Throwable> errors = Exceptions.unwrapMultiple(cause);
+    return errors.isEmpty() || errors.get(0) == null ? ex : errors.get(0);
+  }
+
+  @Override
+  public Mono<AccountResponse> getAccountMetadata(String accountId) {
+    return delegate.getAccountMetadata(accountId);
+  }
+
+  @Override
+  public Mono<Void> deposit(String accountId, Money amount) {
+    return delegate.deposit(accountId, amount);
+  }
+
+  @Override
+  public Mono<Void> settleDeposit(String accountId, Money amount) {
+    return delegate.settleDeposit(accountId, amount);
+  }
+
+  @Override
+  public Mono<Void> withdraw(String accountId, Money amount) {
+    return delegate.withdraw(accountId, amount);
+  }
+}
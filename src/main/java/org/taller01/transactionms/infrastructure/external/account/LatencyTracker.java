@@ -0,0 +1,59 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ventana circular de las últimas latencias. Registrar es lock-free; el percentil se recalcula como
+ * mucho cada {@link #REFRESH_NANOS} y mientras tanto se devuelve el último valor.
+ */
+class LatencyTracker {
+
+  static final long REFRESH_NANOS = 100_000_000L;
+
+  private final AtomicLongArray samples;
+  private final AtomicLong count = new AtomicLong();
+  private final double percentile;
+  private final int minSamples;
+  private final long fallbackNanos;
+
+  private final AtomicLong computedAt = new AtomicLong(Long.MIN_VALUE);
+  private volatile long cached;
+
+  LatencyTracker(int windowSize, double percentile, int minSamples, long fallbackNanos) {
+    this.samples = new AtomicLongArray(windowSize);
+    this.percentile = percentile;
+    this.minSamples = minSamples;
+    this.fallbackNanos = fallbackNanos;
+    this.cached = fallbackNanos;
+  }
+
+  void record(long nanos) {
+    long n = count.getAndIncrement();
+    samples.set((int) (n % samples.length()), nanos);
+  }
+
+  /** Percentil configurado, o {@code fallbackNanos} hasta juntar {@code minSamples}. */
+  long percentileNanos(long now) {
+    long last = computedAt.get();
+    boolean due = last == Long.MIN_VALUE || now - last >= REFRESH_NANOS;
+    if (due && computedAt.compareAndSet(last, now)) {
+      cached = compute();
+    }
+    return cached;
+  }
+
+  private long compute() {
+    int size = (int) Math.min(count.get(), samples.length());
+    if (size < minSamples) {
+      return fallbackNanos;
+    }
+    long[] copy = new long[size];
+    for (int i = 0; i < size; i++) {
+      copy[i] = samples.get(i);
+    }
+    Arrays.sort(copy);
+    return copy[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+  }
+}
@@ -0,0 +1,92 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.RequestTimings;
+import org.taller01.transactionms.domain.model.RequestTimings.Phase;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import reactor.core.publisher.Mono;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Decorador externo de {@link AccountClientPort}: mide cada operación tal como la ven las
+ * estrategias (incluye caché, hedging y reintentos) como {@code accountms.client{operation,
+ * status}}. {@code status} es el código HTTP de una respuesta de error, {@code 2xx} si la operación
+ * terminó bien o {@code NONE} si no hubo respuesta (plazo vencido, circuito abierto, error de red).
+ */
+public class MeteredAccountClient implements AccountClientPort {
+
+  static final String METRIC = "accountms.client";
+
+  private final AccountClientPort delegate;
+  private final MeterRegistry registry;
+  private final Timer getAccountOk;
+  private final Timer getMetadataOk;
+  private final Timer depositOk;
+  private final Timer withdrawOk;
+
+  public MeteredAccountClient(AccountClientPort delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.registry = registry;
+    this.getAccountOk = timer("getAccount", "2xx");
+    this.getMetadataOk = timer("getAccountMetadata", "2xx");
+    this.depositOk = timer("deposit", "2xx");
+    this.withdrawOk = timer("withdraw", "2xx");
+  }
+
+  @Override
+  public Mono<AccountResponse> getAccount(String accountId) {
+    return timed(() -> delegate.getAccount(accountId), Phase.GET_ACCOUNT, "getAccount",
+        getAccountOk);
+  }
+
+  @Override
+  public Mono<AccountResponse> getAccountMetadata(String accountId) {
+    return timed(() -> delegate.getAccountMetadata(accountId), Phase.GET_ACCOUNT_METADATA,
+        "getAccountMetadata", getMetadataOk);
+  }
+
+  @Override
+  public Mono<Void> deposit(String accountId, Money amount) {
+    return timed(() -> delegate.deposit(accountId, amount), Phase.DEPOSIT, "deposit", depositOk);
+  }
+
+  @Override
+  public Mono<Void> settleDeposit(String accountId, Money amount) {
+    return timed(() -> delegate.settleDeposit(accountId, amount), Phase.DEPOSIT, "deposit",
+        depositOk);
+  }
+
+  @Override
+  public Mono<Void> withdraw(String accountId, Money amount) {
+    return timed(() -> delegate.withdraw(accountId, amount), Phase.WITHDRAW, "withdraw",
+        withdrawOk);
+  }
+
+  private <T> Mono<T> timed(Supplier<Mono<T>> call, Phase phase, String operation, Timer success) {
+    return RequestTimings.time(phase, Mono.defer(() -> {
+      long start = System.nanoTime();
+      return call.get().doOnSuccess(value -> record(success, start))
+          .doOnError(ex -> record(timer(operation, status(ex)), start));
+    }));
+  }
+
+  // Los errores son pocos: el timer se busca en el registro solo en ese caso
+  private Timer timer(String operation, String status) {
+    return Timer.builder(METRIC).description("Duración de las llamadas a AccountMS")
+        .tag("operation", operation).tag("status", status).register(registry);
+  }
+
+  private static String status(Throwable ex) {
+    return ex instanceof WebClientResponseException response
+        ? Integer.toString(response.getStatusCode().value())
+        : "NONE";
+  }
+
+  private static void record(Timer timer, long start) {
+    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,112 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.exception.AccountServiceUnavailableException;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Decorador de {@link AccountClientPort} que protege al servicio cuando AccountMS se degrada:
+ * <ul>
+ * <li>plazo por operación (lectura / escritura);</li>
+ * <li>circuit breaker que falla de inmediato mientras está abierto;</li>
+ * <li>límite adaptativo de llamadas en curso que rechaza en vez de encolar.</li>
+ * </ul>
+ * Los rechazos salen como {@link AccountServiceUnavailableException} y las estrategias los
+ * registran como transacciones FAILED. {@link #settleDeposit} queda fuera de las tres: rechazarlo
+ * dejaría la transferencia a medias.
+ */
+public class ResilientAccountClient implements AccountClientPort {
+
+  private final AccountClientPort delegate;
+  private final CircuitBreaker circuitBreaker;
+  private final AdaptiveConcurrencyLimit limit;
+  private final Duration readTimeout;
+  private final Duration writeTimeout;
+
+  public ResilientAccountClient(AccountClientPort delegate, CircuitBreaker circuitBreaker,
+      AdaptiveConcurrencyLimit limit, Duration readTimeout, Duration writeTimeout) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+    this.limit = limit;
+    this.readTimeout = readTimeout;
+    this.writeTimeout = writeTimeout;
+  }
+
+  @Override
+  public Mono<Void> deposit(String accountId, Money amount) {
+    return guard(() -> delegate.deposit(accountId, amount), writeTimeout);
+  }
+
+  @Override
+  public Mono<Void> settleDeposit(String accountId, Money amount) {
+    return delegate.settleDeposit(accountId, amount);
+  }
+
+  @Override
+  public Mono<Void> withdraw(String accountId, Money amount) {
+    return guard(() -> delegate.withdraw(accountId, amount), writeTimeout);
+  }
+
+  @Override
+  public Mono<AccountResponse> getAccount(String accountId) {
+    return guard(() -> delegate.getAccount(accountId), readTimeout);
+  }
+
+  @Override
+  public Mono<AccountResponse> getAccountMetadata(String accountId) {
+    return guard(() -> delegate.getAccountMetadata(accountId), readTimeout);
+  }
+
+  // El breaker va por fuera: abierto no consume cupo del límite
+  private <T> Mono<T> guard(Supplier<Mono<T>> call, Duration timeout) {
+    return Mono.defer(() -> limited(call, timeout))
+        .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+        .onErrorMap(CallNotPermittedException.class,
+            ex -> new AccountServiceUnavailableException(Messages.ACCOUNTMS_CIRCUIT_OPEN));
+  }
+
+  private <T> Mono<T> limited(Supplier<Mono<T>> call, Duration timeout) {
+    if (!limit.tryAcquire()) {
+      return Mono.error(new AccountServiceUnavailableException(Messages.ACCOUNTMS_OVERLOADED));
+    }
+    long start = System.nanoTime();
+    AtomicBoolean released = new AtomicBoolean();
+    return call.get()
+        .timeout(timeout, Mono.error(() -> new TimeoutException(Messages.ACCOUNTMS_TIMEOUT)))
+        .doOnSuccess(value -> {
+          if (released.compareAndSet(false, true)) {
+            limit.release(System.nanoTime() - start, false);
+          }
+        }).doOnError(ex -> {
+          if (released.compareAndSet(false, true)) {
+            limit.release(System.nanoTime() - start, isOverload(ex));
+          }
+        }).doOnCancel(() -> {
+          if (released.compareAndSet(false, true)) {
+            limit.cancel();
+          }
+        });
+  }
+
+  /**
+   * Fallas que indican que AccountMS está en problemas. Un 4xx (cuenta inexistente, saldo
+   * insuficiente) es una respuesta normal: no abre el circuito ni baja el límite.
+   */
+  public static boolean isOverload(Throwable ex) {
+    if (ex instanceof WebClientResponseException response) {
+      return response.getStatusCode().is5xxServerError();
+    }
+    return ex instanceof TimeoutException || ex instanceof WebClientRequestException;
+  }
+}
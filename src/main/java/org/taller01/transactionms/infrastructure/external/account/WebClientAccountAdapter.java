@@ -1,37 +1,128 @@
 package org.taller01.transactionms.infrastructure.external.account;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.model.AccountMutations;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.RequestDeadline;
 import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import org.taller01.transactionms.infrastructure.config.AccountMsProperties;
 import reactor.core.publisher.Mono;
-import java.math.BigDecimal;
+import reactor.util.context.ContextView;
+import reactor.util.retry.Retry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Cliente HTTP de AccountMS. Si la solicitud trae plazo ({@link RequestDeadline} en el contexto),
+ * se reenvía lo que queda en {@code X-Request-Timeout} (salvo en la lectura compartida de
+ * {@link #getAccount}). Las lecturas se cortan al vencer; las escrituras solo se verifican antes de
+ * salir, porque cortarlas en vuelo puede dejarlas aplicadas en AccountMS sin registro aquí.
+ */
 @Component
-@RequiredArgsConstructor
 public class WebClientAccountAdapter implements AccountClientPort {
 
   private final WebClient webClient;
+  private final Retry readRetry;
+
+  // Lecturas en curso por cuenta: los suscriptores concurrentes comparten la misma petición GET
+  private final Map<String, Mono<AccountResponse>> inFlight = new ConcurrentHashMap<>();
+
+  public WebClientAccountAdapter(WebClient webClient, AccountMsProperties properties) {
+    this.webClient = webClient;
+    AccountMsProperties.Retry retry = properties.getRetry();
+    this.readRetry = Retry.backoff(retry.getMaxRetries(), retry.getMinBackoff())
+        .maxBackoff(retry.getMaxBackoff()).jitter(retry.getJitter())
+        .filter(WebClientAccountAdapter::isTransient)
+        .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+  }
 
   @Override
-  public Mono<Void> deposit(String accountId, BigDecimal amount) {
-    return webClient.post()
+  public Mono<Void> deposit(String accountId, Money amount) {
+    return Mono.deferContextual(ctx -> beforeWrite(ctx).then(webClient.post()
         .uri(
             uri -> uri.path("/cuentas/{id}/deposito").queryParam("amount", amount).build(accountId))
-        .retrieve().toBodilessEntity().then();
+        .headers(headers -> propagate(headers, ctx)).retrieve().toBodilessEntity().then()));
   }
 
 
   @Override
-  public Mono<Void> withdraw(String accountId, BigDecimal amount) {
-    return webClient.post()
+  public Mono<Void> withdraw(String accountId, Money amount) {
+    return Mono.deferContextual(ctx -> beforeWrite(ctx).then(webClient.post()
         .uri(uri -> uri.path("/cuentas/{id}/retiro").queryParam("amount", amount).build(accountId))
-        .retrieve().toBodilessEntity().then();
+        .headers(headers -> propagate(headers, ctx)).retrieve().toBodilessEntity().then()));
   }
 
+  /**
+   * Los suscriptores concurrentes de una cuenta comparten la petición, pero cada uno corta con su
+   * propio plazo: el de quien llegó primero no decide por los demás.
+   */
   @Override
   public Mono<AccountResponse> getAccount(String accountId) {
-    return webClient.get().uri("/cuentas/id/{id}", accountId).retrieve()
-        .bodyToMono(AccountResponse.class);
+    return Mono.deferContextual(ctx -> RequestDeadline
+        .within(Mono.defer(() -> inFlight.computeIfAbsent(accountId, this::fetchShared)), ctx));
+  }
+
+  /**
+   * share() reparte el mismo resultado o error a todos los suscriptores y cancela la petición solo
+   * cuando todos cancelan. La entrada se retira al terminar, así que nada queda en caché. La
+   * petición compartida no lleva plazo (ni corte ni {@code X-Request-Timeout}), porque no es de
+   * ningún suscriptor en particular. Cada Mono retira solo su propia entrada: uno viejo que termina
+   * tarde (share() vuelve a suscribirse si llega alguien después de terminar) no debe sacar a uno
+   * más nuevo y romper el coalescing.
+   */
+  private Mono<AccountResponse> fetchShared(String accountId) {
+    AtomicReference<Mono<AccountResponse>> self = new AtomicReference<>();
+    Mono<AccountResponse> shared = attempts(accountId).contextWrite(RequestDeadline::clear)
+        .doFinally(signal -> inFlight.remove(accountId, self.get())).share();
+    self.set(shared);
+    return shared;
+  }
+
+  /**
+   * GET sin coalescer: siempre sale una petición nueva. Lo usa el hedging para la segunda petición,
+   * que de otro modo se sumaría a la primera.
+   */
+  public Mono<AccountResponse> fetchAccount(String accountId) {
+    return Mono.deferContextual(ctx -> RequestDeadline.within(attempts(accountId), ctx));
+  }
+
+  // GET con reintentos; reenvía el plazo del contexto, si lo hay
+  private Mono<AccountResponse> attempts(String accountId) {
+    return Mono.deferContextual(ctx -> Mono.defer(() -> webClient.get()
+        .uri("/cuentas/id/{id}", accountId).headers(headers -> propagate(headers, ctx)).retrieve()
+        .bodyToMono(AccountResponse.class)).retryWhen(readRetry));
+  }
+
+  // Con el plazo vencido la escritura no sale; si sale, queda marcada en AccountMutations
+  private static Mono<Void> beforeWrite(ContextView ctx) {
+    Optional<RequestDeadline> deadline = RequestDeadline.from(ctx);
+    if (deadline.filter(RequestDeadline::isExpired).isPresent()) {
+      return expired();
+    }
+    return Mono.fromRunnable(() -> AccountMutations.markAttempted(ctx));
+  }
+
+  private static <T> Mono<T> expired() {
+    return Mono.error(() -> new DeadlineExceededException(Messages.DEADLINE_EXCEEDED));
+  }
+
+  private static void propagate(HttpHeaders headers, ContextView ctx) {
+    RequestDeadline.from(ctx).ifPresent(deadline -> headers.set(RequestDeadline.HEADER,
+        Long.toString(Math.max(1, deadline.remaining().toMillis()))));
+  }
+
+  private static boolean isTransient(Throwable ex) {
+    if (ex instanceof WebClientResponseException response) {
+      return response.getStatusCode().is5xxServerError();
+    }
+    return ex instanceof WebClientRequestException;
   }
 }
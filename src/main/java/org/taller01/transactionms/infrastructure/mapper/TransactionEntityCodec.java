@@ -0,0 +1,146 @@
+package org.taller01.transactionms.infrastructure.mapper;
+
+import org.bson.BsonObjectId;
+import org.bson.BsonReader;
+import org.bson.BsonSerializationException;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+import java.time.Instant;
+
+/**
+ * Codec escrito a mano para {@link TransactionEntity}: lee y escribe directo sobre el stream BSON,
+ * sin pasar por un {@code Document} intermedio ni por la reflexión de
+ * {@code MappingMongoConverter}. Produce el mismo documento que Spring Data (mismos nombres de
+ * campo, enums por nombre, id como {@code ObjectId}, monto como {@code Decimal128}) para que las
+ * consultas y los índices existentes sigan sirviendo. Ignora {@code _class} y cualquier campo
+ * desconocido, y acepta los montos antiguos guardados como texto.
+ */
+public final class TransactionEntityCodec implements CollectibleCodec<TransactionEntity> {
+
+  static final String ID = "_id";
+  static final String TYPE = "type";
+  static final String STATUS = "status";
+  static final String FROM_ACCOUNT_ID = "fromAccountId";
+  static final String TO_ACCOUNT_ID = "toAccountId";
+  static final String AMOUNT = "amount";
+  static final String CREATED_AT = "createdAt";
+  static final String MESSAGE = "message";
+
+  @Override
+  public void encode(BsonWriter writer, TransactionEntity entity, EncoderContext context) {
+    writer.writeStartDocument();
+    if (entity.getId() != null) {
+      writer.writeName(ID);
+      writeId(writer, entity.getId());
+    }
+    if (entity.getType() != null) {
+      writer.writeString(TYPE, entity.getType().name());
+    }
+    if (entity.getStatus() != null) {
+      writer.writeString(STATUS, entity.getStatus().name());
+    }
+    writeString(writer, FROM_ACCOUNT_ID, entity.getFromAccountId());
+    writeString(writer, TO_ACCOUNT_ID, entity.getToAccountId());
+    if (entity.getAmount() != null) {
+      writer.writeDecimal128(AMOUNT, new Decimal128(entity.getAmount().toBigDecimal()));
+    }
+    if (entity.getCreatedAt() != null) {
+      writer.writeDateTime(CREATED_AT, entity.getCreatedAt().toEpochMilli());
+    }
+    writeString(writer, MESSAGE, entity.getMessage());
+    writer.writeEndDocument();
+  }
+
+  @Override
+  public TransactionEntity decode(BsonReader reader, DecoderContext context) {
+    TransactionEntity entity = new TransactionEntity();
+    reader.readStartDocument();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      String name = reader.readName();
+      if (reader.getCurrentBsonType() == BsonType.NULL) {
+        reader.readNull();
+        continue;
+      }
+      switch (name) {
+        case ID -> entity.setId(readId(reader));
+        case TYPE -> entity.setType(TransactionType.valueOf(reader.readString()));
+        case STATUS -> entity.setStatus(TransactionStatus.valueOf(reader.readString()));
+        case FROM_ACCOUNT_ID -> entity.setFromAccountId(reader.readString());
+        case TO_ACCOUNT_ID -> entity.setToAccountId(reader.readString());
+        case AMOUNT -> entity.setAmount(readAmount(reader));
+        case CREATED_AT -> entity.setCreatedAt(Instant.ofEpochMilli(reader.readDateTime()));
+        case MESSAGE -> entity.setMessage(reader.readString());
+        default -> reader.skipValue();
+      }
+    }
+    reader.readEndDocument();
+    return entity;
+  }
+
+  @Override
+  public Class<TransactionEntity> getEncoderClass() {
+    return TransactionEntity.class;
+  }
+
+  // Igual que Spring Data: un id con forma de ObjectId se guarda como ObjectId
+  @Override
+  public TransactionEntity generateIdIfAbsentFromDocument(TransactionEntity entity) {
+    if (entity.getId() == null) {
+      entity.setId(new ObjectId().toHexString());
+    }
+    return entity;
+  }
+
+  @Override
+  public boolean documentHasId(TransactionEntity entity) {
+    return entity.getId() != null;
+  }
+
+  @Override
+  public BsonValue getDocumentId(TransactionEntity entity) {
+    if (entity.getId() == null) {
+      throw new IllegalStateException("La transacción no tiene id");
+    }
+    return ObjectId.isValid(entity.getId()) ? new BsonObjectId(new ObjectId(entity.getId()))
+        : new BsonString(entity.getId());
+  }
+
+  private static void writeId(BsonWriter writer, String id) {
+    if (ObjectId.isValid(id)) {
+      writer.writeObjectId(new ObjectId(id));
+    } else {
+      writer.writeString(id);
+    }
+  }
+
+  private static String readId(BsonReader reader) {
+    return reader.getCurrentBsonType() == BsonType.OBJECT_ID ? reader.readObjectId().toHexString()
+        : reader.readString();
+  }
+
+  private static Money readAmount(BsonReader reader) {
+    return switch (reader.getCurrentBsonType()) {
+      case DECIMAL128 -> Money.ofStored(reader.readDecimal128().bigDecimalValue());
+      case STRING -> Money.ofStored(reader.readString());
+      default -> throw new BsonSerializationException(
+          "Monto con tipo BSON no soportado: " + reader.getCurrentBsonType());
+    };
+  }
+
+  private static void writeString(BsonWriter writer, String name, String value) {
+    if (value != null) {
+      writer.writeString(name, value);
+    }
+  }
+}
@@ -0,0 +1,339 @@
+package org.taller01.transactionms.infrastructure.mapper;
+
+import org.bson.BsonSerializationException;
+import org.bson.RawBsonDocument;
+import org.bson.types.Decimal128;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.TransactionField;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Escribe una transacción guardada como JSON leyendo directamente los bytes BSON del documento, sin
+ * decodificarlo a entidad, dominio ni DTO. El resultado es el mismo que Jackson produce para
+ * {@code TransactionResponse}: mismos campos y orden, {@code null} para lo ausente, monto como
+ * número con dos decimales y fecha en ISO-8601. Los textos se copian tal cual (BSON ya los guarda
+ * en UTF-8) escapando solo lo que Jackson escapa. Con una proyección ({@code fields}) escribe solo
+ * esos campos, en el mismo orden.
+ *
+ * <p>
+ * Guarda entre llamadas la posición de cada campo, así que no es thread-safe: una instancia por
+ * stream.
+ */
+public final class TransactionJsonWriter {
+
+  private static final byte ABSENT = 0x00;
+  private static final byte STRING = 0x02;
+  private static final byte OBJECT_ID = 0x07;
+  private static final byte DATE_TIME = 0x09;
+  private static final byte NULL = 0x0A;
+  private static final byte DECIMAL128 = 0x13;
+
+  // Mismo orden que TransactionField y que los campos de TransactionResponse
+  private static final String[] FIELDS = {TransactionEntityCodec.ID, TransactionEntityCodec.TYPE,
+      TransactionEntityCodec.STATUS, TransactionEntityCodec.FROM_ACCOUNT_ID,
+      TransactionEntityCodec.TO_ACCOUNT_ID, TransactionEntityCodec.AMOUNT,
+      TransactionEntityCodec.CREATED_AT, TransactionEntityCodec.MESSAGE};
+  private static final int ID = 0;
+  private static final int AMOUNT = 5;
+  private static final int CREATED_AT = 6;
+
+  private static final byte[][] NAMES = new byte[FIELDS.length][];
+  private static final byte[][] FIRST_PREFIXES = new byte[FIELDS.length][];
+  private static final byte[][] PREFIXES = new byte[FIELDS.length][];
+
+  static {
+    for (int i = 0; i < FIELDS.length; i++) {
+      NAMES[i] = ascii(FIELDS[i]);
+      String json = TransactionField.values()[i].property();
+      FIRST_PREFIXES[i] = ascii("{\"" + json + "\":");
+      PREFIXES[i] = ascii(",\"" + json + "\":");
+    }
+  }
+
+  private static final byte[] NULL_LITERAL = ascii("null");
+  private static final byte[] LOWER_HEX = ascii("0123456789abcdef");
+  private static final byte[] UPPER_HEX = ascii("0123456789ABCDEF");
+
+  // Letra que sigue a la barra en los escapes cortos; 0 usa la forma \\u00XX
+  private static final byte[] SHORT_ESCAPES = new byte['\\' + 1];
+
+  static {
+    SHORT_ESCAPES['"'] = '"';
+    SHORT_ESCAPES['\\'] = '\\';
+    SHORT_ESCAPES['\b'] = 'b';
+    SHORT_ESCAPES['\t'] = 't';
+    SHORT_ESCAPES['\n'] = 'n';
+    SHORT_ESCAPES['\f'] = 'f';
+    SHORT_ESCAPES['\r'] = 'r';
+  }
+
+  // Rango de años de cuatro dígitos; fuera de él ISO-8601 agrega signo y se usa Instant.toString
+  private static final long MIN_FAST_MILLIS = -62_167_219_200_000L; // 0000-01-01T00:00:00Z
+  private static final long MAX_FAST_MILLIS = 253_402_300_800_000L; // 10000-01-01T00:00:00Z
+
+  private final int[] selected;
+  private final int[] offsets = new int[FIELDS.length];
+  private final byte[] types = new byte[FIELDS.length];
+  private final byte[] digits = new byte[20];
+
+  public TransactionJsonWriter() {
+    this(Set.of());
+  }
+
+  /** Solo los campos indicados; vacío escribe la transacción completa. */
+  public TransactionJsonWriter(Set<TransactionField> fields) {
+    this.selected = Arrays.stream(TransactionField.values())
+        .filter(field -> fields.isEmpty() || fields.contains(field))
+        .mapToInt(TransactionField::ordinal).toArray();
+  }
+
+  public void write(RawBsonDocument document, DataBuffer out) {
+    ByteBuffer bson = document.getByteBuffer().asNIO();
+    write(bson.array(), bson.arrayOffset() + bson.position(), out);
+  }
+
+  void write(byte[] bson, int start, DataBuffer out) {
+    index(bson, start);
+    for (int i = 0; i < selected.length; i++) {
+      int field = selected[i];
+      out.write(i == 0 ? FIRST_PREFIXES[field] : PREFIXES[field]);
+      writeValue(bson, field, out);
+    }
+    out.write((byte) '}');
+  }
+
+  // Un solo recorrido del documento para ubicar los campos; el resto se salta por tamaño
+  private void index(byte[] bson, int start) {
+    Arrays.fill(types, ABSENT);
+    int end = start + readInt(bson, start) - 1;
+    int pos = start + 4;
+    while (pos < end) {
+      byte type = bson[pos++];
+      int name = pos;
+      while (bson[pos] != 0) {
+        pos++;
+      }
+      int field = field(bson, name, pos - name);
+      pos++;
+      if (field >= 0) {
+        types[field] = type;
+        offsets[field] = pos;
+      }
+      pos += valueSize(bson, pos, type);
+    }
+  }
+
+  private static int field(byte[] bson, int name, int length) {
+    for (int i = 0; i < NAMES.length; i++) {
+      if (Arrays.equals(NAMES[i], 0, NAMES[i].length, bson, name, name + length)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int valueSize(byte[] bson, int pos, byte type) {
+    return switch (type) {
+      case 0x01, DATE_TIME, 0x11, 0x12 -> 8; // double, fecha, timestamp, int64
+      case STRING, 0x0D, 0x0E -> 4 + readInt(bson, pos); // texto, código, símbolo
+      case 0x03, 0x04, 0x0F -> readInt(bson, pos); // documento, arreglo, código con ámbito
+      case 0x05 -> 5 + readInt(bson, pos); // binario
+      case 0x06, NULL, (byte) 0xFF, 0x7F -> 0; // undefined, null, min/max key
+      case OBJECT_ID -> 12;
+      case 0x08 -> 1; // booleano
+      case 0x0B -> cstringEnd(bson, cstringEnd(bson, pos)) - pos; // regex
+      case 0x0C -> 4 + readInt(bson, pos) + 12; // DBPointer
+      case 0x10 -> 4; // int32
+      case DECIMAL128 -> 16;
+      default -> throw new BsonSerializationException("Tipo BSON desconocido: " + type);
+    };
+  }
+
+  private static int cstringEnd(byte[] bson, int pos) {
+    while (bson[pos] != 0) {
+      pos++;
+    }
+    return pos + 1;
+  }
+
+  private void writeValue(byte[] bson, int field, DataBuffer out) {
+    byte type = types[field];
+    int at = offsets[field];
+    if (type == ABSENT || type == NULL) {
+      out.write(NULL_LITERAL);
+    } else if (type == STRING && field == AMOUNT) {
+      // Montos antiguos guardados como texto
+      writeMoney(Money.ofStored(readString(bson, at)).minorUnits(), out);
+    } else if (type == STRING && field != CREATED_AT) {
+      writeString(bson, at, out);
+    } else if (type == OBJECT_ID && field == ID) {
+      writeObjectId(bson, at, out);
+    } else if (type == DECIMAL128 && field == AMOUNT) {
+      writeMoney(minorUnits(readLong(bson, at), readLong(bson, at + 8)), out);
+    } else if (type == DATE_TIME && field == CREATED_AT) {
+      writeInstant(readLong(bson, at), out);
+    } else {
+      throw new BsonSerializationException(
+          "Campo " + FIELDS[field] + " con tipo BSON no soportado: " + type);
+    }
+  }
+
+  private static void writeString(byte[] bson, int at, DataBuffer out) {
+    int from = at + 4;
+    int end = from + readInt(bson, at) - 1;
+    int run = from;
+    out.write((byte) '"');
+    for (int i = from; i < end; i++) {
+      int b = bson[i] & 0xFF;
+      if (b < 0x20 || b == '"' || b == '\\') {
+        out.write(bson, run, i - run);
+        writeEscape(b, out);
+        run = i + 1;
+      }
+    }
+    out.write(bson, run, end - run);
+    out.write((byte) '"');
+  }
+
+  // Mismos escapes que Jackson: cortos para los habituales, \\u00XX para el resto de controles
+  private static void writeEscape(int b, DataBuffer out) {
+    out.write((byte) '\\');
+    byte escape = SHORT_ESCAPES[b];
+    if (escape != 0) {
+      out.write(escape);
+    } else {
+      out.write((byte) 'u').write((byte) '0').write((byte) '0').write(UPPER_HEX[b >> 4])
+          .write(UPPER_HEX[b & 0xF]);
+    }
+  }
+
+  private static void writeObjectId(byte[] bson, int at, DataBuffer out) {
+    out.write((byte) '"');
+    for (int i = at; i < at + 12; i++) {
+      out.write(LOWER_HEX[(bson[i] >> 4) & 0xF]).write(LOWER_HEX[bson[i] & 0xF]);
+    }
+    out.write((byte) '"');
+  }
+
+  /**
+   * Unidades menores de un {@code Decimal128} leyendo coeficiente y exponente de sus bits. Los
+   * valores que no caben en ese atajo (coeficiente de más de 63 bits, infinito, NaN) pasan por
+   * {@link Money#ofStored(java.math.BigDecimal)}, igual que al decodificar la entidad.
+   */
+  private static long minorUnits(long low, long high) {
+    if ((high & 0x6000_0000_0000_0000L) == 0x6000_0000_0000_0000L
+        || (high & 0x1_FFFF_FFFF_FFFFL) != 0 || low < 0) {
+      return slowMinorUnits(low, high);
+    }
+    int shift = (int) ((high >>> 49) & 0x3FFF) - 6176 + Money.SCALE;
+    long units = low;
+    for (; shift > 0 && units != 0; shift--) {
+      units = Math.multiplyExact(units, 10);
+    }
+    for (; shift < 0; shift++) {
+      if (units % 10 != 0) {
+        return slowMinorUnits(low, high);
+      }
+      units /= 10;
+    }
+    return high < 0 ? -units : units;
+  }
+
+  private static long slowMinorUnits(long low, long high) {
+    return Money.ofStored(Decimal128.fromIEEE754BIDEncoding(high, low).bigDecimalValue())
+        .minorUnits();
+  }
+
+  // Igual que Money.toString: signo, parte entera, punto y dos decimales
+  private void writeMoney(long minorUnits, DataBuffer out) {
+    if (minorUnits < 0) {
+      out.write((byte) '-');
+    }
+    long abs = Math.abs(minorUnits);
+    writeDigits(abs / 100, out);
+    long fraction = abs % 100;
+    out.write((byte) '.').write((byte) ('0' + fraction / 10)).write((byte) ('0' + fraction % 10));
+  }
+
+  private void writeDigits(long value, DataBuffer out) {
+    int pos = digits.length;
+    do {
+      digits[--pos] = (byte) ('0' + value % 10);
+      value /= 10;
+    } while (value != 0);
+    out.write(digits, pos, digits.length - pos);
+  }
+
+  /**
+   * Mismo texto que {@link Instant#toString()} ({@code DateTimeFormatter.ISO_INSTANT}): segundos
+   * siempre y milisegundos solo si no son cero. La fecha civil sale del día epoch con el algoritmo
+   * de H. Hinnant para no crear {@code LocalDateTime}.
+   */
+  private void writeInstant(long epochMillis, DataBuffer out) {
+    if (epochMillis < MIN_FAST_MILLIS || epochMillis >= MAX_FAST_MILLIS) {
+      out.write((byte) '"');
+      out.write(ascii(Instant.ofEpochMilli(epochMillis).toString()));
+      out.write((byte) '"');
+      return;
+    }
+    long seconds = Math.floorDiv(epochMillis, 1000L);
+    int millis = (int) Math.floorMod(epochMillis, 1000L);
+    long days = Math.floorDiv(seconds, 86_400L);
+    int secondOfDay = (int) Math.floorMod(seconds, 86_400L);
+
+    long z = days + 719_468;
+    long era = Math.floorDiv(z, 146_097);
+    long dayOfEra = z - era * 146_097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long shiftedMonth = (5 * dayOfYear + 2) / 153;
+    int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+    int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+    int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+    out.write((byte) '"');
+    writePadded(year / 100, out);
+    writePadded(year % 100, out);
+    out.write((byte) '-');
+    writePadded(month, out);
+    out.write((byte) '-');
+    writePadded(day, out);
+    out.write((byte) 'T');
+    writePadded(secondOfDay / 3600, out);
+    out.write((byte) ':');
+    writePadded(secondOfDay / 60 % 60, out);
+    out.write((byte) ':');
+    writePadded(secondOfDay % 60, out);
+    if (millis != 0) {
+      out.write((byte) '.').write((byte) ('0' + millis / 100));
+      writePadded(millis % 100, out);
+    }
+    out.write((byte) 'Z').write((byte) '"');
+  }
+
+  private static void writePadded(int twoDigits, DataBuffer out) {
+    out.write((byte) ('0' + twoDigits / 10)).write((byte) ('0' + twoDigits % 10));
+  }
+
+  private static String readString(byte[] bson, int at) {
+    return new String(bson, at + 4, readInt(bson, at) - 1, StandardCharsets.UTF_8);
+  }
+
+  private static int readInt(byte[] bson, int pos) {
+    return (bson[pos] & 0xFF) | (bson[pos + 1] & 0xFF) << 8 | (bson[pos + 2] & 0xFF) << 16
+        | (bson[pos + 3] & 0xFF) << 24;
+  }
+
+  private static long readLong(byte[] bson, int pos) {
+    return (readInt(bson, pos) & 0xFFFF_FFFFL) | ((long) readInt(bson, pos + 4)) << 32;
+  }
+
+  private static byte[] ascii(String text) {
+    return text.getBytes(StandardCharsets.US_ASCII);
+  }
+}
@@ -1,8 +1,18 @@
 package org.taller01.transactionms.infrastructure.mapper;
 
 import org.springframework.stereotype.Component;
+import org.taller01.transactionms.domain.model.AccountSummary;
 import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionField;
+import org.taller01.transactionms.domain.model.TransactionPage;
+import org.taller01.transactionms.domain.model.TransactionStats;
+import org.taller01.transactionms.dto.response.AccountSummaryResponse;
+import org.taller01.transactionms.dto.response.TransactionPageResponse;
 import org.taller01.transactionms.dto.response.TransactionResponse;
+import org.taller01.transactionms.dto.response.TransactionStatsResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 @Component
 public class TransactionMapper {
@@ -12,4 +22,39 @@ public class TransactionMapper {
         .fromAccountId(tx.getFromAccountId()).toAccountId(tx.getToAccountId())
         .amount(tx.getAmount()).createdAt(tx.getCreatedAt()).message(tx.getMessage()).build();
   }
+
+  /**
+   * Solo los campos pedidos, en el orden de {@link TransactionResponse} y serializados igual (los
+   * pedidos que no tienen valor salen como {@code null}).
+   */
+  public Map<String, Object> toFieldsResponse(Transaction tx, Set<TransactionField> fields) {
+    Map<String, Object> response = new LinkedHashMap<>();
+    for (TransactionField field : TransactionField.values()) {
+      if (fields.contains(field)) {
+        response.put(field.property(), field.valueOf(tx));
+      }
+    }
+    return response;
+  }
+
+  public TransactionPageResponse toPageResponse(TransactionPage page) {
+    return TransactionPageResponse.builder()
+        .content(page.items().stream().map(this::toResponse).toList()).nextCursor(page.nextCursor())
+        .build();
+  }
+
+  public AccountSummaryResponse toSummaryResponse(AccountSummary summary) {
+    return AccountSummaryResponse.builder().accountId(summary.accountId())
+        .totalDeposited(summary.totalDeposited()).totalWithdrawn(summary.totalWithdrawn())
+        .totalTransferredIn(summary.totalTransferredIn())
+        .totalTransferredOut(summary.totalTransferredOut()).countsByStatus(summary.countsByStatus())
+        .lastTransactionAt(summary.lastTransactionAt()).build();
+  }
+
+  public TransactionStatsResponse toStatsResponse(TransactionStats stats) {
+    return TransactionStatsResponse.builder().accountId(stats.accountId())
+        .granularity(stats.granularity()).start(stats.start())
+        .end(stats.start().plus(stats.granularity().size())).counts(stats.counts())
+        .amounts(stats.amounts()).build();
+  }
 }
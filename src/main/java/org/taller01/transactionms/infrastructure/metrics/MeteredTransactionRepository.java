@@ -0,0 +1,122 @@
+package org.taller01.transactionms.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.taller01.transactionms.domain.model.HistoryCursor;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.RequestTimings;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorador de {@link ITransactionRepository} que mide las operaciones del camino caliente como
+ * {@code transactionms.repository{operation, outcome}} y las filas que entrega cada consulta de
+ * historial ({@code transactionms.history.rows}). El tiempo del historial cubre el stream completo,
+ * hasta que el cliente termina de consumirlo o lo cancela. Los guardados también se suman a la fase
+ * {@code db-save} del desglose de la solicitud.
+ */
+public class MeteredTransactionRepository implements ITransactionRepository {
+
+  private final ITransactionRepository delegate;
+  private final Timer saveSuccess;
+  private final Timer saveError;
+  private final Timer saveAllSuccess;
+  private final Timer saveAllError;
+  private final Timer historySuccess;
+  private final Timer historyError;
+  private final DistributionSummary historyRows;
+
+  public MeteredTransactionRepository(ITransactionRepository delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    this.saveSuccess = timer(registry, "save", "success");
+    this.saveError = timer(registry, "save", "error");
+    this.saveAllSuccess = timer(registry, "saveAll", "success");
+    this.saveAllError = timer(registry, "saveAll", "error");
+    this.historySuccess = timer(registry, "findHistory", "success");
+    this.historyError = timer(registry, "findHistory", "error");
+    this.historyRows = DistributionSummary.builder("transactionms.history.rows")
+        .description("Transacciones entregadas por consulta de historial").register(registry);
+  }
+
+  private static Timer timer(MeterRegistry registry, String operation, String outcome) {
+    return Timer.builder("transactionms.repository")
+        .description("Duración de las operaciones del repositorio de transacciones")
+        .tag("operation", operation).tag("outcome", outcome).register(registry);
+  }
+
+  @Override
+  public Mono<Transaction> save(Transaction transaction) {
+    return RequestTimings.time(RequestTimings.Phase.SAVE, Mono.defer(() -> {
+      long start = System.nanoTime();
+      return delegate.save(transaction).doOnSuccess(tx -> record(saveSuccess, start))
+          .doOnError(ex -> record(saveError, start));
+    }));
+  }
+
+  @Override
+  public Flux<Transaction> saveAll(List<Transaction> transactions) {
+    return Flux.deferContextual(ctx -> {
+      RequestTimings timings = RequestTimings.from(ctx);
+      long start = System.nanoTime();
+      return delegate.saveAll(transactions).doOnComplete(() -> record(saveAllSuccess, start))
+          .doOnError(ex -> record(saveAllError, start)).doFinally(signal -> {
+            if (timings != null) {
+              timings.record(RequestTimings.Phase.SAVE, System.nanoTime() - start);
+            }
+          });
+    });
+  }
+
+  @Override
+  public Flux<Transaction> findHistory(HistoryQuery query) {
+    return Flux.defer(() -> {
+      long start = System.nanoTime();
+      AtomicLong rows = new AtomicLong();
+      return delegate.findHistory(query).doOnNext(tx -> rows.incrementAndGet())
+          .doOnError(ex -> record(historyError, start)).doFinally(signal -> {
+            historyRows.record(rows.get());
+            if (signal != SignalType.ON_ERROR) {
+              record(historySuccess, start);
+            }
+          });
+    });
+  }
+
+  private static void record(Timer timer, long start) {
+    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public Mono<Transaction> update(Transaction transaction) {
+    return delegate.update(transaction);
+  }
+
+  @Override
+  public Mono<Transaction> compareAndSetStatus(String id, TransactionStatus expected,
+      TransactionStatus status) {
+    return delegate.compareAndSetStatus(id, expected, status);
+  }
+
+  @Override
+  public Mono<Transaction> findById(String id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public Flux<Transaction> findByStatus(TransactionStatus status) {
+    return delegate.findByStatus(status);
+  }
+
+  @Override
+  public Flux<Transaction> findPageByAccountId(String accountId, HistoryCursor after, int limit) {
+    return delegate.findPageByAccountId(accountId, after, limit);
+  }
+}
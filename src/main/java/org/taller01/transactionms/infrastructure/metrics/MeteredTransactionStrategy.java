@@ -0,0 +1,43 @@
+package org.taller01.transactionms.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.strategy.TransactionStrategy;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mide cada estrategia como {@code transactionms.strategy{type, method, status}}: {@code execute}
+ * incluye el guardado y {@code process} solo la llamada a AccountMS.
+ */
+public class MeteredTransactionStrategy<T> implements TransactionStrategy<T> {
+
+  private final TransactionStrategy<T> delegate;
+  private final TransactionTimer executeTimer;
+  private final TransactionTimer processTimer;
+
+  public MeteredTransactionStrategy(TransactionStrategy<T> delegate, MeterRegistry registry) {
+    this.delegate = delegate;
+    Tags tags = Tags.of("type", delegate.getType().name());
+    this.executeTimer = new TransactionTimer(registry, "transactionms.strategy",
+        "Duración de una estrategia de transacción", tags.and("method", "execute"));
+    this.processTimer = new TransactionTimer(registry, "transactionms.strategy",
+        "Duración de una estrategia de transacción", tags.and("method", "process"));
+  }
+
+  @Override
+  public TransactionType getType() {
+    return delegate.getType();
+  }
+
+  @Override
+  public Mono<Transaction> execute(T request) {
+    return executeTimer.time(delegate.execute(request));
+  }
+
+  @Override
+  public Mono<Transaction> process(T request) {
+    return processTimer.time(delegate.process(request));
+  }
+}
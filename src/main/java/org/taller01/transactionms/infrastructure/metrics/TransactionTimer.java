@@ -0,0 +1,45 @@
+package org.taller01.transactionms.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import reactor.core.publisher.Mono;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer de una operación que produce una {@link Transaction}, etiquetado con el estado resultante
+ * ({@code status=SUCCESS|FAILED|...}, o {@code ERROR} si la operación terminó con excepción). Los
+ * timers se registran de antemano para no buscarlos en el registro en cada llamada. Los buckets del
+ * histograma se configuran con {@code management.metrics.distribution.slo.*}.
+ */
+public final class TransactionTimer {
+
+  static final String ERROR = "ERROR";
+
+  private final Map<TransactionStatus, Timer> byStatus = new EnumMap<>(TransactionStatus.class);
+  private final Timer errors;
+
+  public TransactionTimer(MeterRegistry registry, String name, String description, Tags tags) {
+    for (TransactionStatus status : TransactionStatus.values()) {
+      byStatus.put(status, Timer.builder(name).description(description).tags(tags)
+          .tag("status", status.name()).register(registry));
+    }
+    this.errors = Timer.builder(name).description(description).tags(tags).tag("status", ERROR)
+        .register(registry);
+  }
+
+  public Mono<Transaction> time(Mono<Transaction> operation) {
+    return Mono.defer(() -> {
+      long start = System.nanoTime();
+      return operation.doOnSuccess(tx -> {
+        if (tx != null && tx.getStatus() != null) {
+          byStatus.get(tx.getStatus()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+      }).doOnError(ex -> errors.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    });
+  }
+}
@@ -0,0 +1,116 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.bson.types.Decimal128;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import org.taller01.transactionms.domain.model.AccountSummary;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.out.IAccountSummaryRepository;
+import org.taller01.transactionms.infrastructure.entity.AccountSummaryEntity;
+import reactor.core.publisher.Mono;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mantiene {@code account_summaries} con upserts de {@code $inc}/{@code $max}: cada transacción
+ * guardada suma su delta sin releer el historial. Un lote se agrupa primero por cuenta y se envía
+ * como un único bulk desordenado.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountSummaryRepositoryAdapter implements IAccountSummaryRepository {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+
+  @Override
+  public Mono<Void> apply(List<Transaction> transactions) {
+    Map<String, Update> updates = updatesByAccount(transactions);
+    if (updates.isEmpty()) {
+      return Mono.empty();
+    }
+    var bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AccountSummaryEntity.class);
+    updates.forEach((accountId, update) -> bulk
+        .upsert(Query.query(Criteria.where("_id").is(accountId)), update));
+    return bulk.execute().then();
+  }
+
+  @Override
+  public Mono<AccountSummary> findByAccountId(String accountId) {
+    return mongoTemplate.findById(accountId, AccountSummaryEntity.class)
+        .map(AccountSummaryRepositoryAdapter::toDomain);
+  }
+
+  static Map<String, Update> updatesByAccount(List<Transaction> transactions) {
+    Map<String, Update> updates = new LinkedHashMap<>();
+    for (Transaction tx : transactions) {
+      // Las pendientes se cuentan cuando el worker guarda su resultado
+      if (tx.getStatus() == null || !tx.getStatus().isTerminal()) {
+        continue;
+      }
+      if (tx.getFromAccountId() != null) {
+        String field = tx.getType() == TransactionType.TRANSFER ? "transferredOut" : "withdrawn";
+        record(updates.computeIfAbsent(tx.getFromAccountId(), id -> new Update()), tx, field);
+      }
+      // Una transferencia a sí misma (siempre FAILED) se cuenta una sola vez
+      if (tx.getToAccountId() != null && !tx.getToAccountId().equals(tx.getFromAccountId())) {
+        String field = tx.getType() == TransactionType.TRANSFER ? "transferredIn" : "deposited";
+        record(updates.computeIfAbsent(tx.getToAccountId(), id -> new Update()), tx, field);
+      }
+    }
+    return updates;
+  }
+
+  private static void record(Update update, Transaction tx, String amountField) {
+    if (tx.getStatus() == TransactionStatus.SUCCESS && tx.getAmount() != null) {
+      update.inc(amountField, sum(update, amountField, tx.getAmount().toBigDecimal()));
+    }
+    String countField = "counts." + tx.getStatus();
+    update.inc(countField, current(update, countField).longValue() + 1);
+    Instant last = operand(update, "$max", "lastTransactionAt") instanceof Instant i ? i : null;
+    if (tx.getCreatedAt() != null && (last == null || tx.getCreatedAt().isAfter(last))) {
+      update.max("lastTransactionAt", tx.getCreatedAt());
+    }
+  }
+
+  // Repetir un operador sobre la misma clave reemplaza el valor, así que el lote se acumula aquí
+  private static Decimal128 sum(Update update, String field, BigDecimal amount) {
+    Object previous = operand(update, "$inc", field);
+    BigDecimal base = previous instanceof Decimal128 d ? d.bigDecimalValue() : BigDecimal.ZERO;
+    return new Decimal128(base.add(amount));
+  }
+
+  private static Number current(Update update, String field) {
+    return operand(update, "$inc", field) instanceof Number n ? n : 0;
+  }
+
+  private static Object operand(Update update, String operator, String field) {
+    return update.getUpdateObject().get(operator) instanceof Map<?, ?> fields ? fields.get(field)
+        : null;
+  }
+
+  private static AccountSummary toDomain(AccountSummaryEntity entity) {
+    Map<TransactionStatus, Long> counts = new EnumMap<>(TransactionStatus.class);
+    if (entity.getCounts() != null) {
+      entity.getCounts()
+          .forEach((status, count) -> counts.put(TransactionStatus.valueOf(status), count));
+    }
+    return new AccountSummary(entity.getAccountId(), orZero(entity.getDeposited()),
+        orZero(entity.getWithdrawn()), orZero(entity.getTransferredIn()),
+        orZero(entity.getTransferredOut()), counts, entity.getLastTransactionAt());
+  }
+
+  private static BigDecimal orZero(BigDecimal value) {
+    return value == null ? BigDecimal.ZERO : value;
+  }
+}
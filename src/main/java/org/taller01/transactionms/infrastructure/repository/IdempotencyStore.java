@@ -0,0 +1,210 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.taller01.transactionms.domain.exception.IdempotencyConflictException;
+import org.taller01.transactionms.domain.exception.InvalidRequestException;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.model.AccountMutations;
+import org.taller01.transactionms.dto.response.TransactionResponse;
+import org.taller01.transactionms.infrastructure.config.IdempotencyProperties;
+import org.taller01.transactionms.infrastructure.entity.IdempotencyRecordEntity;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Deduplica solicitudes con {@code Idempotency-Key} en dos niveles:
+ * <ol>
+ * <li>Caché local acotada: repeticiones y duplicados concurrentes en esta instancia comparten el
+ * mismo future, sin ir a Mongo.</li>
+ * <li>Colección {@code idempotency_keys} con índice TTL: la primera solicitud reclama la clave
+ * insertando un registro PENDING; las demás instancias esperan a que pase a COMPLETED.</li>
+ * </ol>
+ * Si la operación falla con excepción antes de escribir en AccountMS se libera la clave para que el
+ * cliente pueda reintentar. Si ya escribió, la clave pasa a FAILED y no se vuelve a ejecutar: un
+ * reintento podría retirar o depositar dos veces. Las transacciones registradas como FAILED por las
+ * estrategias sí quedan guardadas como COMPLETED: son la respuesta original.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+  public static final int MAX_KEY_LENGTH = 255;
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final IdempotencyProperties properties;
+  private final AsyncCache<String, Entry> cache;
+  private final Clock clock;
+
+  @Autowired
+  public IdempotencyStore(ReactiveMongoTemplate mongoTemplate, IdempotencyProperties properties) {
+    this(mongoTemplate, properties, Clock.systemUTC());
+  }
+
+  IdempotencyStore(ReactiveMongoTemplate mongoTemplate, IdempotencyProperties properties,
+      Clock clock) {
+    this.mongoTemplate = mongoTemplate;
+    this.properties = properties;
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder().maximumSize(properties.getCacheSize())
+        .expireAfterWrite(properties.getCacheTtl()).buildAsync();
+  }
+
+  @PostConstruct
+  void ensureTtlIndex() {
+    // El TTL es configurable, por eso el índice no se declara con @Indexed en la entidad
+    mongoTemplate.indexOps(IdempotencyRecordEntity.class)
+        .ensureIndex(new Index().on("createdAt", Sort.Direction.ASC).named("createdAt_ttl")
+            .expire(properties.getRetention()))
+        .subscribe(name -> log.debug("Índice TTL de idempotencia listo: {}", name), ex -> log
+            .warn("⚠️ No se pudo crear el índice TTL de idempotencia: {}", ex.getMessage()));
+  }
+
+  /**
+   * Ejecuta {@code action} una sola vez por clave. Sin clave la ejecuta directamente.
+   *
+   * @param scope endpoint que recibe la solicitud; forma parte de la huella junto con el cuerpo
+   */
+  public Mono<TransactionResponse> execute(String key, String scope, Object request,
+      Supplier<Mono<TransactionResponse>> action) {
+    if (key == null || key.isBlank()) {
+      return Mono.defer(action);
+    }
+    if (key.length() > MAX_KEY_LENGTH) {
+      return Mono.error(new InvalidRequestException(Messages.IDEMPOTENCY_KEY_TOO_LONG));
+    }
+    String fingerprint = fingerprint(scope, request);
+    return Mono
+        .deferContextual(ctx -> Mono
+            .fromFuture(cache.get(key, (k, executor) -> load(k, fingerprint, action, ctx)), true))
+        .flatMap(entry -> entry.fingerprint().equals(fingerprint) ? Mono.just(entry.response())
+            : Mono.error(new IdempotencyConflictException(Messages.IDEMPOTENCY_KEY_REUSED)));
+  }
+
+  private CompletableFuture<Entry> load(String key, String fingerprint,
+      Supplier<Mono<TransactionResponse>> action, ContextView ctx) {
+    // El plazo limita solo la espera por otra solicitud, nunca la ejecución propia
+    Instant deadline = clock.instant().plus(properties.getInFlightWait());
+    return Mono.defer(() -> attempt(key, fingerprint, action, deadline))
+        .repeatWhenEmpty(ticks -> ticks.delayElements(properties.getPollInterval()))
+        .contextWrite(ctx).toFuture();
+  }
+
+  /** Reclama la clave o lee el registro existente; vacío si otro todavía la está procesando. */
+  private Mono<Entry> attempt(String key, String fingerprint,
+      Supplier<Mono<TransactionResponse>> action, Instant deadline) {
+    Instant now = clock.instant();
+    var claim = IdempotencyRecordEntity.builder().key(key).fingerprint(fingerprint)
+        .status(IdempotencyRecordEntity.PENDING).createdAt(now).build();
+    return mongoTemplate.insert(claim).thenReturn(true)
+        .onErrorResume(DuplicateKeyException.class, ex -> Mono.just(false)).flatMap(
+            claimed -> claimed ? run(key, fingerprint, action) : existing(key, action, deadline));
+  }
+
+  private Mono<Entry> existing(String key, Supplier<Mono<TransactionResponse>> action,
+      Instant deadline) {
+    return mongoTemplate.findById(key, IdempotencyRecordEntity.class).flatMap(record -> {
+      if (IdempotencyRecordEntity.COMPLETED.equals(record.getStatus())) {
+        return Mono.just(new Entry(record.getFingerprint(), record.getResponse()));
+      }
+      if (IdempotencyRecordEntity.FAILED.equals(record.getStatus())) {
+        return Mono
+            .error(new IdempotencyConflictException(Messages.IDEMPOTENCY_FAILED_AFTER_WRITE));
+      }
+      return takeOver(record).flatMap(won -> {
+        if (won) {
+          return run(key, record.getFingerprint(), action);
+        }
+        return clock.instant().isAfter(deadline)
+            ? Mono.error(new IdempotencyConflictException(Messages.IDEMPOTENCY_IN_FLIGHT))
+            : Mono.empty();
+      });
+    });
+  }
+
+  // Solo una instancia gana la actualización condicional sobre el createdAt leído
+  private Mono<Boolean> takeOver(IdempotencyRecordEntity record) {
+    Instant now = clock.instant();
+    if (record.getCreatedAt().isAfter(now.minus(properties.getPendingTimeout()))) {
+      return Mono.just(false);
+    }
+    var query = Query.query(Criteria.where("_id").is(record.getKey()).and("status")
+        .is(IdempotencyRecordEntity.PENDING).and("createdAt").is(record.getCreatedAt()));
+    return mongoTemplate
+        .updateFirst(query, Update.update("createdAt", now), IdempotencyRecordEntity.class)
+        .map(result -> result.getModifiedCount() == 1);
+  }
+
+  /**
+   * Un error de {@code complete} también cuenta como falla después de escribir: la operación ya se
+   * hizo, y si la clave quedara PENDING otra instancia la tomaría tras {@code pendingTimeout} y la
+   * repetiría.
+   */
+  private Mono<Entry> run(String key, String fingerprint,
+      Supplier<Mono<TransactionResponse>> action) {
+    AccountMutations mutations = AccountMutations.track();
+    return Mono.defer(action)
+        .flatMap(response -> complete(key, response).thenReturn(new Entry(fingerprint, response)))
+        .onErrorResume(
+            ex -> (mutations.attempted() ? fail(key) : release(key)).then(Mono.error(ex)))
+        .contextWrite(mutations::writeTo);
+  }
+
+  private Mono<Void> release(String key) {
+    var query = Query
+        .query(Criteria.where("_id").is(key).and("status").is(IdempotencyRecordEntity.PENDING));
+    return mongoTemplate.remove(query, IdempotencyRecordEntity.class).then().onErrorResume(ex -> {
+      log.warn("⚠️ No se pudo liberar la clave de idempotencia {}: {}", key, ex.getMessage());
+      return Mono.empty();
+    });
+  }
+
+  private Mono<Void> complete(String key, TransactionResponse response) {
+    var update =
+        Update.update("status", IdempotencyRecordEntity.COMPLETED).set("response", response);
+    return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(key)), update,
+        IdempotencyRecordEntity.class).then();
+  }
+
+  private Mono<Void> fail(String key) {
+    var query = Query
+        .query(Criteria.where("_id").is(key).and("status").is(IdempotencyRecordEntity.PENDING));
+    return mongoTemplate.updateFirst(query, Update.update("status", IdempotencyRecordEntity.FAILED),
+        IdempotencyRecordEntity.class).then().onErrorResume(ex -> {
+          log.error("❌ La clave de idempotencia {} quedó PENDING tras escribir en AccountMS: {}",
+              key, ex.getMessage());
+          return Mono.empty();
+        });
+  }
+
+  static String fingerprint(String scope, Object request) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest((scope + ':' + request).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private record Entry(String fingerprint, TransactionResponse response) {}
+}
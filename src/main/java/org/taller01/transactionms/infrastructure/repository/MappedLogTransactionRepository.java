@@ -0,0 +1,270 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.taller01.transactionms.domain.model.HistoryCursor;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import org.taller01.transactionms.infrastructure.config.LogStoreProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * {@link ITransactionRepository} sobre un log local mapeado en memoria en lugar de la colección de
+ * transacciones en Mongo (idempotencia, resumen y estadísticas siguen en Mongo). Pensado para
+ * despliegues en el borde y para medir el servicio cuando la persistencia no es el cuello de
+ * botella.
+ * <p>
+ * Cada versión de una transacción se anexa al log; los índices viven en memoria y se reconstruyen
+ * leyendo el log al arrancar: id → posición de la última versión, cuenta → claves
+ * {@code (createdAt, id)} en orden descendente (el mismo orden que el historial en Mongo) y el
+ * conjunto de transferencias asíncronas abiertas. El resumen por cuenta no se proyecta con este
+ * almacén.
+ */
+@Slf4j
+@Repository
+@Profile("log-store")
+public class MappedLogTransactionRepository implements ITransactionRepository {
+
+  // v1 guardaba el monto como texto decimal; v2 como unidades menores
+  private static final byte LEGACY_FORMAT = 1;
+  private static final byte FORMAT_VERSION = 2;
+  private static final Comparator<Key> NEWEST_FIRST = Comparator
+      .comparing(Key::createdAt, Comparator.nullsFirst(Comparator.<Instant>naturalOrder()))
+      .thenComparing(Key::id).reversed();
+
+  private final MappedTransactionLog transactionLog;
+  private final Map<String, Long> positions = new ConcurrentHashMap<>();
+  private final Map<String, NavigableSet<Key>> byAccount = new ConcurrentHashMap<>();
+  private final Set<String> open = ConcurrentHashMap.newKeySet();
+
+  public MappedLogTransactionRepository(LogStoreProperties properties) {
+    this.transactionLog = new MappedTransactionLog(Path.of(properties.getDirectory()),
+        Math.toIntExact(properties.getSegmentSize().toBytes()), properties.isForceOnWrite());
+    this.transactionLog.open((position, payload) -> index(decode(payload), position));
+    log.info("📼 Log de transacciones abierto en {}: {} transacción(es)", properties.getDirectory(),
+        positions.size());
+  }
+
+  private record Key(Instant createdAt, String id) {}
+
+  @Override
+  public Mono<Transaction> save(Transaction transaction) {
+    return write(() -> append(assignId(transaction)));
+  }
+
+  @Override
+  public Flux<Transaction> saveAll(List<Transaction> transactions) {
+    return write(() -> transactions.stream().map(tx -> append(assignId(tx))).toList())
+        .flatMapIterable(saved -> saved);
+  }
+
+  @Override
+  public Mono<Transaction> update(Transaction transaction) {
+    return write(() -> append(transaction));
+  }
+
+  @Override
+  public Mono<Transaction> compareAndSetStatus(String id, TransactionStatus expected,
+      TransactionStatus status) {
+    return write(() -> {
+      // El lock de la instancia hace atómico el leer-comparar-anexar
+      synchronized (this) {
+        Transaction current = load(id);
+        if (current == null || current.getStatus() != expected) {
+          return null;
+        }
+        current.setStatus(status);
+        return append(current);
+      }
+    });
+  }
+
+  @Override
+  public Mono<Transaction> findById(String id) {
+    return Mono.fromCallable(() -> load(id));
+  }
+
+  @Override
+  public Flux<Transaction> findByStatus(TransactionStatus status) {
+    Flux<String> candidates =
+        status.isTerminal() ? Flux.fromIterable(positions.keySet()) : Flux.fromIterable(open);
+    return candidates.mapNotNull(this::load).filter(tx -> tx.getStatus() == status);
+  }
+
+  @Override
+  public Flux<Transaction> findHistory(HistoryQuery history) {
+    NavigableSet<Key> keys = byAccount.getOrDefault(history.accountId(), emptyKeys());
+    // Orden descendente: "to" (exclusivo) es el borde superior y "from" (inclusivo) el inferior
+    if (history.to() != null) {
+      keys = keys.tailSet(new Key(history.to(), ""), false);
+    }
+    Flux<Transaction> matches = Flux.fromIterable(keys)
+        .takeWhile(key -> history.from() == null
+            || key.createdAt() != null && !key.createdAt().isBefore(history.from()))
+        .mapNotNull(key -> load(key.id())).filter(history::matches);
+    return history.limit() == null ? matches : matches.take(history.limit());
+  }
+
+  @Override
+  public Flux<Transaction> findPageByAccountId(String accountId, HistoryCursor after, int limit) {
+    NavigableSet<Key> keys = byAccount.getOrDefault(accountId, emptyKeys());
+    if (after != null) {
+      keys = keys.tailSet(new Key(after.createdAt(), after.id()), false);
+    }
+    return Flux.fromIterable(keys).take(limit).mapNotNull(key -> load(key.id()));
+  }
+
+  /**
+   * Las escrituras toman el lock del log y pueden mapear un segmento nuevo o forzar el registro a
+   * disco: corren en {@code boundedElastic} para no bloquear el event loop.
+   */
+  private static <T> Mono<T> write(Callable<T> append) {
+    return Mono.fromCallable(append).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  private static NavigableSet<Key> emptyKeys() {
+    return new ConcurrentSkipListSet<>(NEWEST_FIRST);
+  }
+
+  private static Transaction assignId(Transaction tx) {
+    if (tx.getId() == null) {
+      tx.setId(new ObjectId().toHexString());
+    }
+    // Misma precisión que Mongo y que el cursor del historial
+    if (tx.getCreatedAt() != null) {
+      tx.setCreatedAt(Instant.ofEpochMilli(tx.getCreatedAt().toEpochMilli()));
+    }
+    return tx;
+  }
+
+  // Anexar e indexar bajo el mismo lock: la última versión escrita es la que queda indexada
+  private synchronized Transaction append(Transaction tx) {
+    long position = transactionLog.append(encode(tx));
+    index(tx, position);
+    return tx;
+  }
+
+  private Transaction load(String id) {
+    Long position = positions.get(id);
+    return position == null ? null : decode(transactionLog.read(position));
+  }
+
+  private void index(Transaction tx, long position) {
+    positions.put(tx.getId(), position);
+    Key key = new Key(tx.getCreatedAt(), tx.getId());
+    indexAccount(tx.getFromAccountId(), key);
+    indexAccount(tx.getToAccountId(), key);
+    if (tx.getStatus() != null && !tx.getStatus().isTerminal()) {
+      open.add(tx.getId());
+    } else {
+      open.remove(tx.getId());
+    }
+  }
+
+  private void indexAccount(String accountId, Key key) {
+    if (accountId != null) {
+      byAccount.computeIfAbsent(accountId, id -> emptyKeys()).add(key);
+    }
+  }
+
+  static byte[] encode(Transaction tx) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeByte(FORMAT_VERSION);
+      writeString(out, tx.getId());
+      writeString(out, tx.getType() == null ? null : tx.getType().name());
+      writeString(out, tx.getStatus() == null ? null : tx.getStatus().name());
+      writeString(out, tx.getFromAccountId());
+      writeString(out, tx.getToAccountId());
+      out.writeBoolean(tx.getAmount() != null);
+      out.writeLong(tx.getAmount() == null ? 0 : tx.getAmount().minorUnits());
+      out.writeLong(tx.getCreatedAt() == null ? Long.MIN_VALUE : tx.getCreatedAt().toEpochMilli());
+      writeString(out, tx.getMessage());
+      return bytes.toByteArray();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  static Transaction decode(ByteBuffer in) {
+    ByteBuffer buffer = in.duplicate();
+    byte version = buffer.get();
+    if (version != FORMAT_VERSION && version != LEGACY_FORMAT) {
+      throw new IllegalStateException("Versión de registro desconocida: " + version);
+    }
+    String id = readString(buffer);
+    String type = readString(buffer);
+    String status = readString(buffer);
+    String from = readString(buffer);
+    String to = readString(buffer);
+    Money amount = version == LEGACY_FORMAT ? legacyAmount(buffer) : amount(buffer);
+    long createdAt = buffer.getLong();
+    return Transaction.builder().id(id).type(type == null ? null : TransactionType.valueOf(type))
+        .status(status == null ? null : TransactionStatus.valueOf(status)).fromAccountId(from)
+        .toAccountId(to).amount(amount)
+        .createdAt(createdAt == Long.MIN_VALUE ? null : Instant.ofEpochMilli(createdAt))
+        .message(readString(buffer)).build();
+  }
+
+  private static Money amount(ByteBuffer buffer) {
+    boolean present = buffer.get() != 0;
+    long minorUnits = buffer.getLong();
+    return present ? Money.ofMinor(minorUnits) : null;
+  }
+
+  private static Money legacyAmount(ByteBuffer buffer) {
+    String amount = readString(buffer);
+    return amount == null ? null : Money.ofStored(amount);
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(utf8.length);
+    out.write(utf8);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] utf8 = new byte[length];
+    buffer.get(utf8);
+    return new String(utf8, StandardCharsets.UTF_8);
+  }
+
+  @PreDestroy
+  public void close() {
+    transactionLog.close();
+  }
+}
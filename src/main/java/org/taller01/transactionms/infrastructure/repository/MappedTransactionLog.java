@@ -0,0 +1,148 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Log de solo anexado repartido en segmentos de tamaño fijo mapeados en memoria. Cada registro es
+ * {@code [largo:int][crc32c:int][datos]}; un largo 0 marca el final escrito del segmento (el resto
+ * del archivo está en ceros). La posición de un registro es {@code segmento << 32 | offset}.
+ * <p>
+ * Un solo escritor a la vez (las llamadas a {@link #append} se serializan); las lecturas no toman
+ * lock porque solo leen posiciones ya publicadas.
+ */
+final class MappedTransactionLog implements AutoCloseable {
+
+  private static final int HEADER = 8;
+  private static final String SUFFIX = ".log";
+
+  private final Path directory;
+  private final int segmentSize;
+  private final boolean forceOnWrite;
+  private final List<MappedByteBuffer> segments = new ArrayList<>();
+  private volatile MappedByteBuffer[] readable = new MappedByteBuffer[0];
+  private int writeOffset;
+
+  MappedTransactionLog(Path directory, int segmentSize, boolean forceOnWrite) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.forceOnWrite = forceOnWrite;
+  }
+
+  /**
+   * Mapea los segmentos existentes y entrega cada registro válido en orden. Un registro con CRC
+   * inválido (escritura cortada por una caída) se trata como el final del log y se sobrescribe.
+   */
+  synchronized void open(BiConsumer<Long, ByteBuffer> visitor) {
+    try {
+      Files.createDirectories(directory);
+      List<Path> files;
+      try (Stream<Path> listing = Files.list(directory)) {
+        files = listing.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+      }
+      for (Path file : files) {
+        map(file);
+      }
+      if (segments.isEmpty()) {
+        map(segmentPath(0));
+      }
+      for (int i = 0; i < segments.size(); i++) {
+        writeOffset = scan(i, visitor);
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private int scan(int segment, BiConsumer<Long, ByteBuffer> visitor) {
+    ByteBuffer buffer = segments.get(segment).duplicate();
+    int offset = 0;
+    while (offset + HEADER <= segmentSize) {
+      int length = buffer.getInt(offset);
+      if (length <= 0 || offset + HEADER + length > segmentSize) {
+        break;
+      }
+      ByteBuffer payload = buffer.slice(offset + HEADER, length);
+      if (crc(payload) != buffer.getInt(offset + 4)) {
+        // Lo que sigue se sobrescribe con la próxima escritura
+        buffer.putInt(offset, 0);
+        break;
+      }
+      visitor.accept(position(segment, offset), payload);
+      offset += HEADER + length;
+    }
+    return offset;
+  }
+
+  /** Anexa el registro y devuelve su posición. */
+  synchronized long append(byte[] payload) {
+    int required = HEADER + payload.length;
+    if (required > segmentSize) {
+      throw new IllegalArgumentException(
+          "Registro de " + payload.length + " bytes no cabe en un segmento de " + segmentSize);
+    }
+    if (writeOffset + required > segmentSize) {
+      map(segmentPath(segments.size()));
+      writeOffset = 0;
+    }
+    int segment = segments.size() - 1;
+    MappedByteBuffer buffer = segments.get(segment);
+    // El largo se escribe al final: un lector de recuperación nunca ve un registro a medias
+    buffer.putInt(writeOffset + 4, crc(ByteBuffer.wrap(payload)));
+    buffer.put(writeOffset + HEADER, payload);
+    buffer.putInt(writeOffset, payload.length);
+    if (forceOnWrite) {
+      buffer.force(writeOffset, required);
+    }
+    long position = position(segment, writeOffset);
+    writeOffset += required;
+    return position;
+  }
+
+  ByteBuffer read(long position) {
+    ByteBuffer buffer = readable[(int) (position >>> 32)];
+    int offset = (int) position;
+    return buffer.slice(offset + HEADER, buffer.getInt(offset)).asReadOnlyBuffer();
+  }
+
+  private void map(Path file) {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // El mapeo sigue válido después de cerrar el canal
+      segments.add(channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+      readable = segments.toArray(MappedByteBuffer[]::new);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private Path segmentPath(int index) {
+    return directory.resolve(String.format("segment-%08d%s", index, SUFFIX));
+  }
+
+  private static long position(int segment, int offset) {
+    return (long) segment << 32 | offset;
+  }
+
+  private static int crc(ByteBuffer payload) {
+    CRC32C crc = new CRC32C();
+    crc.update(payload.duplicate());
+    return (int) crc.getValue();
+  }
+
+  @Override
+  public synchronized void close() {
+    segments.forEach(MappedByteBuffer::force);
+  }
+}
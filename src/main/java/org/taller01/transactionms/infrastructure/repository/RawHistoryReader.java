@@ -0,0 +1,68 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.RawBsonDocument;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.infrastructure.config.HistoryProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Historial sin decodificar: la misma consulta que {@link TransactionRepositoryAdapter#findHistory}
+ * pero entregando los {@link RawBsonDocument} del cursor, para que la capa web los escriba como
+ * JSON sin pasar por entidad, dominio ni DTO. Registra las mismas métricas que el decorador del
+ * repositorio ({@code transactionms.repository{operation=findHistory}} y
+ * {@code transactionms.history.rows}), así los tableros no distinguen entre un camino y otro.
+ */
+@Component
+@Profile("!log-store")
+public class RawHistoryReader {
+
+  private final TransactionCollection collection;
+  private final HistoryProperties historyProperties;
+  private final Timer success;
+  private final Timer error;
+  private final DistributionSummary rows;
+
+  public RawHistoryReader(TransactionCollection collection, HistoryProperties historyProperties,
+      MeterRegistry registry) {
+    this.collection = collection;
+    this.historyProperties = historyProperties;
+    this.success = timer(registry, "success");
+    this.error = timer(registry, "error");
+    this.rows = DistributionSummary.builder("transactionms.history.rows")
+        .description("Transacciones entregadas por consulta de historial").register(registry);
+  }
+
+  private static Timer timer(MeterRegistry registry, String outcome) {
+    return Timer.builder("transactionms.repository")
+        .description("Duración de las operaciones del repositorio de transacciones")
+        .tag("operation", "findHistory").tag("outcome", outcome).register(registry);
+  }
+
+  public Flux<RawBsonDocument> find(HistoryQuery history) {
+    return Flux.defer(() -> {
+      int batchSize = historyProperties.getStreamBatchSize();
+      long start = System.nanoTime();
+      AtomicLong count = new AtomicLong();
+      return collection.findRaw(TransactionRepositoryAdapter.historyQuery(history, batchSize))
+          .limitRate(batchSize).doOnNext(doc -> count.incrementAndGet())
+          .doOnError(ex -> record(error, start)).doFinally(signal -> {
+            rows.record(count.get());
+            if (signal != SignalType.ON_ERROR) {
+              record(success, start);
+            }
+          });
+    });
+  }
+
+  private static void record(Timer timer, long start) {
+    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,94 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+/**
+ * Acceso a {@code transactions} con el codec del cliente ({@code TransactionEntityCodec}) para el
+ * camino caliente: historial e inserciones. Las consultas se siguen armando con {@link Query} y se
+ * traducen con el {@link QueryMapper} de Spring Data ({@code id} a {@code _id}, enums a texto);
+ * solo el mapeo de cada documento deja de pasar por el conversor reflexivo.
+ */
+@Component
+public class TransactionCollection {
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final String name;
+  private final QueryMapper queryMapper;
+  private final MongoPersistentEntity<?> entity;
+  private final MongoExceptionTranslator exceptionTranslator = new MongoExceptionTranslator();
+
+  public TransactionCollection(ReactiveMongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+    this.name = mongoTemplate.getCollectionName(TransactionEntity.class);
+    this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+    this.entity = mongoTemplate.getConverter().getMappingContext()
+        .getPersistentEntity(TransactionEntity.class);
+  }
+
+  public Flux<TransactionEntity> find(Query query) {
+    return find(query, TransactionEntity.class);
+  }
+
+  /** Misma consulta, pero cada documento llega como los bytes BSON del cursor, sin decodificar. */
+  public Flux<RawBsonDocument> findRaw(Query query) {
+    return find(query, RawBsonDocument.class);
+  }
+
+  private <T> Flux<T> find(Query query, Class<T> documentClass) {
+    Document filter = queryMapper.getMappedObject(query.getQueryObject(), entity);
+    Document sort = queryMapper.getMappedSort(query.getSortObject(), entity);
+    Document fields = queryMapper.getMappedFields(query.getFieldsObject(), entity);
+    return mongoTemplate.getCollection(name).flatMapMany(coll -> {
+      FindPublisher<T> find = coll.withDocumentClass(documentClass).find(filter).sort(sort);
+      if (!fields.isEmpty()) {
+        find = find.projection(fields);
+      }
+      if (query.getLimit() > 0) {
+        find = find.limit(query.getLimit());
+      }
+      Integer batchSize = query.getMeta().getCursorBatchSize();
+      return batchSize != null ? find.batchSize(batchSize) : find;
+    }).onErrorMap(RuntimeException.class, this::translate);
+  }
+
+  /** Inserta la entidad; el codec le asigna el id si no lo trae. */
+  public Mono<TransactionEntity> insert(TransactionEntity transaction) {
+    return collection().flatMap(coll -> Mono.from(coll.insertOne(transaction)))
+        .thenReturn(transaction).onErrorMap(RuntimeException.class, this::translate);
+  }
+
+  /** Bulk de inserciones sin traducir errores: el llamador reparte los de cada índice. */
+  public Mono<BulkWriteResult> bulkInsert(List<TransactionEntity> transactions,
+      BulkWriteOptions options) {
+    List<InsertOneModel<TransactionEntity>> models =
+        transactions.stream().map(InsertOneModel::new).toList();
+    return collection().flatMap(coll -> Mono.from(coll.bulkWrite(models, options)));
+  }
+
+  private Mono<MongoCollection<TransactionEntity>> collection() {
+    return mongoTemplate.getCollection(name)
+        .map(coll -> coll.withDocumentClass(TransactionEntity.class));
+  }
+
+  private Throwable translate(RuntimeException ex) {
+    DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(ex);
+    return translated != null ? translated : ex;
+  }
+}
@@ -0,0 +1,39 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.port.out.IAccountSummaryRepository;
+import org.taller01.transactionms.domain.port.out.ITransactionStatsRepository;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+/**
+ * Actualiza lo que se deriva de las transacciones ya guardadas en Mongo: el resumen por cuenta (un
+ * bulk de upserts por llamada) y las estadísticas (solo se encolan; su bulk sale en segundo plano).
+ * Conviene llamarlo una vez por lote y no por transacción.
+ */
+@Slf4j
+@Component
+@Profile("!log-store")
+@RequiredArgsConstructor
+public class TransactionProjector {
+
+  private final IAccountSummaryRepository summaries;
+  private final ITransactionStatsRepository stats;
+
+  // La transacción ya quedó guardada: si el resumen falla se registra y no se propaga
+  public Mono<Void> project(List<Transaction> saved) {
+    if (saved.isEmpty()) {
+      return Mono.empty();
+    }
+    stats.record(saved);
+    return summaries.apply(saved).onErrorResume(ex -> {
+      log.warn("⚠️ No se pudo actualizar el resumen de {} transacción(es): {}", saved.size(),
+          ex.getMessage());
+      return Mono.empty();
+    });
+  }
+}
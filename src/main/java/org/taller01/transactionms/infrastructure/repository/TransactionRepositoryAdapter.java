@@ -1,30 +1,227 @@
 package org.taller01.transactionms.infrastructure.repository;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.BulkWriteOptions;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
+import org.taller01.transactionms.domain.model.HistoryCursor;
+import org.taller01.transactionms.domain.model.HistoryQuery;
 import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionField;
+import org.taller01.transactionms.domain.model.TransactionStatus;
 import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import org.taller01.transactionms.infrastructure.config.HistoryProperties;
 import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
 import org.taller01.transactionms.infrastructure.mapper.TransactionEntityMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 @Repository
+@Profile("!log-store")
 @RequiredArgsConstructor
 public class TransactionRepositoryAdapter implements ITransactionRepository {
 
+  private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+  private static final Sort NEWEST_FIRST =
+      Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
   private final TransactionRepository mongoRepository;
+  private final ReactiveMongoTemplate mongoTemplate;
   private final TransactionEntityMapper mapper;
+  private final HistoryProperties historyProperties;
+  private final Optional<TransactionWriteBatcher> writeBatcher;
+  private final TransactionCollection collection;
+  private final TransactionProjector projector;
+
+  @PostConstruct
+  void ensureOpenStatusIndex() {
+    // Parcial: solo indexa las transferencias asíncronas abiertas, que son pocas
+    mongoTemplate.indexOps(TransactionEntity.class)
+        .ensureIndex(new Index().on("status", Sort.Direction.ASC).named("status_open")
+            .partial(PartialIndexFilter.of(Criteria.where("status")
+                .in(TransactionStatus.PENDING.name(), TransactionStatus.PROCESSING.name()))))
+        .subscribe(name -> log.debug("Índice de transferencias abiertas listo: {}", name), ex -> log
+            .warn("⚠️ No se pudo crear el índice de transferencias abiertas: {}", ex.getMessage()));
+  }
 
+  /** Con micro-lotes el resumen se proyecta una vez por bulk write dentro del batcher. */
   @Override
   public Mono<Transaction> save(Transaction transaction) {
     TransactionEntity entity = mapper.toEntity(transaction);
-    return mongoRepository.save(entity).map(mapper::toDomain);
+    if (writeBatcher.isPresent()) {
+      return writeBatcher.get().submit(entity).map(mapper::toDomain);
+    }
+    return collection.insert(entity).map(mapper::toDomain)
+        .flatMap(tx -> projector.project(List.of(tx)).thenReturn(tx));
+  }
+
+  /**
+   * Bulk desordenado: si Mongo rechaza algún elemento, el resto queda insertado igual. Los que
+   * fallan se registran en el log y se devuelven como llegaron (sin id), porque el movimiento en
+   * AccountMS ya ocurrió y el llamador debe verlo.
+   */
+  @Override
+  public Flux<Transaction> saveAll(List<Transaction> transactions) {
+    List<TransactionEntity> entities = transactions.stream().map(mapper::toEntity).toList();
+    // El id se asigna aquí para devolver las entidades sin releerlas de Mongo
+    entities.stream().filter(entity -> entity.getId() == null)
+        .forEach(entity -> entity.setId(new ObjectId().toHexString()));
+    return collection.bulkInsert(entities, UNORDERED).thenReturn(Set.<Integer>of())
+        .onErrorResume(MongoBulkWriteException.class,
+            ex -> Mono.just(failedIndexes(ex, transactions)))
+        .flatMapMany(failed -> {
+          List<Transaction> saved = new ArrayList<>(entities.size());
+          List<Transaction> results = new ArrayList<>(entities.size());
+          for (int i = 0; i < entities.size(); i++) {
+            if (failed.contains(i)) {
+              results.add(transactions.get(i));
+            } else {
+              Transaction tx = mapper.toDomain(entities.get(i));
+              saved.add(tx);
+              results.add(tx);
+            }
+          }
+          return projector.project(saved).thenMany(Flux.fromIterable(results));
+        });
+  }
+
+  private static Set<Integer> failedIndexes(MongoBulkWriteException ex,
+      List<Transaction> transactions) {
+    Set<Integer> failed = new HashSet<>();
+    for (BulkWriteError error : ex.getWriteErrors()) {
+      Transaction tx = transactions.get(error.getIndex());
+      log.error("❌ Transacción {} de {} por {} no quedó registrada: {}", tx.getType(),
+          tx.getFromAccountId() != null ? tx.getFromAccountId() : tx.getToAccountId(),
+          tx.getAmount(), error.getMessage());
+      failed.add(error.getIndex());
+    }
+    return failed;
   }
 
   @Override
-  public Flux<Transaction> findByAccountId(String accountId) {
-    return mongoRepository.findByFromAccountIdOrToAccountId(accountId, accountId)
+  public Mono<Transaction> update(Transaction transaction) {
+    return mongoRepository.save(mapper.toEntity(transaction)).map(mapper::toDomain)
+        .flatMap(tx -> projector.project(List.of(tx)).thenReturn(tx));
+  }
+
+  @Override
+  public Mono<Transaction> compareAndSetStatus(String id, TransactionStatus expected,
+      TransactionStatus status) {
+    Query query = Query.query(Criteria.where("_id").is(id).and("status").is(expected));
+    return mongoTemplate
+        .findAndModify(query, Update.update("status", status),
+            FindAndModifyOptions.options().returnNew(true), TransactionEntity.class)
         .map(mapper::toDomain);
   }
+
+  @Override
+  public Mono<Transaction> findById(String id) {
+    return mongoRepository.findById(id).map(mapper::toDomain);
+  }
+
+  @Override
+  public Flux<Transaction> findByStatus(TransactionStatus status) {
+    return mongoTemplate
+        .find(Query.query(Criteria.where("status").is(status)), TransactionEntity.class)
+        .map(mapper::toDomain);
+  }
+
+  @Override
+  public Flux<Transaction> findHistory(HistoryQuery history) {
+    // El tamaño de lote del cursor y limitRate mantienen la demanda acotada: Mongo solo entrega
+    // otro lote cuando el cliente HTTP ya consumió el anterior.
+    int batchSize = historyProperties.getStreamBatchSize();
+    return collection.find(historyQuery(history, batchSize)).limitRate(batchSize)
+        .map(mapper::toDomain);
+  }
+
+  static Query historyQuery(HistoryQuery history, int batchSize) {
+    // Como en la paginación, cada rama del $or repite los filtros: el rango de fechas acota el
+    // recorrido de su índice (cuenta, createdAt) y Mongo mezcla ambas ramas ya ordenadas.
+    Criteria criteria = new Criteria().orOperator(
+        filtered(Criteria.where("fromAccountId").is(history.accountId()), history),
+        filtered(Criteria.where("toAccountId").is(history.accountId()), history));
+    Query query = Query.query(criteria).with(NEWEST_FIRST).cursorBatchSize(batchSize);
+    if (history.limit() != null) {
+      query.limit(history.limit());
+    }
+    // Proyección real: Mongo no lee ni envía el resto (message suele ser lo más pesado). Sin id
+    // se excluye _id, así los campos que están en los índices de cuenta salen sin leer el
+    // documento (consulta cubierta).
+    if (!history.fields().isEmpty()) {
+      history.fields().forEach(field -> query.fields().include(field.property()));
+      if (!history.fields().contains(TransactionField.ID)) {
+        query.fields().exclude("id");
+      }
+    }
+    return query;
+  }
+
+  @Override
+  public Flux<Transaction> findPageByAccountId(String accountId, HistoryCursor after, int limit) {
+    // Cada rama del $or lleva su propio rango para que use su índice compuesto y Mongo
+    // pueda mezclar ambos recorridos ya ordenados (SORT_MERGE) sin ordenar en memoria.
+    Criteria criteria =
+        new Criteria().orOperator(keyset(Criteria.where("fromAccountId").is(accountId), after),
+            keyset(Criteria.where("toAccountId").is(accountId), after));
+    Query query = Query.query(criteria).with(NEWEST_FIRST).limit(limit);
+    return collection.find(query).map(mapper::toDomain);
+  }
+
+  static Criteria filtered(Criteria account, HistoryQuery history) {
+    if (history.from() != null || history.to() != null) {
+      Criteria createdAt = account.and("createdAt");
+      if (history.from() != null) {
+        createdAt.gte(history.from());
+      }
+      if (history.to() != null) {
+        createdAt.lt(history.to());
+      }
+    }
+    if (!history.types().isEmpty()) {
+      account.and("type").in(history.types());
+    }
+    if (!history.statuses().isEmpty()) {
+      account.and("status").in(history.statuses());
+    }
+    // Compara contra Decimal128: los montos antiguos guardados como texto no entran en el rango
+    if (history.minAmount() != null || history.maxAmount() != null) {
+      Criteria amount = account.and("amount");
+      if (history.minAmount() != null) {
+        amount.gte(Decimal128.parse(history.minAmount().toString()));
+      }
+      if (history.maxAmount() != null) {
+        amount.lte(Decimal128.parse(history.maxAmount().toString()));
+      }
+    }
+    return account;
+  }
+
+  private static Criteria keyset(Criteria account, HistoryCursor after) {
+    if (after == null) {
+      return account;
+    }
+    return account.orOperator(Criteria.where("createdAt").lt(after.createdAt()),
+        Criteria.where("createdAt").is(after.createdAt()).and("id").lt(after.id()));
+  }
 }
@@ -0,0 +1,217 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.Decimal128;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.StatsGranularity;
+import org.taller01.transactionms.domain.model.StatsQuery;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStats;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.out.ITransactionStatsRepository;
+import org.taller01.transactionms.infrastructure.config.StatsProperties;
+import org.taller01.transactionms.infrastructure.entity.TransactionStatsEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Mantiene {@code transaction_stats}: buckets por minuto/hora/día, globales y por cuenta, con
+ * conteos y montos acumulados por tipo y estado. La escritura es diferida: {@link #record} solo
+ * encola y los buckets se envían en un bulk desordenado de upserts {@code $inc} al llenarse el lote
+ * o vencer {@code maxDelay}, así que el guardado de la transacción no espera ningún viaje extra.
+ */
+@Slf4j
+@Repository
+public class TransactionStatsRepositoryAdapter implements ITransactionStatsRepository {
+
+  private static final Sort OLDEST_FIRST = Sort.by(Sort.Order.asc("start"));
+
+  private final ReactiveMongoTemplate mongoTemplate;
+  private final StatsProperties properties;
+  private final Sinks.Many<List<Transaction>> queue;
+  private final CompletableFuture<Void> drained;
+
+  public TransactionStatsRepositoryAdapter(ReactiveMongoTemplate mongoTemplate,
+      StatsProperties properties) {
+    this.mongoTemplate = mongoTemplate;
+    this.properties = properties;
+    // record llega desde varios hilos a la vez: con una cola multi-productor no hace falta
+    // serializar la emisión (Sinks.many() la rechazaría con FAIL_NON_SERIALIZED) y solo se
+    // descarta al llenarse
+    this.queue = Sinks.unsafe().many().unicast()
+        .onBackpressureBuffer(new ArrayBlockingQueue<>(properties.getMaxPending()));
+    this.drained = queue.asFlux().concatMapIterable(batch -> batch)
+        .bufferTimeout(properties.getMaxBatchSize(), properties.getMaxDelay(), true)
+        .concatMap(this::flush).then().toFuture();
+  }
+
+  @Override
+  public void record(List<Transaction> transactions) {
+    if (!properties.isEnabled() || transactions.isEmpty()) {
+      return;
+    }
+    Sinks.EmitResult result = queue.tryEmitNext(transactions);
+    if (result.isFailure()) {
+      // Las estadísticas son aproximadas por diseño: no se frena la escritura por ellas
+      log.warn("⚠️ Estadísticas descartadas para {} transacción(es): {}", transactions.size(),
+          result);
+    }
+  }
+
+  private Mono<Void> flush(List<Transaction> batch) {
+    Map<String, Update> updates =
+        updatesByBucket(batch, properties.getGranularities(), properties.getRetention());
+    if (updates.isEmpty()) {
+      return Mono.empty();
+    }
+    var bulk =
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TransactionStatsEntity.class);
+    updates.forEach((id, update) -> bulk.upsert(Query.query(Criteria.where("_id").is(id)), update));
+    return bulk.execute().then().onErrorResume(ex -> {
+      log.warn("⚠️ No se pudieron actualizar {} bucket(s) de estadísticas: {}", updates.size(),
+          ex.getMessage());
+      return Mono.empty();
+    });
+  }
+
+  @Override
+  public Flux<TransactionStats> find(StatsQuery query) {
+    Criteria criteria = Criteria.where("scope").is(scope(query.accountId())).and("granularity")
+        .is(query.granularity()).and("start").gte(query.from()).lt(query.to());
+    return mongoTemplate
+        .find(Query.query(criteria).with(OLDEST_FIRST), TransactionStatsEntity.class)
+        .map(entity -> toDomain(entity, query.accountId()));
+  }
+
+  static Map<String, Update> updatesByBucket(List<Transaction> transactions,
+      List<StatsGranularity> granularities, Map<StatsGranularity, Duration> retention) {
+    Map<String, Bucket> buckets = new LinkedHashMap<>();
+    for (Transaction tx : transactions) {
+      // Igual que el resumen: las pendientes se cuentan cuando el worker guarda su resultado
+      if (tx.getStatus() == null || !tx.getStatus().isTerminal() || tx.getType() == null
+          || tx.getCreatedAt() == null) {
+        continue;
+      }
+      Set<String> scopes = new LinkedHashSet<>();
+      scopes.add(TransactionStatsEntity.GLOBAL_SCOPE);
+      if (tx.getFromAccountId() != null) {
+        scopes.add(tx.getFromAccountId());
+      }
+      if (tx.getToAccountId() != null) {
+        scopes.add(tx.getToAccountId());
+      }
+      for (StatsGranularity granularity : granularities) {
+        Instant start = granularity.bucketStart(tx.getCreatedAt());
+        for (String scope : scopes) {
+          buckets.computeIfAbsent(id(scope, granularity, start),
+              id -> new Bucket(scope, granularity, start)).add(tx);
+        }
+      }
+    }
+    Map<String, Update> updates = new LinkedHashMap<>();
+    buckets.forEach((id, bucket) -> updates.put(id, bucket.toUpdate(retention)));
+    return updates;
+  }
+
+  static String id(String scope, StatsGranularity granularity, Instant start) {
+    return scope + "|" + granularity + "|" + start.toEpochMilli();
+  }
+
+  private static String scope(String accountId) {
+    return accountId == null ? TransactionStatsEntity.GLOBAL_SCOPE : accountId;
+  }
+
+  private static TransactionStats toDomain(TransactionStatsEntity entity, String accountId) {
+    Map<TransactionType, Map<TransactionStatus, Long>> counts =
+        new EnumMap<>(TransactionType.class);
+    if (entity.getCounts() != null) {
+      entity.getCounts()
+          .forEach((type,
+              byStatus) -> byStatus.forEach((status, count) -> counts
+                  .computeIfAbsent(TransactionType.valueOf(type),
+                      t -> new EnumMap<>(TransactionStatus.class))
+                  .put(TransactionStatus.valueOf(status), count)));
+    }
+    Map<TransactionType, Map<TransactionStatus, Money>> amounts =
+        new EnumMap<>(TransactionType.class);
+    if (entity.getAmounts() != null) {
+      entity.getAmounts()
+          .forEach((type,
+              byStatus) -> byStatus.forEach((status, amount) -> amounts
+                  .computeIfAbsent(TransactionType.valueOf(type),
+                      t -> new EnumMap<>(TransactionStatus.class))
+                  .put(TransactionStatus.valueOf(status), Money.of(amount.bigDecimalValue()))));
+    }
+    return new TransactionStats(accountId, entity.getGranularity(), entity.getStart(), counts,
+        amounts);
+  }
+
+  @PreDestroy
+  public void shutdown() throws Exception {
+    // Vacía los buckets pendientes antes de que se cierre el cliente de Mongo
+    queue.tryEmitComplete();
+    try {
+      drained.get(5, TimeUnit.SECONDS);
+    } catch (TimeoutException ex) {
+      log.warn("⚠️ Quedaron estadísticas sin escribir al apagar el servicio");
+    }
+  }
+
+  // Acumula el lote en memoria: repetir $inc sobre la misma clave reemplazaría el valor
+  private static final class Bucket {
+    private final String scope;
+    private final StatsGranularity granularity;
+    private final Instant start;
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+    private final Map<String, Money> amounts = new LinkedHashMap<>();
+
+    Bucket(String scope, StatsGranularity granularity, Instant start) {
+      this.scope = scope;
+      this.granularity = granularity;
+      this.start = start;
+    }
+
+    void add(Transaction tx) {
+      String key = tx.getType() + "." + tx.getStatus();
+      counts.merge(key, 1L, Long::sum);
+      if (tx.getAmount() != null) {
+        amounts.merge(key, tx.getAmount(), Money::plus);
+      }
+    }
+
+    Update toUpdate(Map<StatsGranularity, Duration> retention) {
+      Update update = new Update().setOnInsert("scope", scope)
+          .setOnInsert("granularity", granularity).setOnInsert("start", start);
+      Duration ttl = retention.get(granularity);
+      if (ttl != null) {
+        update.setOnInsert("expireAt", start.plus(ttl));
+      }
+      counts.forEach((key, count) -> update.inc("counts." + key, count));
+      amounts.forEach(
+          (key, amount) -> update.inc("amounts." + key, new Decimal128(amount.toBigDecimal())));
+      return update;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.BulkWriteOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.exception.WriteQueueFullException;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.infrastructure.config.PersistenceProperties;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+import org.taller01.transactionms.infrastructure.mapper.TransactionEntityMapper;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Escritura diferida en micro-lotes. Cada {@link #submit} encola la entidad; el lote se envía al
+ * llenarse o al vencer {@code maxDelay} como un bulk write desordenado, y cada llamador recibe su
+ * propia entidad o el error de su propio índice dentro del lote. Con {@code maxPending} guardados
+ * en cola el siguiente se rechaza con {@link WriteQueueFullException}. El resumen y las
+ * estadísticas se proyectan una vez por lote con lo que Mongo insertó, antes de responder.
+ */
+@Slf4j
+@Component
+@Profile("!log-store")
+@ConditionalOnProperty(prefix = "transactionms.persistence.batching", name = "enabled",
+    havingValue = "true")
+public class TransactionWriteBatcher {
+
+  private static final int DUPLICATE_KEY = 11000;
+  private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+
+  private final TransactionCollection collection;
+  private final TransactionEntityMapper mapper;
+  private final TransactionProjector projector;
+  private final Sinks.Many<PendingWrite> queue;
+  private final CompletableFuture<Void> drained;
+
+  public TransactionWriteBatcher(TransactionCollection collection, PersistenceProperties properties,
+      TransactionEntityMapper mapper, TransactionProjector projector) {
+    this.collection = collection;
+    this.mapper = mapper;
+    this.projector = projector;
+    PersistenceProperties.Batching batching = properties.getBatching();
+    // submit llega desde los event loops a la vez: la cola multi-productor acepta sin serializar
+    // ni girar, y solo falla al llenarse
+    this.queue = Sinks.unsafe().many().unicast()
+        .onBackpressureBuffer(new ArrayBlockingQueue<>(batching.getMaxPending()));
+    this.drained =
+        queue.asFlux().bufferTimeout(batching.getMaxBatchSize(), batching.getMaxDelay(), true)
+            .flatMap(this::flush, batching.getMaxConcurrentFlushes()).then().toFuture();
+  }
+
+  public Mono<TransactionEntity> submit(TransactionEntity entity) {
+    return Mono.create(sink -> {
+      // El id se asigna aquí para poder devolver la entidad sin releerla de Mongo
+      if (entity.getId() == null) {
+        entity.setId(new ObjectId().toHexString());
+      }
+      Sinks.EmitResult result = queue.tryEmitNext(new PendingWrite(entity, sink));
+      if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+        sink.error(new WriteQueueFullException(Messages.WRITE_QUEUE_FULL));
+      } else if (result.isFailure()) {
+        sink.error(new IllegalStateException("No se pudo encolar la escritura: " + result));
+      }
+    });
+  }
+
+  private Mono<Void> flush(List<PendingWrite> batch) {
+    // Cada entidad se codifica con el codec directamente sobre el buffer del bulk
+    return collection.bulkInsert(batch.stream().map(PendingWrite::entity).toList(), UNORDERED)
+        .then(Mono.defer(() -> settle(batch, Map.of())))
+        .onErrorResume(ex -> failIndividually(batch, ex));
+  }
+
+  private Mono<Void> failIndividually(List<PendingWrite> batch, Throwable ex) {
+    if (!(ex instanceof MongoBulkWriteException bulkEx)) {
+      log.error("❌ Falló el bulk write de {} transacciones: {}", batch.size(), ex.getMessage(), ex);
+      batch.forEach(write -> write.sink().error(ex));
+      return Mono.empty();
+    }
+    // En modo desordenado Mongo inserta todo lo que puede; solo fallan los índices reportados
+    Map<Integer, BulkWriteError> errors = new HashMap<>();
+    bulkEx.getWriteErrors().forEach(error -> errors.put(error.getIndex(), error));
+    return settle(batch, errors);
+  }
+
+  // Proyecta en un solo viaje lo insertado y recién entonces responde a cada llamador
+  private Mono<Void> settle(List<PendingWrite> batch, Map<Integer, BulkWriteError> errors) {
+    List<Transaction> inserted = new ArrayList<>(batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      if (!errors.containsKey(i)) {
+        inserted.add(mapper.toDomain(batch.get(i).entity()));
+      }
+    }
+    return projector.project(inserted).doFinally(signal -> {
+      for (int i = 0; i < batch.size(); i++) {
+        BulkWriteError error = errors.get(i);
+        if (error == null) {
+          batch.get(i).complete();
+        } else {
+          batch.get(i).sink().error(translate(error));
+        }
+      }
+    });
+  }
+
+  private static RuntimeException translate(BulkWriteError error) {
+    if (error.getCode() == DUPLICATE_KEY) {
+      return new DuplicateKeyException(error.getMessage());
+    }
+    return new DataIntegrityViolationException(error.getMessage());
+  }
+
+  @PreDestroy
+  public void shutdown() throws Exception {
+    // Vacía los lotes pendientes antes de que se cierre el cliente de Mongo
+    queue.tryEmitComplete();
+    try {
+      drained.get(5, TimeUnit.SECONDS);
+    } catch (TimeoutException ex) {
+      log.warn("⚠️ Quedaron transacciones sin escribir al apagar el servicio");
+    }
+  }
+
+  private record PendingWrite(TransactionEntity entity, MonoSink<TransactionEntity> sink) {
+    void complete() {
+      sink.success(entity);
+    }
+  }
+}
@@ -0,0 +1,148 @@
+package org.taller01.transactionms.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.exception.AccountBusyException;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
+import org.taller01.transactionms.domain.model.RequestDeadline;
+import org.taller01.transactionms.infrastructure.config.SequencingProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AccountSequencerTest {
+
+    private AccountSequencer sequencer;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new SequencingProperties();
+        properties.setMaxQueueDepth(2);
+        sequencer = new AccountSequencer(properties);
+    }
+
+    @Test
+    void submit_shouldRunSameAccountOneAtATimeInOrder() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        Sinks.One<String> first = Sinks.one();
+
+        Mono<String> a = sequencer.submit("acc", () -> {
+            events.add("start-a");
+            return first.asMono().doOnNext(v -> events.add("end-a"));
+        });
+        Mono<String> b = sequencer.submit("acc", () -> {
+            events.add("start-b");
+            return Mono.just("b");
+        });
+
+        StepVerifier.create(a.zipWith(b))
+                .then(() -> assertEquals(List.of("start-a"), events))
+                .then(() -> first.tryEmitValue("a"))
+                .assertNext(t -> assertEquals("a", t.getT1()))
+                .verifyComplete();
+
+        assertEquals(List.of("start-a", "end-a", "start-b"), events);
+    }
+
+    @Test
+    void submit_shouldNotBlockOtherAccounts() {
+        Sinks.One<String> blocked = Sinks.one();
+        sequencer.submit("acc-1", blocked::asMono).subscribe();
+
+        StepVerifier.create(sequencer.submit("acc-2", () -> Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    @Test
+    void submit_shouldRejectWhenLaneIsFull() {
+        Sinks.One<String> blocked = Sinks.one();
+        sequencer.submit("acc", blocked::asMono).subscribe();
+        sequencer.submit("acc", () -> Mono.just("1")).subscribe();
+        sequencer.submit("acc", () -> Mono.just("2")).subscribe();
+
+        StepVerifier.create(sequencer.submit("acc", () -> Mono.just("3")))
+                .expectError(AccountBusyException.class)
+                .verify();
+    }
+
+    @Test
+    void submit_shouldReleaseLaneAfterError() {
+        sequencer.submit("acc", () -> Mono.error(new IllegalStateException("x")))
+                .onErrorResume(e -> Mono.empty())
+                .subscribe();
+
+        StepVerifier.create(sequencer.submit("acc", () -> Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    @Test
+    void submit_shouldPropagateCallerContext() {
+        StepVerifier.create(sequencer.submit("acc",
+                        () -> Mono.deferContextual(ctx -> Mono.just(ctx.<String>get("trace"))))
+                        .contextWrite(ctx -> ctx.put("trace", "t-1")))
+                .expectNext("t-1")
+                .verifyComplete();
+    }
+
+    @Test
+    void submit_shouldKeepOrderUnderConcurrentProducers() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        var properties = new SequencingProperties();
+        properties.setMaxQueueDepth(1000);
+        var wide = new AccountSequencer(properties);
+
+        StepVerifier.create(Flux.range(0, 200)
+                        .parallel(8)
+                        .runOn(Schedulers.parallel())
+                        .flatMap(i -> wide.submit("acc", () -> Mono.fromCallable(() -> {
+                                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                    return i;
+                                })
+                                .delayElement(Duration.ofMillis(1))
+                                .doOnNext(v -> running.decrementAndGet())))
+                        .sequential()
+                        .count())
+                .expectNext(200L)
+                .verifyComplete();
+
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void submit_shouldSkipWorkWhoseDeadlineExpiredWhileQueued() {
+        Sinks.One<String> blocked = Sinks.one();
+        AtomicInteger started = new AtomicInteger();
+        sequencer.submit("acc", blocked::asMono).subscribe();
+
+        var queued = sequencer.submit("acc", () -> {
+                    started.incrementAndGet();
+                    return Mono.just("late");
+                })
+                .contextWrite(RequestDeadline.after(Duration.ofMillis(10))::writeTo);
+
+        StepVerifier.create(queued)
+                .then(() -> {
+                    try {
+                        Thread.sleep(30);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    blocked.tryEmitValue("done");
+                })
+                .expectError(DeadlineExceededException.class)
+                .verify();
+        assertEquals(0, started.get());
+    }
+}
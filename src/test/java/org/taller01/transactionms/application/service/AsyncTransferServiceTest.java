@@ -0,0 +1,185 @@
+package org.taller01.transactionms.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.taller01.transactionms.domain.exception.AccountBusyException;
+import org.taller01.transactionms.domain.exception.AsyncQueueFullException;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.factory.TransactionFactory;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import org.taller01.transactionms.domain.strategy.TransactionStrategy;
+import org.taller01.transactionms.dto.request.TransferRequest;
+import org.taller01.transactionms.infrastructure.config.AsyncTransferProperties;
+import org.taller01.transactionms.infrastructure.config.SequencingProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AsyncTransferServiceTest {
+
+    private static final Instant ACCEPTED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+    private ITransactionRepository repository;
+    private TransactionStrategy<TransferRequest> strategy;
+    private AsyncTransferProperties properties;
+    private TransactionFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ITransactionRepository.class);
+        strategy = mock(TransactionStrategy.class);
+        properties = new AsyncTransferProperties();
+        factory = new TransactionFactory();
+        when(repository.save(any())).thenAnswer(inv -> {
+            Transaction tx = inv.getArgument(0);
+            tx.setId("tx1");
+            tx.setCreatedAt(ACCEPTED_AT);
+            return Mono.just(tx);
+        });
+        when(repository.compareAndSetStatus("tx1", TransactionStatus.PENDING,
+                TransactionStatus.PROCESSING)).thenAnswer(inv -> Mono.just(Transaction.builder()
+                .id("tx1").type(TransactionType.TRANSFER).status(TransactionStatus.PROCESSING)
+                .fromAccountId("acc1").toAccountId("acc2").amount(Money.of("10"))
+                .createdAt(ACCEPTED_AT).build()));
+        when(repository.update(any())).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+    }
+
+    private AsyncTransferService service() {
+        return new AsyncTransferService(Map.of(TransactionType.TRANSFER, strategy), repository,
+                new AccountSequencer(new SequencingProperties()), factory, properties);
+    }
+
+    @Test
+    void accept_shouldReturnPendingAndStoreResultOnSameRecord() {
+        when(strategy.process(any())).thenReturn(Mono.just(factory.success(
+                TransactionType.TRANSFER, "acc1", "acc2", Money.of("10"), "ok")));
+        var service = service();
+
+        StepVerifier.create(service.accept(new TransferRequest("acc1", "acc2", Money.of("10"))))
+                .assertNext(tx -> {
+                    assertThat(tx.getId()).isEqualTo("tx1");
+                    assertThat(tx.getStatus()).isEqualTo(TransactionStatus.PENDING);
+                })
+                .verifyComplete();
+
+        var stored = ArgumentCaptor.forClass(Transaction.class);
+        verify(repository, timeout(1000)).update(stored.capture());
+        assertThat(stored.getValue().getId()).isEqualTo("tx1");
+        assertThat(stored.getValue().getStatus()).isEqualTo(TransactionStatus.SUCCESS);
+        assertThat(stored.getValue().getCreatedAt()).isEqualTo(ACCEPTED_AT);
+        assertThat(service.outstanding()).isZero();
+    }
+
+    @Test
+    void accept_shouldStoreFailureWhenProcessingErrors() {
+        when(strategy.process(any())).thenReturn(Mono.error(new IllegalStateException("boom")));
+        var service = service();
+
+        service.accept(new TransferRequest("acc1", "acc2", Money.of("10"))).block();
+
+        var stored = ArgumentCaptor.forClass(Transaction.class);
+        verify(repository, timeout(1000)).update(stored.capture());
+        assertThat(stored.getValue().getStatus()).isEqualTo(TransactionStatus.FAILED);
+        assertThat(stored.getValue().getMessage()).isEqualTo("boom");
+    }
+
+    @Test
+    void run_shouldRequeueAsPendingWhenAccountLaneIsFull() {
+        properties.setRequeueDelay(Duration.ofMillis(10));
+        when(strategy.process(any())).thenReturn(Mono.just(factory.success(
+                TransactionType.TRANSFER, "acc1", "acc2", Money.of("10"), "ok")));
+        when(repository.compareAndSetStatus("tx1", TransactionStatus.PROCESSING,
+                TransactionStatus.PENDING)).thenAnswer(inv -> Mono.just(Transaction.builder()
+                .id("tx1").status(TransactionStatus.PENDING).build()));
+        var sequencer = mock(AccountSequencer.class);
+        when(sequencer.submit(any(), any()))
+                .thenReturn(Mono.error(new AccountBusyException(Messages.ACCOUNT_BUSY)))
+                .thenAnswer(inv -> inv.<Supplier<Mono<Transaction>>>getArgument(1).get());
+        var service = new AsyncTransferService(Map.of(TransactionType.TRANSFER, strategy),
+                repository, sequencer, factory, properties);
+
+        service.accept(new TransferRequest("acc1", "acc2", Money.of("10"))).block();
+
+        var stored = ArgumentCaptor.forClass(Transaction.class);
+        verify(repository, timeout(1000)).update(stored.capture());
+        assertThat(stored.getValue().getStatus()).isEqualTo(TransactionStatus.SUCCESS);
+        verify(repository).compareAndSetStatus("tx1", TransactionStatus.PROCESSING,
+                TransactionStatus.PENDING);
+        verify(repository, times(2)).compareAndSetStatus("tx1", TransactionStatus.PENDING,
+                TransactionStatus.PROCESSING);
+    }
+
+    @Test
+    void accept_shouldRejectWhenQueueIsFull() {
+        properties.setQueueCapacity(1);
+        Sinks.One<Transaction> blocked = Sinks.one();
+        when(strategy.process(any())).thenReturn(blocked.asMono());
+        var service = service();
+        var request = new TransferRequest("acc1", "acc2", Money.of("10"));
+
+        service.accept(request).block();
+
+        StepVerifier.create(service.accept(request))
+                .expectError(AsyncQueueFullException.class)
+                .verify();
+    }
+
+    @Test
+    void run_shouldSkipTransferAlreadyClaimedElsewhere() {
+        when(repository.compareAndSetStatus(any(), any(), any())).thenReturn(Mono.empty());
+        var service = service();
+
+        service.accept(new TransferRequest("acc1", "acc2", Money.of("10"))).block();
+
+        verify(repository, timeout(1000)).compareAndSetStatus("tx1", TransactionStatus.PENDING,
+                TransactionStatus.PROCESSING);
+        verify(strategy, never()).process(any());
+        verify(repository, never()).update(any());
+    }
+
+    @Test
+    void recover_shouldRequeuePendingTransfers() {
+        when(strategy.process(any())).thenReturn(Mono.just(factory.success(
+                TransactionType.TRANSFER, "acc1", "acc2", Money.of("10"), "ok")));
+        when(repository.findByStatus(TransactionStatus.PENDING)).thenReturn(Flux.just(
+                Transaction.builder().id("tx1").status(TransactionStatus.PENDING).build()));
+        when(repository.findByStatus(TransactionStatus.PROCESSING)).thenReturn(Flux.empty());
+
+        service().recover();
+
+        verify(repository, timeout(1000)).update(any());
+    }
+
+    @Test
+    void recover_shouldLeavePendingWhatDoesNotFitInTheQueue() {
+        properties.setQueueCapacity(1);
+        properties.setConcurrency(1);
+        when(strategy.process(any())).thenReturn(Sinks.<Transaction>one().asMono());
+        when(repository.findByStatus(TransactionStatus.PENDING)).thenReturn(Flux.just(
+                Transaction.builder().id("tx1").status(TransactionStatus.PENDING).build(),
+                Transaction.builder().id("tx2").status(TransactionStatus.PENDING).build(),
+                Transaction.builder().id("tx3").status(TransactionStatus.PENDING).build()));
+        when(repository.findByStatus(TransactionStatus.PROCESSING)).thenReturn(Flux.empty());
+        var service = service();
+
+        service.recover();
+
+        verify(strategy, timeout(1000)).process(any());
+        assertThat(service.outstanding()).isEqualTo(2);
+    }
+}
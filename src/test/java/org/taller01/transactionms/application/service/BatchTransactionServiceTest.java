@@ -0,0 +1,157 @@
+package org.taller01.transactionms.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.exception.AccountBusyException;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.factory.TransactionFactory;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import org.taller01.transactionms.domain.strategy.TransactionStrategy;
+import org.taller01.transactionms.dto.request.BatchTransactionRequest;
+import org.taller01.transactionms.dto.request.DepositRequest;
+import org.taller01.transactionms.dto.request.TransferRequest;
+import org.taller01.transactionms.dto.request.WithdrawRequest;
+import org.taller01.transactionms.infrastructure.config.BatchProperties;
+import org.taller01.transactionms.infrastructure.config.SequencingProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class BatchTransactionServiceTest {
+
+    private ITransactionRepository repo;
+    private TransactionStrategy<DepositRequest> depositStrategy;
+    private TransactionStrategy<WithdrawRequest> withdrawStrategy;
+    private TransactionStrategy<TransferRequest> transferStrategy;
+    private BatchTransactionService service;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(ITransactionRepository.class);
+        depositStrategy = mock(TransactionStrategy.class);
+        withdrawStrategy = mock(TransactionStrategy.class);
+        transferStrategy = mock(TransactionStrategy.class);
+
+        var properties = new BatchProperties();
+        properties.setInsertChunkSize(2);
+
+        service = new BatchTransactionService(
+                Map.of(
+                        TransactionType.DEPOSIT, depositStrategy,
+                        TransactionType.WITHDRAWAL, withdrawStrategy,
+                        TransactionType.TRANSFER, transferStrategy
+                ),
+                repo, new TransactionFactory(), properties,
+                new AccountSequencer(new SequencingProperties()));
+
+        when(repo.saveAll(anyList())).thenAnswer(inv -> Flux.fromIterable(inv.getArgument(0)));
+    }
+
+    @Test
+    void submit_shouldProcessEachItemAndInsertInChunks() {
+        var d = Transaction.builder().id("d").type(TransactionType.DEPOSIT).build();
+        var w = Transaction.builder().id("w").type(TransactionType.WITHDRAWAL).build();
+        var t = Transaction.builder().id("t").type(TransactionType.TRANSFER).build();
+        when(depositStrategy.process(any())).thenReturn(Mono.just(d));
+        when(withdrawStrategy.process(any())).thenReturn(Mono.just(w));
+        when(transferStrategy.process(any())).thenReturn(Mono.just(t));
+
+        var items = Flux.just(
+                new BatchTransactionRequest(TransactionType.DEPOSIT, "a1", null, null, Money.of("10")),
+                new BatchTransactionRequest(TransactionType.WITHDRAWAL, "a1", null, null, Money.of("1")),
+                new BatchTransactionRequest(TransactionType.TRANSFER, null, "a1", "a2", Money.of("1")));
+
+        StepVerifier.create(service.submit(items))
+                .expectNext(d, w, t)
+                .verifyComplete();
+
+        verify(depositStrategy).process(new DepositRequest("a1", Money.of("10")));
+        verify(transferStrategy).process(new TransferRequest("a1", "a2", Money.of("1")));
+        verify(repo).saveAll(List.of(d, w));
+        verify(repo).saveAll(List.of(t));
+        verify(depositStrategy, never()).execute(any());
+    }
+
+    @Test
+    void submit_shouldStillInsertBufferedResultsWhenClientCancels() {
+        var properties = new BatchProperties();
+        properties.setInsertChunkSize(10);
+        properties.setMaxChunkDelay(Duration.ofSeconds(30));
+        service = new BatchTransactionService(Map.of(TransactionType.DEPOSIT, depositStrategy), repo,
+                new TransactionFactory(), properties, new AccountSequencer(new SequencingProperties()));
+        var d1 = Transaction.builder().id("d1").type(TransactionType.DEPOSIT).build();
+        var d2 = Transaction.builder().id("d2").type(TransactionType.DEPOSIT).build();
+        when(depositStrategy.process(any())).thenReturn(Mono.just(d1), Mono.just(d2));
+
+        var items = Flux.just(
+                new BatchTransactionRequest(TransactionType.DEPOSIT, "a1", null, null, Money.of("1")),
+                new BatchTransactionRequest(TransactionType.DEPOSIT, "a2", null, null, Money.of("2")))
+                .concatWith(Flux.never());
+
+        StepVerifier.create(service.submit(items))
+                .thenAwait(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+
+        verify(repo, timeout(1000)).saveAll(List.of(d1, d2));
+    }
+
+    @Test
+    void submit_shouldReturnResultsWhenChunkInsertFails() {
+        var d = Transaction.builder().id("d").type(TransactionType.DEPOSIT).build();
+        when(depositStrategy.process(any())).thenReturn(Mono.just(d));
+        when(repo.saveAll(anyList())).thenReturn(Flux.error(new IllegalStateException("mongo caído")));
+
+        var items = Flux.just(
+                new BatchTransactionRequest(TransactionType.DEPOSIT, "a1", null, null, Money.of("10")),
+                new BatchTransactionRequest(TransactionType.DEPOSIT, "a1", null, null, Money.of("10")));
+
+        StepVerifier.create(service.submit(items))
+                .expectNext(d, d)
+                .verifyComplete();
+    }
+
+    @Test
+    void submit_shouldRecordFailureForIncompleteTransfer() {
+        var items = Flux.just(
+                new BatchTransactionRequest(TransactionType.TRANSFER, null, "a1", null, Money.of("10")));
+
+        StepVerifier.create(service.submit(items))
+                .expectNextMatches(tx -> tx.getStatus() == TransactionStatus.FAILED
+                        && tx.getFromAccountId().equals("a1")
+                        && tx.getMessage().equals(Messages.BATCH_ITEM_INCOMPLETE))
+                .verifyComplete();
+
+        verifyNoInteractions(transferStrategy);
+    }
+
+    @Test
+    void submit_shouldRecordItemErrorAsFailureAndKeepGoing() {
+        var d = Transaction.builder().id("d").type(TransactionType.DEPOSIT).build();
+        when(depositStrategy.process(any()))
+                .thenReturn(Mono.error(new AccountBusyException(Messages.ACCOUNT_BUSY)), Mono.just(d));
+
+        var items = Flux.just(
+                new BatchTransactionRequest(TransactionType.DEPOSIT, "a1", null, null, Money.of("10")),
+                new BatchTransactionRequest(TransactionType.DEPOSIT, "a2", null, null, Money.of("5")));
+
+        StepVerifier.create(service.submit(items))
+                .expectNextMatches(tx -> tx.getStatus() == TransactionStatus.FAILED
+                        && tx.getToAccountId().equals("a1")
+                        && tx.getMessage().equals(Messages.ACCOUNT_BUSY))
+                .expectNext(d)
+                .verifyComplete();
+    }
+}
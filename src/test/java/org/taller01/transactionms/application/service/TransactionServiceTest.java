@@ -2,9 +2,19 @@ package org.taller01.transactionms.application.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.exception.InvalidRequestException;
+import org.taller01.transactionms.domain.exception.ResourceNotFoundException;
+import org.taller01.transactionms.domain.model.AccountSummary;
+import org.taller01.transactionms.domain.model.HistoryCursor;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.StatsGranularity;
+import org.taller01.transactionms.domain.model.StatsQuery;
 import org.taller01.transactionms.domain.model.Transaction;
 import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.out.IAccountSummaryRepository;
 import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import org.taller01.transactionms.domain.port.out.ITransactionStatsRepository;
 import org.taller01.transactionms.domain.strategy.TransactionStrategy;
 import org.taller01.transactionms.dto.request.DepositRequest;
 import org.taller01.transactionms.dto.request.TransferRequest;
@@ -14,14 +24,20 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 class TransactionServiceTest {
 
     private ITransactionRepository transactionRepository;
+    private IAccountSummaryRepository summaryRepository;
+    private ITransactionStatsRepository statsRepository;
     private TransactionStrategy<DepositRequest> depositStrategy;
     private TransactionStrategy<WithdrawRequest> withdrawStrategy;
     private TransactionStrategy<TransferRequest> transferStrategy;
@@ -31,6 +47,8 @@ class TransactionServiceTest {
     @BeforeEach
     void setUp() {
         transactionRepository = mock(ITransactionRepository.class);
+        summaryRepository = mock(IAccountSummaryRepository.class);
+        statsRepository = mock(ITransactionStatsRepository.class);
 
         depositStrategy = mock(TransactionStrategy.class);
         when(depositStrategy.getType()).thenReturn(TransactionType.DEPOSIT);
@@ -47,13 +65,15 @@ class TransactionServiceTest {
                         TransactionType.WITHDRAWAL, withdrawStrategy,
                         TransactionType.TRANSFER, transferStrategy
                 ),
-                transactionRepository
+                transactionRepository,
+                summaryRepository,
+                statsRepository
         );
     }
 
     @Test
     void deposit_shouldDelegateToDepositStrategy() {
-        var request = new DepositRequest("acc1", BigDecimal.valueOf(100));
+        var request = new DepositRequest("acc1", Money.of("100"));
         var tx = Transaction.builder().id("tx1").type(TransactionType.DEPOSIT).build();
 
         when(depositStrategy.execute(any())).thenReturn(Mono.just(tx));
@@ -67,7 +87,7 @@ class TransactionServiceTest {
 
     @Test
     void withdraw_shouldDelegateToWithdrawStrategy() {
-        var request = new WithdrawRequest("acc1", BigDecimal.valueOf(50));
+        var request = new WithdrawRequest("acc1", Money.of("50"));
         var tx = Transaction.builder().id("tx2").type(TransactionType.WITHDRAWAL).build();
 
         when(withdrawStrategy.execute(any())).thenReturn(Mono.just(tx));
@@ -81,7 +101,7 @@ class TransactionServiceTest {
 
     @Test
     void transfer_shouldDelegateToTransferStrategy() {
-        var request = new TransferRequest("acc1", "acc2", BigDecimal.valueOf(200));
+        var request = new TransferRequest("acc1", "acc2", Money.of("200"));
         var tx = Transaction.builder().id("tx3").type(TransactionType.TRANSFER).build();
 
         when(transferStrategy.execute(any())).thenReturn(Mono.just(tx));
@@ -96,23 +116,136 @@ class TransactionServiceTest {
     @Test
     void getHistory_shouldDelegateToRepository() {
         var tx = Transaction.builder().id("tx4").build();
-        when(transactionRepository.findByAccountId("acc1"))
+        var query = HistoryQuery.forAccount("acc1");
+        when(transactionRepository.findHistory(query))
                 .thenReturn(Flux.just(tx));
 
-        StepVerifier.create(service.getHistory("acc1"))
+        StepVerifier.create(service.getHistory(query))
                 .expectNext(tx)
                 .verifyComplete();
 
-        verify(transactionRepository).findByAccountId("acc1");
+        verify(transactionRepository).findHistory(query);
+    }
+
+    @Test
+    void getHistoryPage_shouldReturnNextCursorWhenMoreRowsExist() {
+        var t1 = Transaction.builder().id("id1").createdAt(Instant.ofEpochMilli(3000)).build();
+        var t2 = Transaction.builder().id("id2").createdAt(Instant.ofEpochMilli(2000)).build();
+        var t3 = Transaction.builder().id("id3").createdAt(Instant.ofEpochMilli(1000)).build();
+        when(transactionRepository.findPageByAccountId(eq("acc1"), isNull(), eq(3)))
+                .thenReturn(Flux.just(t1, t2, t3));
+
+        StepVerifier.create(service.getHistoryPage("acc1", null, 2))
+                .assertNext(page -> {
+                    assertThat(page.items()).containsExactly(t1, t2);
+                    assertThat(HistoryCursor.decode(page.nextCursor()))
+                            .isEqualTo(new HistoryCursor(Instant.ofEpochMilli(2000), "id2"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getHistoryPage_shouldContinueFromCursorAndEndWithoutNextCursor() {
+        var cursor = new HistoryCursor(Instant.ofEpochMilli(2000), "id2");
+        var t3 = Transaction.builder().id("id3").createdAt(Instant.ofEpochMilli(1000)).build();
+        when(transactionRepository.findPageByAccountId("acc1", cursor, 3))
+                .thenReturn(Flux.just(t3));
+
+        StepVerifier.create(service.getHistoryPage("acc1", cursor.encode(), 2))
+                .assertNext(page -> {
+                    assertThat(page.items()).containsExactly(t3);
+                    assertThat(page.nextCursor()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getHistoryPage_shouldRejectInvalidCursor() {
+        org.junit.jupiter.api.Assertions.assertThrows(InvalidRequestException.class,
+                () -> service.getHistoryPage("acc1", "%%%", 10));
+    }
+
+    @Test
+    void getSummary_shouldReturnStoredSummary() {
+        var summary = new AccountSummary("acc1", BigDecimal.TEN, BigDecimal.ONE, BigDecimal.ZERO,
+                BigDecimal.ZERO, Map.of(), Instant.now());
+        when(summaryRepository.findByAccountId("acc1")).thenReturn(Mono.just(summary));
+
+        StepVerifier.create(service.getSummary("acc1"))
+                .expectNext(summary)
+                .verifyComplete();
+    }
+
+    @Test
+    void getSummary_shouldReturnZerosWhenAccountHasNoTransactions() {
+        when(summaryRepository.findByAccountId("acc1")).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.getSummary("acc1"))
+                .assertNext(s -> {
+                    assertThat(s.totalDeposited()).isEqualByComparingTo(BigDecimal.ZERO);
+                    assertThat(s.countsByStatus()).isEmpty();
+                    assertThat(s.lastTransactionAt()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getStats_shouldAlignFromToBucketStart() {
+        var from = Instant.parse("2025-01-01T10:15:00Z");
+        var to = Instant.parse("2025-01-01T14:00:00Z");
+        when(statsRepository.find(any())).thenReturn(Flux.empty());
+
+        StepVerifier.create(service.getStats(new StatsQuery("acc1", StatsGranularity.HOUR, from, to)))
+                .verifyComplete();
+
+        verify(statsRepository).find(new StatsQuery("acc1", StatsGranularity.HOUR,
+                Instant.parse("2025-01-01T10:00:00Z"), to));
+    }
+
+    @Test
+    void getStats_withoutRange_shouldReadLatestBuckets() {
+        when(statsRepository.find(any())).thenReturn(Flux.empty());
+
+        StepVerifier.create(service.getStats(new StatsQuery(null, null, null, null)))
+                .verifyComplete();
+
+        verify(statsRepository).find(argThat(q -> q.accountId() == null
+                && q.granularity() == StatsGranularity.HOUR
+                && q.to().isAfter(Instant.now())
+                && q.from().plus(StatsGranularity.HOUR.size()
+                        .multipliedBy(TransactionService.DEFAULT_STATS_BUCKETS)).equals(q.to())));
+    }
+
+    @Test
+    void getStats_shouldRejectRangeWiderThanMaxBuckets() {
+        var from = Instant.parse("2025-01-01T00:00:00Z");
+        var query = new StatsQuery(null, StatsGranularity.MINUTE, from,
+                from.plus(StatsGranularity.MINUTE.size()
+                        .multipliedBy(TransactionService.MAX_STATS_BUCKETS + 1)));
+
+        StepVerifier.create(service.getStats(query))
+                .expectError(InvalidRequestException.class)
+                .verify();
+        verifyNoInteractions(statsRepository);
+    }
+
+    @Test
+    void findById_shouldFailWhenTransactionDoesNotExist() {
+        when(transactionRepository.findById("missing")).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.findById("missing"))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
     }
 
     @Test
     void getStrategy_shouldThrowWhenNotFound() {
-        var serviceWithoutStrategies = new TransactionService(Map.of(), transactionRepository);
+        var serviceWithoutStrategies = new TransactionService(Map.of(), transactionRepository,
+                summaryRepository, statsRepository);
 
         var ex = org.junit.jupiter.api.Assertions.assertThrows(
                 IllegalArgumentException.class,
-                () -> serviceWithoutStrategies.deposit(new DepositRequest("acc1", BigDecimal.TEN)).block()
+                () -> serviceWithoutStrategies.deposit(new DepositRequest("acc1", Money.of("10"))).block()
         );
 
         org.assertj.core.api.Assertions.assertThat(ex.getMessage())
@@ -0,0 +1,90 @@
+package org.taller01.transactionms.domain.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.infrastructure.config.MoneyJsonComponent;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class MoneyTest {
+
+    @Test
+    void of_shouldParseDecimalTextIntoMinorUnits() {
+        assertThat(Money.of("12").minorUnits()).isEqualTo(1200);
+        assertThat(Money.of("12.5").minorUnits()).isEqualTo(1250);
+        assertThat(Money.of("-0.05").minorUnits()).isEqualTo(-5);
+        assertThat(Money.of("10.500").minorUnits()).isEqualTo(1050);
+        assertThat(Money.of("1.5E2").minorUnits()).isEqualTo(15000);
+        assertThat(Money.of(new BigDecimal("7.10"))).isEqualTo(Money.of("7.1"));
+    }
+
+    @Test
+    void of_shouldRejectExtraDecimalsAndOverflow() {
+        assertThrows(ArithmeticException.class, () -> Money.of("10.123"));
+        assertThrows(ArithmeticException.class, () -> Money.of("92233720368547758.08"));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.of("0.01")));
+        assertThrows(NumberFormatException.class, () -> Money.of("1,5"));
+        assertThrows(NumberFormatException.class, () -> Money.of("-"));
+    }
+
+    @Test
+    void of_shouldRejectHugeExponentsWithoutRescaling() {
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThrows(ArithmeticException.class, () -> Money.of("1e99999999"));
+            assertThrows(ArithmeticException.class, () -> Money.of("-1E+999999999"));
+            assertThrows(ArithmeticException.class, () -> Money.of("1e-99999999"));
+            assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("9.99e19")));
+            assertThat(Money.of("0e99999999")).isEqualTo(Money.ZERO);
+            assertThat(Money.of("1.20e1")).isEqualTo(Money.of("12"));
+        });
+    }
+
+    @Test
+    void json_shouldRejectHugeExponentAmounts() {
+        var mapper = new ObjectMapper().registerModule(MoneyJsonComponent.module());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> assertThrows(
+                InvalidFormatException.class, () -> mapper.readValue("1e99999999", Money.class)));
+    }
+
+    @Test
+    void ofStored_shouldRoundLegacyAmountsAndKeepRejectingOverflow() {
+        assertThat(Money.ofStored("10.555")).isEqualTo(Money.of("10.56"));
+        assertThat(Money.ofStored("10.50")).isEqualTo(Money.of("10.5"));
+        assertThat(Money.ofStored(new BigDecimal("1.005"))).isEqualTo(Money.of("1.00"));
+        assertThat(Money.ofStored(new BigDecimal("1e-99999999"))).isEqualTo(Money.ZERO);
+        assertThrows(ArithmeticException.class, () -> Money.ofStored("1e99999999"));
+        assertThrows(ArithmeticException.class, () -> Money.ofStored("92233720368547758.08"));
+    }
+
+    @Test
+    void toString_shouldUseFixedScale() {
+        assertThat(Money.of("25.5")).hasToString("25.50");
+        assertThat(Money.ofMinor(-7)).hasToString("-0.07");
+        assertThat(Money.ZERO.toBigDecimal()).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    void arithmetic_shouldBeExact() {
+        var balance = Money.of("100.10");
+
+        assertThat(balance.minus(Money.of("0.10"))).isEqualTo(Money.of("100"));
+        assertThat(balance.isLessThan(Money.of("100.11"))).isTrue();
+        assertThat(balance.negate().isNegative()).isTrue();
+    }
+
+    @Test
+    void json_shouldKeepNumericWireFormat() throws Exception {
+        var mapper = new ObjectMapper().registerModule(MoneyJsonComponent.module());
+
+        assertThat(mapper.writeValueAsString(Money.of("25.5"))).isEqualTo("25.50");
+        assertThat(mapper.readValue("25.5", Money.class)).isEqualTo(Money.of("25.50"));
+        assertThat(mapper.readValue("100", Money.class)).isEqualTo(Money.of("100"));
+    }
+}
@@ -0,0 +1,60 @@
+package org.taller01.transactionms.domain.model;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingsTest {
+
+    @Test
+    void serverTiming_shouldListOnlyRecordedPhasesAndTotal() {
+        var timings = RequestTimings.start();
+        timings.record(RequestTimings.Phase.GET_ACCOUNT, 12_340_000);
+        timings.record(RequestTimings.Phase.SAVE, 2_000_000);
+        timings.record(RequestTimings.Phase.SAVE, 1_500_000);
+        timings.committed();
+
+        assertThat(timings.serverTiming())
+                .startsWith("account-balance;dur=12.3, db-save;dur=3.5, total;dur=")
+                .doesNotContain("withdraw").doesNotContain("serialize");
+        assertThat(timings.describe()).contains("db-save=3.5ms (x2)");
+    }
+
+    @Test
+    void time_shouldRecordPhaseFromContext() {
+        var timings = RequestTimings.start();
+
+        StepVerifier.create(RequestTimings.time(RequestTimings.Phase.WITHDRAW,
+                        Mono.delay(Duration.ofMillis(20)).then(Mono.just("ok")))
+                        .contextWrite(timings::writeTo))
+                .expectNext("ok")
+                .verifyComplete();
+
+        assertThat(timings.serverTiming()).contains("withdraw;dur=");
+        assertThat(timings.describe()).doesNotContain("withdraw=0.0ms");
+    }
+
+    @Test
+    void time_withoutTimings_shouldPassThrough() {
+        StepVerifier.create(RequestTimings.time(RequestTimings.Phase.DEPOSIT, Mono.just(1)))
+                .expectNext(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void handled_shouldAddSerializationOnCommit() {
+        var timings = RequestTimings.start();
+
+        StepVerifier.create(RequestTimings.handled(Mono.just("body"))
+                        .contextWrite(timings::writeTo))
+                .expectNext("body")
+                .verifyComplete();
+        timings.committed();
+
+        assertThat(timings.serverTiming()).contains("serialize;dur=");
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.taller01.transactionms.domain.exception.Messages;
 import org.taller01.transactionms.domain.factory.TransactionFactory;
+import org.taller01.transactionms.domain.model.Money;
 import org.taller01.transactionms.domain.model.TransactionType;
 import org.taller01.transactionms.domain.port.out.AccountClientPort;
 import org.taller01.transactionms.domain.port.out.ITransactionRepository;
@@ -12,10 +13,10 @@ import org.taller01.transactionms.dto.request.DepositRequest;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.*;
 
 class DepositTransactionTest {
@@ -35,10 +36,10 @@ class DepositTransactionTest {
 
     @Test
     void execute_shouldSaveSuccessTransaction() {
-        var request = new DepositRequest("acc1", BigDecimal.TEN);
+        var request = new DepositRequest("acc1", Money.of("10"));
 
         // ✅ Ahora usamos Mono.empty() porque .then(...) lo maneja bien
-        when(accountClient.deposit("acc1", BigDecimal.TEN))
+        when(accountClient.deposit("acc1", Money.of("10")))
                 .thenReturn(Mono.empty());
 
         when(repo.save(any()))
@@ -59,7 +60,7 @@ class DepositTransactionTest {
 
     @Test
     void execute_shouldHandleWebClientResponseException() {
-        var request = new DepositRequest("acc1", BigDecimal.TEN);
+        var request = new DepositRequest("acc1", Money.of("10"));
 
         var ex = WebClientResponseException.create(
                 404, "Not Found", null,
@@ -67,7 +68,7 @@ class DepositTransactionTest {
                 StandardCharsets.UTF_8
         );
 
-        when(accountClient.deposit("acc1", BigDecimal.TEN))
+        when(accountClient.deposit("acc1", Money.of("10")))
                 .thenReturn(Mono.error(ex));
 
         when(repo.save(any()))
@@ -81,4 +82,15 @@ class DepositTransactionTest {
                 .verifyComplete();
     }
 
+    @Test
+    void process_shouldNotPersistTransaction() {
+        var request = new DepositRequest("acc1", Money.of("10"));
+        when(accountClient.deposit("acc1", Money.of("10"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(depositTx.process(request))
+                .expectNextMatches(tx -> tx.getStatus().toString().equals("SUCCESS"))
+                .verifyComplete();
+
+        verify(repo, never()).save(any());
+    }
 }
@@ -2,7 +2,10 @@ package org.taller01.transactionms.domain.strategy;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
 import org.taller01.transactionms.domain.factory.TransactionFactory;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.RequestDeadline;
 import org.taller01.transactionms.domain.model.Transaction;
 import org.taller01.transactionms.domain.port.out.AccountClientPort;
 import org.taller01.transactionms.domain.port.out.ITransactionRepository;
@@ -12,8 +15,10 @@ import org.taller01.transactionms.infrastructure.external.account.AccountType;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -32,7 +37,7 @@ class TransferTransactionTest {
 
     @Test
     void execute_sameAccount_shouldFail() {
-        var request = new TransferRequest("acc1", "acc1", BigDecimal.TEN);
+        var request = new TransferRequest("acc1", "acc1", Money.of("10"));
         when(repo.save(any(Transaction.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
         StepVerifier.create(transferTx.execute(request))
@@ -42,12 +47,12 @@ class TransferTransactionTest {
 
     @Test
     void execute_insufficientBalance_shouldFail() {
-        var request = new TransferRequest("from", "to", BigDecimal.valueOf(100));
-        var from = new AccountResponse("from", "123", BigDecimal.valueOf(50), AccountType.SAVINGS, "cli");
-        var to = new AccountResponse("to", "456", BigDecimal.valueOf(200), AccountType.SAVINGS, "cli");
+        var request = new TransferRequest("from", "to", Money.of("100"));
+        var from = new AccountResponse("from", "123", Money.of("50"), AccountType.SAVINGS, "cli");
+        var to = new AccountResponse("to", "456", Money.of("200"), AccountType.SAVINGS, "cli");
 
         when(accountClient.getAccount("from")).thenReturn(Mono.just(from));
-        when(accountClient.getAccount("to")).thenReturn(Mono.just(to));
+        when(accountClient.getAccountMetadata("to")).thenReturn(Mono.just(to));
         when(repo.save(any(Transaction.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
         StepVerifier.create(transferTx.execute(request))
@@ -57,18 +62,53 @@ class TransferTransactionTest {
 
     @Test
     void execute_success() {
-        var request = new TransferRequest("from", "to", BigDecimal.valueOf(100));
-        var from = new AccountResponse("from", "123", BigDecimal.valueOf(500), AccountType.SAVINGS, "cli");
-        var to = new AccountResponse("to", "456", BigDecimal.valueOf(200), AccountType.SAVINGS, "cli");
+        var request = new TransferRequest("from", "to", Money.of("100"));
+        var from = new AccountResponse("from", "123", Money.of("500"), AccountType.SAVINGS, "cli");
+        var to = new AccountResponse("to", "456", Money.of("200"), AccountType.SAVINGS, "cli");
 
         when(accountClient.getAccount("from")).thenReturn(Mono.just(from));
-        when(accountClient.getAccount("to")).thenReturn(Mono.just(to));
-        when(accountClient.withdraw("from", BigDecimal.valueOf(100))).thenReturn(Mono.empty());
-        when(accountClient.deposit("to", BigDecimal.valueOf(100))).thenReturn(Mono.empty());
+        when(accountClient.getAccountMetadata("to")).thenReturn(Mono.just(to));
+        when(accountClient.withdraw("from", Money.of("100"))).thenReturn(Mono.empty());
+        when(accountClient.settleDeposit("to", Money.of("100"))).thenReturn(Mono.empty());
         when(repo.save(any(Transaction.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
         StepVerifier.create(transferTx.execute(request))
                 .expectNextMatches(tx -> tx.getStatus().name().equals("SUCCESS"))
                 .verifyComplete();
     }
+
+    @Test
+    void process_deadlineExceeded_shouldPropagateWithoutRecording() {
+        var request = new TransferRequest("from", "to", Money.of("10"));
+        when(accountClient.getAccount("from"))
+                .thenReturn(Mono.error(new DeadlineExceededException("plazo")));
+        when(accountClient.getAccountMetadata("to")).thenReturn(Mono.never());
+
+        StepVerifier.create(transferTx.execute(request))
+                .expectError(DeadlineExceededException.class)
+                .verify();
+        verifyNoInteractions(repo);
+    }
+
+    @Test
+    void process_afterWithdraw_shouldDepositWithoutDeadline() {
+        var request = new TransferRequest("from", "to", Money.of("10"));
+        var from = new AccountResponse("from", "123", Money.of("50"), AccountType.SAVINGS, "cli");
+        var to = new AccountResponse("to", "456", Money.ZERO, AccountType.SAVINGS, "cli");
+        var depositSawDeadline = new AtomicBoolean(true);
+
+        when(accountClient.getAccount("from")).thenReturn(Mono.just(from));
+        when(accountClient.getAccountMetadata("to")).thenReturn(Mono.just(to));
+        when(accountClient.withdraw("from", Money.of("10"))).thenReturn(Mono.empty());
+        when(accountClient.settleDeposit("to", Money.of("10"))).thenReturn(Mono.deferContextual(ctx -> {
+            depositSawDeadline.set(RequestDeadline.from(ctx).isPresent());
+            return Mono.empty();
+        }));
+
+        StepVerifier.create(transferTx.process(request)
+                        .contextWrite(RequestDeadline.after(Duration.ofSeconds(5))::writeTo))
+                .expectNextMatches(tx -> tx.getStatus().name().equals("SUCCESS"))
+                .verifyComplete();
+        assertThat(depositSawDeadline).isFalse();
+    }
 }
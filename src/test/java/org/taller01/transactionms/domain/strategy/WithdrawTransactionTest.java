@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.taller01.transactionms.domain.factory.TransactionFactory;
+import org.taller01.transactionms.domain.model.Money;
 import org.taller01.transactionms.domain.model.Transaction;
 import org.taller01.transactionms.domain.port.out.AccountClientPort;
 import org.taller01.transactionms.domain.port.out.ITransactionRepository;
@@ -11,7 +12,6 @@ import org.taller01.transactionms.dto.request.WithdrawRequest;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -32,8 +32,8 @@ class WithdrawTransactionTest {
 
     @Test
     void execute_success() {
-        var request = new WithdrawRequest("acc1", BigDecimal.TEN);
-        when(accountClient.withdraw("acc1", BigDecimal.TEN)).thenReturn(Mono.empty());
+        var request = new WithdrawRequest("acc1", Money.of("10"));
+        when(accountClient.withdraw("acc1", Money.of("10"))).thenReturn(Mono.empty());
         when(repo.save(any(Transaction.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
         StepVerifier.create(withdrawTx.execute(request))
@@ -43,11 +43,11 @@ class WithdrawTransactionTest {
 
     @Test
     void execute_failure() {
-        var request = new WithdrawRequest("acc1", BigDecimal.TEN);
+        var request = new WithdrawRequest("acc1", Money.of("10"));
         var ex = WebClientResponseException.create(400, "Bad Request", null,
                 "fail".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
 
-        when(accountClient.withdraw("acc1", BigDecimal.TEN)).thenReturn(Mono.error(ex));
+        when(accountClient.withdraw("acc1", Money.of("10"))).thenReturn(Mono.error(ex));
         when(repo.save(any(Transaction.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
 
         StepVerifier.create(withdrawTx.execute(request))
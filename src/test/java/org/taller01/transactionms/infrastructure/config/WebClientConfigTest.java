@@ -0,0 +1,88 @@
+package org.taller01.transactionms.infrastructure.config;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Hooks;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebClientConfigTest {
+
+    private final WebClientConfig config = new WebClientConfig();
+    private MockWebServer mockWebServer;
+    private ConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (provider != null) {
+            provider.dispose();
+        }
+        mockWebServer.shutdown();
+    }
+
+    private AccountMsProperties properties(int warmupConnections) {
+        var properties = new AccountMsProperties();
+        properties.setBaseUrl(mockWebServer.url("/").toString());
+        properties.getPool().setWarmupConnections(warmupConnections);
+        properties.getPool().setWarmupPath("/ping");
+        return properties;
+    }
+
+    private WebClient client(AccountMsProperties properties) {
+        provider = config.accountConnectionProvider(properties);
+        return config.accountWebClient(WebClient.builder(), provider, properties);
+    }
+
+    @Test
+    void warmup_shouldOpenOneConnectionPerConfiguredSlot() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(404)
+                    .setHeadersDelay(50, TimeUnit.MILLISECONDS));
+        }
+        var properties = properties(4);
+
+        config.accountMsWarmup(client(properties), properties).run(null);
+
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(4);
+        for (int i = 0; i < 4; i++) {
+            RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+            assertThat(request.getMethod()).isEqualTo("HEAD");
+            assertThat(request.getPath()).isEqualTo("/ping");
+            // Primera petición de cada conexión: ninguna se reutilizó
+            assertThat(request.getSequenceNumber()).isZero();
+        }
+    }
+
+    @Test
+    void warmup_shouldNotFailStartupWhenAccountMsIsDown() throws Exception {
+        var properties = properties(2);
+        properties.getPool().setWarmupTimeout(Duration.ofSeconds(5));
+        mockWebServer.shutdown();
+        var dropped = new AtomicInteger();
+        Hooks.onErrorDropped(ex -> dropped.incrementAndGet());
+        try {
+            config.accountMsWarmup(client(properties), properties).run(null);
+        } finally {
+            Hooks.resetOnErrorDropped();
+        }
+
+        assertThat(dropped).hasValue(0);
+    }
+}
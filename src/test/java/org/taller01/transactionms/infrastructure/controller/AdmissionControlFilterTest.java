@@ -0,0 +1,153 @@
+package org.taller01.transactionms.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import org.taller01.transactionms.infrastructure.config.AdmissionProperties;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private AdmissionProperties properties;
+    private SimpleMeterRegistry registry;
+    private Sinks.Empty<Void> gate;
+    private WebFilterChain blockingChain;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionProperties();
+        properties.getWrites().setMaxInFlight(2);
+        properties.getHistory().setMaxInFlight(1);
+        registry = new SimpleMeterRegistry();
+        gate = Sinks.empty();
+        blockingChain = exchange -> gate.asMono();
+    }
+
+    private AdmissionControlFilter filter() {
+        return new AdmissionControlFilter(properties,
+                new ObjectMapper().registerModule(new JavaTimeModule()), registry);
+    }
+
+    private static MockServerWebExchange deposit() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/transacciones/deposito").build());
+    }
+
+    private static MockServerWebExchange batch() {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/transacciones/lote").build());
+    }
+
+    @Test
+    void filter_shouldRejectWith429WhenWritesAreFull() {
+        var filter = filter();
+        filter.filter(deposit(), blockingChain).subscribe();
+        filter.filter(deposit(), blockingChain).subscribe();
+
+        var rejected = deposit();
+        StepVerifier.create(filter.filter(rejected, blockingChain)).verifyComplete();
+
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        StepVerifier.create(rejected.getResponse().getBodyAsString())
+                .assertNext(body -> assertThat(body).contains("\"status\":429")
+                        .contains("/transacciones/deposito"))
+                .verifyComplete();
+        assertThat(registry.get("transactionms.admission.rejected")
+                .tag("class", "writes").tag("reason", "in_flight").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void filter_shouldReleaseSlotWhenRequestCompletes() {
+        var filter = filter();
+        filter.filter(deposit(), blockingChain).subscribe();
+        filter.filter(deposit(), blockingChain).subscribe();
+        gate.tryEmitEmpty();
+
+        var exchange = deposit();
+        StepVerifier.create(filter.filter(exchange, e -> Mono.empty())).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+    }
+
+    @Test
+    void filter_shouldKeepHistoryLimitSeparateFromWrites() {
+        var filter = filter();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest
+                .get("/transacciones/historial").build()), blockingChain).subscribe();
+
+        var history = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/transacciones/historial").build());
+        StepVerifier.create(filter.filter(history, blockingChain)).verifyComplete();
+        var write = deposit();
+        StepVerifier.create(filter.filter(write, e -> Mono.empty())).verifyComplete();
+
+        assertThat(history.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(write.getResponse().getStatusCode()).isNull();
+    }
+
+    @Test
+    void filter_shouldKeepBatchOutOfWritesLimitAndLatency() {
+        properties.getBatch().setMaxInFlight(1);
+        properties.getWrites().setLatencyTarget(Duration.ofMillis(1));
+        var filter = filter();
+        StepVerifier.create(filter.filter(batch(), e -> Mono.delay(Duration.ofMillis(20)).then()))
+                .verifyComplete();
+        filter.filter(batch(), blockingChain).subscribe();
+
+        var rejected = batch();
+        StepVerifier.create(filter.filter(rejected, blockingChain)).verifyComplete();
+        filter.filter(deposit(), blockingChain).subscribe();
+        var write = deposit();
+        StepVerifier.create(filter.filter(write, e -> Mono.empty())).verifyComplete();
+
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(write.getResponse().getStatusCode()).isNull();
+        assertThat(registry.get("transactionms.admission.latency.ewma").tag("class", "writes")
+                .gauge().value()).isLessThan(1.0);
+    }
+
+    @Test
+    void filter_shouldShedWith503WhenLatencyTargetIsExceeded() {
+        properties.getWrites().setMaxInFlight(8);
+        properties.getWrites().setLatencyTarget(Duration.ofMillis(1));
+        var filter = filter();
+        StepVerifier.create(filter.filter(deposit(), e -> Mono.delay(Duration.ofMillis(20)).then()))
+                .verifyComplete();
+
+        filter.filter(deposit(), blockingChain).subscribe();
+        filter.filter(deposit(), blockingChain).subscribe();
+        var rejected = deposit();
+        StepVerifier.create(filter.filter(rejected, blockingChain)).verifyComplete();
+
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    void filter_shouldNotLimitOtherRoutesOrWhenDisabled() {
+        properties.getHistory().setMaxInFlight(0);
+        var filter = filter();
+
+        var summary = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/transacciones/resumen").build());
+        StepVerifier.create(filter.filter(summary, e -> Mono.empty())).verifyComplete();
+        properties.setEnabled(false);
+        var history = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/transacciones/historial").build());
+        StepVerifier.create(filter.filter(history, e -> Mono.empty())).verifyComplete();
+
+        assertThat(summary.getResponse().getStatusCode()).isNull();
+        assertThat(history.getResponse().getStatusCode()).isNull();
+    }
+}
@@ -0,0 +1,180 @@
+package org.taller01.transactionms.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.bson.RawBsonDocument;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.format.DateTimeFormatters;
+import org.springframework.boot.autoconfigure.web.format.WebConversionService;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.TransactionField;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.dto.response.TransactionResponse;
+import org.taller01.transactionms.infrastructure.config.HistoryProperties;
+import org.taller01.transactionms.infrastructure.config.MoneyJsonComponent;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+import org.taller01.transactionms.infrastructure.mapper.TransactionEntityCodec;
+import org.taller01.transactionms.infrastructure.repository.RawHistoryReader;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RawHistoryRouteTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modules(new JavaTimeModule(), MoneyJsonComponent.module())
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private final TransactionEntityCodec codec = new TransactionEntityCodec();
+
+    private RawHistoryReader reader;
+    private HistoryProperties properties;
+    private WebTestClient client;
+    private List<TransactionEntity> rows;
+
+    @BeforeEach
+    void setUp() {
+        reader = mock(RawHistoryReader.class);
+        properties = new HistoryProperties();
+        var route = new RawHistoryRoute(reader, properties,
+                new WebConversionService(new DateTimeFormatters()));
+        client = WebTestClient.bindToRouterFunction(route).build();
+        rows = List.of(
+                TransactionEntity.builder().id(new ObjectId().toHexString())
+                        .type(TransactionType.TRANSFER).status(TransactionStatus.SUCCESS)
+                        .fromAccountId("a").toAccountId("b").amount(Money.of("12.5"))
+                        .createdAt(Instant.parse("2025-01-01T10:15:30.123Z")).message("ok").build(),
+                TransactionEntity.builder().id(new ObjectId().toHexString())
+                        .type(TransactionType.DEPOSIT).status(TransactionStatus.SUCCESS)
+                        .toAccountId("a").amount(Money.of("3"))
+                        .createdAt(Instant.parse("2025-01-01T09:00:00Z")).build());
+        when(reader.find(any())).thenAnswer(inv -> Flux.fromIterable(rows)
+                .map(entity -> new RawBsonDocument(entity, codec)));
+    }
+
+    // Cuerpo que escribe el controlador con el encoder de Jackson para las mismas filas
+    private String controllerBody(MediaType mediaType) {
+        var responses = rows.stream().map(entity -> TransactionResponse.builder().id(entity.getId())
+                .type(entity.getType()).status(entity.getStatus())
+                .fromAccountId(entity.getFromAccountId()).toAccountId(entity.getToAccountId())
+                .amount(entity.getAmount()).createdAt(entity.getCreatedAt())
+                .message(entity.getMessage()).build()).toList();
+        var encoded = new Jackson2JsonEncoder(objectMapper).encode(Flux.fromIterable(responses),
+                DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forClass(TransactionResponse.class), mediaType, null);
+        return DataBufferUtils.join(encoded).map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .block();
+    }
+
+    private String body(String accept) {
+        var spec = client.get().uri("/transacciones/historial?accountId=a");
+        if (accept != null) {
+            spec = spec.header("Accept", accept);
+        }
+        return spec.exchange().expectStatus().isOk().expectBody(String.class).returnResult()
+                .getResponseBody();
+    }
+
+    @Test
+    void history_shouldWriteSameJsonArrayAsController() {
+        assertThat(body(null)).isEqualTo(controllerBody(MediaType.APPLICATION_JSON));
+        assertThat(body("*/*")).isEqualTo(controllerBody(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void history_shouldWriteSameNdjsonAsController() {
+        client.get().uri("/transacciones/historial?accountId=a")
+                .accept(MediaType.APPLICATION_NDJSON).exchange().expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON);
+
+        assertThat(body("application/x-ndjson"))
+                .isEqualTo(controllerBody(MediaType.APPLICATION_NDJSON));
+    }
+
+    @Test
+    void history_shouldWriteEmptyArray() {
+        rows = List.of();
+
+        assertThat(body("application/json")).isEqualTo(controllerBody(MediaType.APPLICATION_JSON))
+                .isEqualTo("[]");
+    }
+
+    @Test
+    void history_shouldConvertParamsLikeController() {
+        client.get()
+                .uri("/transacciones/historial?accountId=a&from=2025-01-01T00:00:00Z"
+                        + "&type=DEPOSIT,TRANSFER&status=SUCCESS&status=FAILED&minAmount=1.5"
+                        + "&limit=10")
+                .exchange().expectStatus().isOk();
+
+        verify(reader).find(new HistoryQuery("a", Instant.parse("2025-01-01T00:00:00Z"), null,
+                Set.of(TransactionType.DEPOSIT, TransactionType.TRANSFER),
+                Set.of(TransactionStatus.SUCCESS, TransactionStatus.FAILED), Money.of("1.5"), null,
+                10));
+    }
+
+    @Test
+    void history_shouldProjectRequestedFields() {
+        var body = client.get().uri("/transacciones/historial?accountId=a&fields=amount,createdAt")
+                .exchange().expectStatus().isOk().expectBody(String.class).returnResult()
+                .getResponseBody();
+
+        assertThat(body).isEqualTo("[{\"amount\":12.50,\"createdAt\":\"2025-01-01T10:15:30.123Z\"},"
+                + "{\"amount\":3.00,\"createdAt\":\"2025-01-01T09:00:00Z\"}]");
+        verify(reader).find(new HistoryQuery("a", null, null, null, null, null, null, null,
+                Set.of(TransactionField.AMOUNT, TransactionField.CREATED_AT)));
+    }
+
+    @Test
+    void history_shouldLeaveToControllerWhatItCannotServeIdentically() {
+        client.get().uri("/transacciones/historial?accountId=a")
+                .accept(MediaType.TEXT_EVENT_STREAM).exchange().expectStatus().isNotFound();
+        client.get().uri("/transacciones/historial?accountId=a")
+                .accept(MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isNotFound();
+        client.get().uri("/transacciones/historial").exchange().expectStatus().isNotFound();
+        client.get().uri("/transacciones/historial?accountId=a&from=ayer").exchange()
+                .expectStatus().isNotFound();
+        client.get().uri("/transacciones/historial?accountId=a&type=OTRO").exchange()
+                .expectStatus().isNotFound();
+        client.get().uri("/transacciones/historial?accountId=a&fields=id,saldo").exchange()
+                .expectStatus().isNotFound();
+        client.get()
+                .uri("/transacciones/historial?accountId=a&from=2025-02-01T00:00:00Z"
+                        + "&to=2025-01-01T00:00:00Z")
+                .exchange().expectStatus().isNotFound();
+
+        verifyNoInteractions(reader);
+    }
+
+    @Test
+    void history_shouldStepAsideWhenDisabled() {
+        properties.setRawJson(false);
+
+        client.get().uri("/transacciones/historial?accountId=a").exchange().expectStatus()
+                .isNotFound();
+
+        verifyNoInteractions(reader);
+    }
+}
@@ -0,0 +1,74 @@
+package org.taller01.transactionms.infrastructure.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import org.taller01.transactionms.domain.model.RequestDeadline;
+import org.taller01.transactionms.infrastructure.config.DeadlineProperties;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestDeadlineFilterTest {
+
+    private DeadlineProperties properties;
+    private RequestDeadlineFilter filter;
+    private AtomicReference<Optional<RequestDeadline>> seen;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DeadlineProperties();
+        properties.getOverrides().put("/transacciones/historial", Duration.ZERO);
+        filter = new RequestDeadlineFilter(properties);
+        seen = new AtomicReference<>();
+        chain = exchange -> Mono.deferContextual(ctx -> {
+            seen.set(RequestDeadline.from(ctx));
+            return Mono.empty();
+        });
+    }
+
+    private Duration run(MockServerHttpRequest request) {
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(request), chain))
+                .verifyComplete();
+        return seen.get().map(RequestDeadline::remaining).orElse(null);
+    }
+
+    @Test
+    void filter_shouldUseHeaderValue() {
+        var remaining = run(MockServerHttpRequest.post("/transacciones/deposito")
+                .header(RequestDeadline.HEADER, "250").build());
+
+        assertThat(remaining).isPositive().isLessThanOrEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    void filter_shouldCapHeaderAtMaxTimeout() {
+        var remaining = run(MockServerHttpRequest.post("/transacciones/deposito")
+                .header(RequestDeadline.HEADER, "999999999").build());
+
+        assertThat(remaining).isLessThanOrEqualTo(properties.getMaxTimeout());
+    }
+
+    @Test
+    void filter_shouldFallBackToDefaultOnInvalidHeader() {
+        var remaining = run(MockServerHttpRequest.post("/transacciones/retiro")
+                .header(RequestDeadline.HEADER, "pronto").build());
+
+        assertThat(remaining).isGreaterThan(Duration.ofSeconds(9));
+    }
+
+    @Test
+    void filter_shouldLeaveStreamingRoutesWithoutDefaultDeadline() {
+        var remaining = run(MockServerHttpRequest.get("/transacciones/historial?accountId=a").build());
+
+        assertThat(remaining).isNull();
+    }
+}
@@ -1,47 +1,99 @@
 package org.taller01.transactionms.infrastructure.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.model.AccountSummary;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.StatsGranularity;
+import org.taller01.transactionms.domain.model.StatsQuery;
 import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionField;
+import org.taller01.transactionms.domain.model.TransactionPage;
+import org.taller01.transactionms.domain.model.TransactionStats;
 import org.taller01.transactionms.domain.model.TransactionStatus;
 import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.in.AsyncTransferUseCase;
+import org.taller01.transactionms.domain.port.in.BatchTransactionUseCase;
 import org.taller01.transactionms.domain.port.in.TransactionUseCase;
+import org.taller01.transactionms.dto.request.BatchTransactionRequest;
 import org.taller01.transactionms.dto.request.DepositRequest;
 import org.taller01.transactionms.dto.request.TransferRequest;
 import org.taller01.transactionms.dto.request.WithdrawRequest;
+import org.taller01.transactionms.dto.response.AccountSummaryResponse;
+import org.taller01.transactionms.dto.response.TransactionPageResponse;
 import org.taller01.transactionms.dto.response.TransactionResponse;
+import org.taller01.transactionms.dto.response.TransactionStatsResponse;
+import org.taller01.transactionms.infrastructure.config.AdmissionProperties;
+import org.taller01.transactionms.infrastructure.config.DeadlineProperties;
+import org.taller01.transactionms.infrastructure.config.TimingProperties;
 import org.taller01.transactionms.infrastructure.mapper.TransactionMapper;
+import org.taller01.transactionms.infrastructure.repository.IdempotencyStore;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @WebFluxTest(controllers = TransactionController.class)
+@EnableConfigurationProperties({DeadlineProperties.class, AdmissionProperties.class,
+        TimingProperties.class})
+@Import(SimpleMeterRegistry.class)
 class TransactionControllerTest {
 
     @MockBean
     private TransactionUseCase service;
 
+    @MockBean
+    private BatchTransactionUseCase batchService;
+
+    @MockBean
+    private AsyncTransferUseCase asyncTransfers;
+
     @MockBean
     private TransactionMapper mapper;
 
+    @MockBean
+    private IdempotencyStore idempotency;
+
     @Autowired
     private WebTestClient client;
 
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void passThroughIdempotency() {
+        Mockito.when(idempotency.execute(Mockito.any(), Mockito.anyString(), Mockito.any(),
+                        Mockito.any()))
+                .thenAnswer(inv -> ((Supplier<Mono<TransactionResponse>>) inv.getArgument(3)).get());
+    }
+
     @Test
     void deposit_shouldReturnTransactionResponse() {
-        var request = new DepositRequest("acc1", BigDecimal.TEN);
+        var request = new DepositRequest("acc1", Money.of("10"));
         var tx = Transaction.builder()
                 .id("id1").type(TransactionType.DEPOSIT).status(TransactionStatus.SUCCESS)
-                .amount(BigDecimal.TEN).createdAt(Instant.now()).build();
+                .amount(Money.of("10")).createdAt(Instant.now()).build();
 
         var response = new TransactionResponse("id1", TransactionType.DEPOSIT,
-                TransactionStatus.SUCCESS, null, "acc1", BigDecimal.TEN, Instant.now(), "ok");
+                TransactionStatus.SUCCESS, null, "acc1", Money.of("10"), Instant.now(), "ok");
 
         Mockito.when(service.deposit(request)).thenReturn(Mono.just(tx));
         Mockito.when(mapper.toResponse(tx)).thenReturn(response);
@@ -50,6 +102,8 @@ class TransactionControllerTest {
                 .bodyValue(request)
                 .exchange()
                 .expectStatus().isOk()
+                .expectHeader().value("Server-Timing", value -> assertThat(value)
+                        .contains("serialize;dur=").contains("total;dur="))
                 .expectBody()
                 .jsonPath("$.id").isEqualTo("id1")
                 .jsonPath("$.type").isEqualTo("DEPOSIT");
@@ -57,13 +111,13 @@ class TransactionControllerTest {
 
     @Test
     void withdraw_shouldReturnTransactionResponse() {
-        var request = new WithdrawRequest("acc1", BigDecimal.ONE);
+        var request = new WithdrawRequest("acc1", Money.of("1"));
         var tx = Transaction.builder()
                 .id("id2").type(TransactionType.WITHDRAWAL).status(TransactionStatus.SUCCESS)
-                .amount(BigDecimal.ONE).createdAt(Instant.now()).build();
+                .amount(Money.of("1")).createdAt(Instant.now()).build();
 
         var response = new TransactionResponse("id2", TransactionType.WITHDRAWAL,
-                TransactionStatus.SUCCESS, "acc1", null, BigDecimal.ONE, Instant.now(), "ok");
+                TransactionStatus.SUCCESS, "acc1", null, Money.of("1"), Instant.now(), "ok");
 
         Mockito.when(service.withdraw(request)).thenReturn(Mono.just(tx));
         Mockito.when(mapper.toResponse(tx)).thenReturn(response);
@@ -79,14 +133,14 @@ class TransactionControllerTest {
 
     @Test
     void transfer_shouldReturnTransactionResponse() {
-        var request = new TransferRequest("acc1", "acc2", BigDecimal.valueOf(50));
+        var request = new TransferRequest("acc1", "acc2", Money.of("50"));
         var tx = Transaction.builder()
                 .id("id3").type(TransactionType.TRANSFER).status(TransactionStatus.SUCCESS)
                 .fromAccountId("acc1").toAccountId("acc2")
-                .amount(BigDecimal.valueOf(50)).createdAt(Instant.now()).build();
+                .amount(Money.of("50")).createdAt(Instant.now()).build();
 
         var response = new TransactionResponse("id3", TransactionType.TRANSFER,
-                TransactionStatus.SUCCESS, "acc1", "acc2", BigDecimal.valueOf(50),
+                TransactionStatus.SUCCESS, "acc1", "acc2", Money.of("50"),
                 Instant.now(), "ok");
 
         Mockito.when(service.transfer(request)).thenReturn(Mono.just(tx));
@@ -101,16 +155,70 @@ class TransactionControllerTest {
                 .jsonPath("$.type").isEqualTo("TRANSFER");
     }
 
+    @Test
+    void deposit_shouldRejectNonPositiveOrOverPreciseAmount() {
+        for (String amount : new String[] {"0", "-5", "10.123"}) {
+            client.post().uri("/transacciones/deposito")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"accountId\":\"acc1\",\"amount\":" + amount + "}")
+                    .exchange()
+                    .expectStatus().isBadRequest();
+        }
+        Mockito.verifyNoInteractions(service);
+    }
+
+    @Test
+    void transferAsync_shouldReturnAcceptedWithPendingRecord() {
+        var request = new TransferRequest("acc1", "acc2", Money.of("50"));
+        var tx = Transaction.builder()
+                .id("id4").type(TransactionType.TRANSFER).status(TransactionStatus.PENDING)
+                .fromAccountId("acc1").toAccountId("acc2")
+                .amount(Money.of("50")).createdAt(Instant.now()).build();
+        var response = new TransactionResponse("id4", TransactionType.TRANSFER,
+                TransactionStatus.PENDING, "acc1", "acc2", Money.of("50"),
+                Instant.now(), "pendiente");
+
+        Mockito.when(asyncTransfers.accept(request)).thenReturn(Mono.just(tx));
+        Mockito.when(mapper.toResponse(tx)).thenReturn(response);
+
+        client.post().uri("/transacciones/transferencia?async=true")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("id4")
+                .jsonPath("$.status").isEqualTo("PENDING");
+        Mockito.verify(service, Mockito.never()).transfer(Mockito.any());
+    }
+
+    @Test
+    void findById_shouldReturnCurrentStatus() {
+        var tx = Transaction.builder().id("id4").type(TransactionType.TRANSFER)
+                .status(TransactionStatus.SUCCESS).build();
+        var response = new TransactionResponse("id4", TransactionType.TRANSFER,
+                TransactionStatus.SUCCESS, "acc1", "acc2", Money.of("50"),
+                Instant.now(), "ok");
+
+        Mockito.when(service.findById("id4")).thenReturn(Mono.just(tx));
+        Mockito.when(mapper.toResponse(tx)).thenReturn(response);
+
+        client.get().uri("/transacciones/id4")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("SUCCESS");
+    }
+
     @Test
     void history_shouldReturnTransactionList() {
         var tx = Transaction.builder()
                 .id("id4").type(TransactionType.DEPOSIT).status(TransactionStatus.SUCCESS)
-                .toAccountId("acc1").amount(BigDecimal.TEN).createdAt(Instant.now()).build();
+                .toAccountId("acc1").amount(Money.of("10")).createdAt(Instant.now()).build();
 
         var response = new TransactionResponse("id4", TransactionType.DEPOSIT,
-                TransactionStatus.SUCCESS, null, "acc1", BigDecimal.TEN, Instant.now(), "ok");
+                TransactionStatus.SUCCESS, null, "acc1", Money.of("10"), Instant.now(), "ok");
 
-        Mockito.when(service.getHistory("acc1")).thenReturn(Flux.just(tx));
+        Mockito.when(service.getHistory(HistoryQuery.forAccount("acc1"))).thenReturn(Flux.just(tx));
         Mockito.when(mapper.toResponse(tx)).thenReturn(response);
 
         client.get().uri("/transacciones/historial?accountId=acc1")
@@ -120,4 +228,193 @@ class TransactionControllerTest {
                 .jsonPath("$[0].id").isEqualTo("id4")
                 .jsonPath("$[0].type").isEqualTo("DEPOSIT");
     }
+
+    @Test
+    void historyPage_shouldReturnContentAndNextCursor() {
+        var tx = Transaction.builder()
+                .id("id5").type(TransactionType.DEPOSIT).status(TransactionStatus.SUCCESS)
+                .toAccountId("acc1").amount(Money.of("10")).createdAt(Instant.now()).build();
+        var page = new TransactionPage(List.of(tx), "next-token");
+
+        var response = new TransactionPageResponse(List.of(new TransactionResponse("id5",
+                TransactionType.DEPOSIT, TransactionStatus.SUCCESS, null, "acc1", Money.of("10"),
+                Instant.now(), "ok")), "next-token");
+
+        Mockito.when(service.getHistoryPage("acc1", null, 20)).thenReturn(Mono.just(page));
+        Mockito.when(mapper.toPageResponse(page)).thenReturn(response);
+
+        client.get().uri("/transacciones/historial/pagina?accountId=acc1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].id").isEqualTo("id5")
+                .jsonPath("$.nextCursor").isEqualTo("next-token");
+    }
+
+    @Test
+    void summary_shouldReturnAccountSummary() {
+        var summary = AccountSummary.empty("acc1");
+        var response = AccountSummaryResponse.builder().accountId("acc1")
+                .totalDeposited(BigDecimal.TEN)
+                .countsByStatus(Map.of(TransactionStatus.SUCCESS, 3L)).build();
+
+        Mockito.when(service.getSummary("acc1")).thenReturn(Mono.just(summary));
+        Mockito.when(mapper.toSummaryResponse(summary)).thenReturn(response);
+
+        client.get().uri("/transacciones/resumen?accountId=acc1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalDeposited").isEqualTo(10)
+                .jsonPath("$.countsByStatus.SUCCESS").isEqualTo(3);
+    }
+
+    @Test
+    void stats_shouldReturnBuckets() {
+        var start = Instant.parse("2025-01-01T10:00:00Z");
+        var stats = new TransactionStats(null, StatsGranularity.MINUTE, start, Map.of(), Map.of());
+        var response = TransactionStatsResponse.builder().granularity(StatsGranularity.MINUTE)
+                .start(start).end(start.plusSeconds(60))
+                .counts(Map.of(TransactionType.DEPOSIT, Map.of(TransactionStatus.SUCCESS, 2L)))
+                .amounts(Map.of(TransactionType.DEPOSIT, Map.of(TransactionStatus.SUCCESS,
+                        Money.of("12.50"))))
+                .build();
+
+        Mockito.when(service.getStats(new StatsQuery(null, StatsGranularity.MINUTE, start, null)))
+                .thenReturn(Flux.just(stats));
+        Mockito.when(mapper.toStatsResponse(stats)).thenReturn(response);
+
+        client.get().uri("/transacciones/estadisticas?granularity=MINUTE&from=" + start)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].counts.DEPOSIT.SUCCESS").isEqualTo(2)
+                .jsonPath("$[0].amounts.DEPOSIT.SUCCESS").isEqualTo(12.5);
+    }
+
+    @Test
+    void history_shouldPassFiltersToService() {
+        Mockito.when(service.getHistory(Mockito.any())).thenReturn(Flux.empty());
+
+        client.get().uri("/transacciones/historial?accountId=acc1&from=2025-01-01T00:00:00Z"
+                        + "&to=2025-02-01T00:00:00Z&type=DEPOSIT&type=TRANSFER&status=SUCCESS"
+                        + "&minAmount=10.5&maxAmount=100&limit=50")
+                .exchange()
+                .expectStatus().isOk();
+
+        var expected = new HistoryQuery("acc1", Instant.parse("2025-01-01T00:00:00Z"),
+                Instant.parse("2025-02-01T00:00:00Z"),
+                Set.of(TransactionType.DEPOSIT, TransactionType.TRANSFER),
+                Set.of(TransactionStatus.SUCCESS), Money.of("10.50"), Money.of("100"), 50);
+        Mockito.verify(service).getHistory(expected);
+    }
+
+    @Test
+    void history_shouldRejectInvertedRange() {
+        client.get().uri("/transacciones/historial?accountId=acc1&from=2025-02-01T00:00:00Z"
+                        + "&to=2025-01-01T00:00:00Z")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Mockito.verifyNoInteractions(service);
+    }
+
+    @Test
+    void history_shouldProjectRequestedFields() {
+        var tx = Transaction.builder().id("id8").amount(Money.of("5")).build();
+        var fields = Set.of(TransactionField.ID, TransactionField.AMOUNT, TransactionField.CREATED_AT,
+                TransactionField.STATUS);
+        var query = new HistoryQuery("acc1", null, null, null, null, null, null, null, fields);
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", "id8");
+        row.put("amount", Money.of("5"));
+
+        Mockito.when(service.getHistory(query)).thenReturn(Flux.just(tx));
+        Mockito.when(mapper.toFieldsResponse(tx, fields)).thenReturn(row);
+
+        client.get().uri("/transacciones/historial?accountId=acc1&fields=id,amount,createdAt,status")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[{\"id\":\"id8\",\"amount\":5.00}]", true);
+    }
+
+    @Test
+    void history_shouldRejectUnknownField() {
+        client.get().uri("/transacciones/historial?accountId=acc1&fields=id,saldo")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo(Messages.INVALID_HISTORY_FIELD + "saldo");
+
+        Mockito.verifyNoInteractions(service);
+    }
+
+    @Test
+    void history_shouldStreamNdjsonWhenRequested() {
+        var tx1 = Transaction.builder().id("id6").build();
+        var tx2 = Transaction.builder().id("id7").build();
+
+        Mockito.when(service.getHistory(HistoryQuery.forAccount("acc1"))).thenReturn(Flux.just(tx1, tx2));
+        Mockito.when(mapper.toResponse(tx1))
+                .thenReturn(TransactionResponse.builder().id("id6").build());
+        Mockito.when(mapper.toResponse(tx2))
+                .thenReturn(TransactionResponse.builder().id("id7").build());
+
+        client.get().uri("/transacciones/historial?accountId=acc1")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TransactionResponse.class)
+                .getResponseBody()
+                .map(TransactionResponse::getId)
+                .as(StepVerifier::create)
+                .expectNext("id6", "id7")
+                .verifyComplete();
+    }
+
+    @Test
+    void batch_shouldReturnResultsInOrder() {
+        var items = List.of(
+                new BatchTransactionRequest(TransactionType.DEPOSIT, "acc1", null, null,
+                        Money.of("10")),
+                new BatchTransactionRequest(TransactionType.TRANSFER, null, "acc1", "acc2",
+                        Money.of("1")));
+        var tx1 = Transaction.builder().id("b1").type(TransactionType.DEPOSIT).build();
+        var tx2 = Transaction.builder().id("b2").type(TransactionType.TRANSFER).build();
+
+        Mockito.when(batchService.submit(Mockito.any())).thenReturn(Flux.just(tx1, tx2));
+        Mockito.when(mapper.toResponse(tx1))
+                .thenReturn(TransactionResponse.builder().id("b1").build());
+        Mockito.when(mapper.toResponse(tx2))
+                .thenReturn(TransactionResponse.builder().id("b2").build());
+
+        client.post().uri("/transacciones/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(items)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("b1")
+                .jsonPath("$[1].id").isEqualTo("b2");
+    }
+
+    @Test
+    void deposit_shouldPassIdempotencyKeyHeader() {
+        var request = new DepositRequest("acc1", Money.of("10"));
+        var response = TransactionResponse.builder().id("id1").build();
+        Mockito.when(idempotency.execute(Mockito.eq("key-1"), Mockito.eq("deposito"),
+                        Mockito.eq(request), Mockito.any()))
+                .thenReturn(Mono.just(response));
+
+        client.post().uri("/transacciones/deposito")
+                .header(TransactionController.IDEMPOTENCY_KEY, "key-1")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("id1");
+
+        Mockito.verifyNoInteractions(service);
+    }
 }
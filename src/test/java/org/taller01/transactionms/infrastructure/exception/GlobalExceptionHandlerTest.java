@@ -13,7 +13,13 @@ import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.ServerWebInputException;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.FieldError;
+import org.taller01.transactionms.domain.exception.AccountBusyException;
+import org.taller01.transactionms.domain.exception.AsyncQueueFullException;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
+import org.taller01.transactionms.domain.exception.IdempotencyConflictException;
+import org.taller01.transactionms.domain.exception.InvalidRequestException;
 import org.taller01.transactionms.domain.exception.ResourceNotFoundException;
+import org.taller01.transactionms.domain.exception.WriteQueueFullException;
 
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
@@ -43,6 +49,60 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).isEqualTo("no encontrado");
     }
 
+    @Test
+    void invalidRequest_shouldReturn400() {
+        var ex = new InvalidRequestException("cursor inválido");
+        ResponseEntity<ApiError> response = handler.invalidRequest(ex, exchange);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("cursor inválido");
+    }
+
+    @Test
+    void accountBusy_shouldReturn429() {
+        var ex = new AccountBusyException("ocupada");
+        ResponseEntity<ApiError> response = handler.accountBusy(ex, exchange);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getBody().getMessage()).isEqualTo("ocupada");
+    }
+
+    @Test
+    void asyncQueueFull_shouldReturn503() {
+        var ex = new AsyncQueueFullException("cola llena");
+        ResponseEntity<ApiError> response = handler.asyncQueueFull(ex, exchange);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody().getMessage()).isEqualTo("cola llena");
+    }
+
+    @Test
+    void writeQueueFull_shouldReturn503() {
+        var ex = new WriteQueueFullException("escrituras en cola");
+        ResponseEntity<ApiError> response = handler.writeQueueFull(ex, exchange);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getBody().getMessage()).isEqualTo("escrituras en cola");
+    }
+
+    @Test
+    void idempotencyConflict_shouldReturn409() {
+        var ex = new IdempotencyConflictException("clave reutilizada");
+        ResponseEntity<ApiError> response = handler.idempotencyConflict(ex, exchange);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getMessage()).isEqualTo("clave reutilizada");
+    }
+
+    @Test
+    void deadlineExceeded_shouldReturn504() {
+        var ex = new DeadlineExceededException("plazo agotado");
+        ResponseEntity<ApiError> response = handler.deadlineExceeded(ex, exchange);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+        assertThat(response.getBody().getMessage()).isEqualTo("plazo agotado");
+    }
+
     @Test
     void status_shouldReturnCustomStatus() {
         var ex = new ResponseStatusException(HttpStatus.BAD_REQUEST, "error de estado");
@@ -0,0 +1,70 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.infrastructure.config.AccountMsProperties;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+    private AdaptiveConcurrencyLimit limit(int initial) {
+        var properties = new AccountMsProperties.Limit();
+        properties.setInitial(initial);
+        properties.setMin(2);
+        properties.setMax(8);
+        properties.setBackoffRatio(0.5);
+        return new AdaptiveConcurrencyLimit(properties);
+    }
+
+    @Test
+    void tryAcquire_shouldRejectAboveLimit() {
+        var limit = limit(2);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.cancel();
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void release_shouldBackOffOnDropOrSlowCall() {
+        var limit = limit(8);
+
+        limit.tryAcquire();
+        limit.release(FAST, true);
+        assertThat(limit.getLimit()).isEqualTo(4);
+
+        limit.tryAcquire();
+        limit.release(SLOW, false);
+        assertThat(limit.getLimit()).isEqualTo(2);
+
+        limit.tryAcquire();
+        limit.release(SLOW, false);
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_shouldGrowOnlyWhenLimitIsInUse() {
+        var limit = limit(4);
+
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(4);
+
+        limit.tryAcquire();
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, false);
+        }
+        assertThat(limit.getLimit()).isGreaterThan(4).isLessThanOrEqualTo(8);
+    }
+}
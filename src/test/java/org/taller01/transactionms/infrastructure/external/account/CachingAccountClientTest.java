@@ -0,0 +1,91 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.RequestDeadline;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import org.taller01.transactionms.infrastructure.config.AccountMsProperties;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CachingAccountClientTest {
+
+    private final AccountResponse account =
+            new AccountResponse("acc1", "123", Money.of("10"), AccountType.SAVINGS, "cli");
+
+    private AccountClientPort delegate;
+    private SimpleMeterRegistry registry;
+    private CachingAccountClient client;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(AccountClientPort.class);
+        registry = new SimpleMeterRegistry();
+        var properties = new AccountMsProperties.Cache();
+        properties.setBalanceTtl(Duration.ofMinutes(1));
+        client = new CachingAccountClient(delegate, properties, registry);
+        when(delegate.getAccount("acc1")).thenReturn(Mono.just(account));
+    }
+
+    @Test
+    void getAccount_shouldHitCacheOnSecondCall() {
+        StepVerifier.create(client.getAccount("acc1")).expectNext(account).verifyComplete();
+        StepVerifier.create(client.getAccount("acc1")).expectNext(account).verifyComplete();
+
+        verify(delegate, times(1)).getAccount("acc1");
+        assertThat(registry.get("cache.gets").tag("cache", "accountms.balance")
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void withdraw_shouldInvalidateBalanceButKeepMetadata() {
+        when(delegate.withdraw("acc1", Money.of("1"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(client.getAccount("acc1")).expectNext(account).verifyComplete();
+        StepVerifier.create(client.withdraw("acc1", Money.of("1"))).verifyComplete();
+
+        StepVerifier.create(client.getAccountMetadata("acc1")).expectNext(account).verifyComplete();
+        verify(delegate, times(1)).getAccount("acc1");
+
+        StepVerifier.create(client.getAccount("acc1")).expectNext(account).verifyComplete();
+        verify(delegate, times(2)).getAccount("acc1");
+    }
+
+    @Test
+    void getAccount_shouldNotCacheErrors() {
+        when(delegate.getAccount("acc2"))
+                .thenReturn(Mono.error(new IllegalStateException("down")), Mono.just(account));
+
+        StepVerifier.create(client.getAccount("acc2")).expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(client.getAccount("acc2")).expectNext(account).verifyComplete();
+    }
+
+    @Test
+    void getAccount_sharedLoadShouldNotUseFirstCallersDeadline() {
+        var loadSawDeadline = new AtomicBoolean(true);
+        when(delegate.getAccount("acc3")).thenReturn(Mono.deferContextual(ctx -> {
+            loadSawDeadline.set(RequestDeadline.from(ctx).isPresent());
+            return Mono.delay(Duration.ofMillis(200)).thenReturn(account);
+        }));
+
+        var hurried = client.getAccount("acc3")
+                .contextWrite(RequestDeadline.after(Duration.ofMillis(20))::writeTo).toFuture();
+        var patient = client.getAccount("acc3").toFuture();
+
+        assertThat(hurried).failsWithin(Duration.ofSeconds(1)).withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(DeadlineExceededException.class);
+        assertThat(patient.join()).isEqualTo(account);
+        assertThat(loadSawDeadline).isFalse();
+        verify(delegate, times(1)).getAccount("acc3");
+    }
+}
@@ -0,0 +1,115 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import org.taller01.transactionms.infrastructure.config.AccountMsProperties;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class HedgingAccountClientTest {
+
+    private final AccountResponse slow =
+            new AccountResponse("acc1", "123", Money.of("1"), AccountType.SAVINGS, "cli");
+    private final AccountResponse fast =
+            new AccountResponse("acc1", "123", Money.of("10"), AccountType.SAVINGS, "cli");
+
+    private AccountClientPort delegate;
+    private AtomicInteger hedges;
+    private SimpleMeterRegistry registry;
+    private AccountMsProperties.Hedging properties;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(AccountClientPort.class);
+        hedges = new AtomicInteger();
+        registry = new SimpleMeterRegistry();
+        properties = new AccountMsProperties.Hedging();
+        properties.setMaxDelay(Duration.ofMillis(20));
+        properties.setBudgetPercent(100);
+    }
+
+    private HedgingAccountClient client(Function<String, Mono<AccountResponse>> hedge) {
+        return new HedgingAccountClient(delegate, id -> {
+            hedges.incrementAndGet();
+            return hedge.apply(id);
+        }, properties, registry);
+    }
+
+    @Test
+    void getAccount_fastPrimary_shouldNotHedge() {
+        properties.setMaxDelay(Duration.ofSeconds(1));
+        when(delegate.getAccount("acc1")).thenReturn(Mono.just(fast));
+
+        StepVerifier.create(client(id -> Mono.just(slow)).getAccount("acc1"))
+                .expectNext(fast)
+                .verifyComplete();
+        assertThat(hedges.get()).isZero();
+    }
+
+    @Test
+    void getAccount_slowPrimary_shouldReturnHedgeResult() {
+        when(delegate.getAccount("acc1")).thenReturn(Mono.just(slow).delayElement(Duration.ofSeconds(1)));
+
+        StepVerifier.create(client(id -> Mono.just(fast)).getAccount("acc1"))
+                .expectNext(fast)
+                .expectComplete()
+                .verify(Duration.ofMillis(500));
+        assertThat(hedges.get()).isEqualTo(1);
+        assertThat(registry.get("accountms.hedge.requests").tag("result", "sent").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void getAccount_withoutBudget_shouldWaitForPrimary() {
+        properties.setBudgetPercent(0);
+        when(delegate.getAccount("acc1")).thenReturn(Mono.just(slow).delayElement(Duration.ofMillis(50)));
+
+        StepVerifier.create(client(id -> Mono.just(fast)).getAccount("acc1"))
+                .expectNext(slow)
+                .verifyComplete();
+        assertThat(hedges.get()).isZero();
+    }
+
+    @Test
+    void getAccount_bothFail_shouldSurfacePrimaryError() {
+        when(delegate.getAccount("acc1")).thenReturn(
+                Mono.delay(Duration.ofMillis(50)).then(Mono.error(new IllegalStateException("primary"))));
+
+        StepVerifier.create(client(id -> Mono.error(new IllegalStateException("hedge")))
+                        .getAccount("acc1"))
+                .expectErrorMessage("primary")
+                .verify();
+    }
+
+    @Test
+    void writes_shouldNeverBeHedged() {
+        when(delegate.withdraw("acc1", Money.of("1")))
+                .thenReturn(Mono.delay(Duration.ofMillis(50)).then());
+
+        StepVerifier.create(client(id -> Mono.just(fast)).withdraw("acc1", Money.of("1")))
+                .verifyComplete();
+        verify(delegate, times(1)).withdraw("acc1", Money.of("1"));
+        assertThat(hedges.get()).isZero();
+    }
+
+    @Test
+    void latencyTracker_shouldReportPercentileOnceWarm() {
+        var tracker = new LatencyTracker(100, 0.9, 10, 999);
+        assertThat(tracker.percentileNanos(0)).isEqualTo(999);
+
+        for (int i = 1; i <= 100; i++) {
+            tracker.record(i);
+        }
+        assertThat(tracker.percentileNanos(LatencyTracker.REFRESH_NANOS)).isEqualTo(90);
+    }
+}
@@ -0,0 +1,66 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.exception.AccountServiceUnavailableException;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class MeteredAccountClientTest {
+
+    private AccountClientPort delegate;
+    private SimpleMeterRegistry registry;
+    private MeteredAccountClient client;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(AccountClientPort.class);
+        registry = new SimpleMeterRegistry();
+        client = new MeteredAccountClient(delegate, registry);
+    }
+
+    @Test
+    void deposit_shouldRecordSuccessAs2xx() {
+        when(delegate.deposit("acc1", Money.of("10"))).thenReturn(Mono.empty());
+
+        StepVerifier.create(client.deposit("acc1", Money.of("10"))).verifyComplete();
+
+        assertThat(registry.get(MeteredAccountClient.METRIC).tag("operation", "deposit")
+                .tag("status", "2xx").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void withdraw_shouldTagHttpStatusOfErrorResponse() {
+        when(delegate.withdraw("acc1", Money.of("10"))).thenReturn(Mono.error(
+                WebClientResponseException.create(HttpStatus.BAD_REQUEST.value(), "Bad Request",
+                        null, null, null)));
+
+        StepVerifier.create(client.withdraw("acc1", Money.of("10")))
+                .expectError(WebClientResponseException.class)
+                .verify();
+
+        assertThat(registry.get(MeteredAccountClient.METRIC).tag("operation", "withdraw")
+                .tag("status", "400").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getAccount_withoutResponse_shouldTagNone() {
+        when(delegate.getAccount("acc1"))
+                .thenReturn(Mono.error(new AccountServiceUnavailableException("circuito abierto")));
+
+        StepVerifier.create(client.getAccount("acc1"))
+                .expectError(AccountServiceUnavailableException.class)
+                .verify();
+
+        assertThat(registry.get(MeteredAccountClient.METRIC).tag("operation", "getAccount")
+                .tag("status", "NONE").timer().count()).isEqualTo(1);
+    }
+}
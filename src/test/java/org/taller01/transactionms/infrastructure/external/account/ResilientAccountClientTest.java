@@ -0,0 +1,120 @@
+package org.taller01.transactionms.infrastructure.external.account;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.exception.AccountServiceUnavailableException;
+import org.taller01.transactionms.domain.exception.Messages;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.port.out.AccountClientPort;
+import org.taller01.transactionms.infrastructure.config.AccountMsProperties;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ResilientAccountClientTest {
+
+    private final AccountResponse account =
+            new AccountResponse("acc1", "123", Money.of("10"), AccountType.SAVINGS, "cli");
+
+    private AccountClientPort delegate;
+    private CircuitBreaker circuitBreaker;
+    private AdaptiveConcurrencyLimit limit;
+    private ResilientAccountClient client;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(AccountClientPort.class);
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2).minimumNumberOfCalls(2)
+                .recordException(ResilientAccountClient::isOverload).build());
+        var properties = new AccountMsProperties.Limit();
+        properties.setInitial(1);
+        properties.setMin(1);
+        limit = new AdaptiveConcurrencyLimit(properties);
+        client = new ResilientAccountClient(delegate, circuitBreaker, limit,
+                Duration.ofMillis(50), Duration.ofMillis(100));
+    }
+
+    @Test
+    void getAccount_shouldTimeOutAndReleaseSlot() {
+        when(delegate.getAccount("acc1")).thenReturn(Mono.never());
+
+        StepVerifier.create(client.getAccount("acc1"))
+                .expectErrorSatisfies(ex -> assertThat(ex).isInstanceOf(TimeoutException.class)
+                        .hasMessage(Messages.ACCOUNTMS_TIMEOUT))
+                .verify();
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void getAccount_shouldRejectWhenLimitIsFull() {
+        when(delegate.getAccount("acc1")).thenReturn(Mono.never());
+        client.getAccount("acc1").subscribe();
+
+        StepVerifier.create(client.getAccount("acc1"))
+                .expectError(AccountServiceUnavailableException.class)
+                .verify();
+    }
+
+    @Test
+    void circuitBreaker_shouldOpenOnServerErrorsAndFailFast() {
+        when(delegate.withdraw("acc1", Money.of("1"))).thenReturn(Mono.error(
+                WebClientResponseException.create(503, "down", null, null, null)));
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(client.withdraw("acc1", Money.of("1")))
+                    .expectError(WebClientResponseException.class)
+                    .verify();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        StepVerifier.create(client.withdraw("acc1", Money.of("1")))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(AccountServiceUnavailableException.class)
+                        .hasMessage(Messages.ACCOUNTMS_CIRCUIT_OPEN))
+                .verify();
+        verify(delegate, times(2)).withdraw("acc1", Money.of("1"));
+    }
+
+    @Test
+    void clientErrors_shouldNotOpenCircuit() {
+        when(delegate.getAccount("acc1")).thenReturn(Mono.error(
+                WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "nf", null, null,
+                        null)));
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(client.getAccount("acc1"))
+                    .expectError(WebClientResponseException.class)
+                    .verify();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void getAccount_shouldPassThroughOnSuccess() {
+        when(delegate.getAccount("acc1")).thenReturn(Mono.just(account));
+
+        StepVerifier.create(client.getAccount("acc1")).expectNext(account).verifyComplete();
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void settleDeposit_shouldBypassLimitBreakerAndTimeout() {
+        assertThat(limit.tryAcquire()).isTrue();
+        circuitBreaker.transitionToOpenState();
+        when(delegate.settleDeposit("acc1", Money.of("1")))
+                .thenReturn(Mono.delay(Duration.ofMillis(200)).then());
+
+        StepVerifier.create(client.settleDeposit("acc1", Money.of("1"))).verifyComplete();
+        verify(delegate).settleDeposit("acc1", Money.of("1"));
+    }
+}
@@ -2,18 +2,38 @@ package org.taller01.transactionms.infrastructure.external.account;
 
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.taller01.transactionms.domain.exception.DeadlineExceededException;
+import org.taller01.transactionms.domain.model.AccountMutations;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.RequestDeadline;
+import org.taller01.transactionms.infrastructure.config.AccountMsProperties;
+import org.taller01.transactionms.infrastructure.config.MoneyJsonComponent;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
-import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 class WebClientAccountAdapterTest {
 
+    private static final String ACCOUNT_JSON = """
+            {"id": "acc1", "accountNumber": "123456", "balance": 10.0,
+             "type": "SAVINGS", "clientId": "client1"}
+            """;
+
     private MockWebServer mockWebServer;
+    private WebClient client;
     private WebClientAccountAdapter adapter;
 
     @BeforeEach
@@ -21,11 +41,27 @@ class WebClientAccountAdapterTest {
         mockWebServer = new MockWebServer();
         mockWebServer.start();
 
-        WebClient client = WebClient.builder()
+        var objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modules(MoneyJsonComponent.module()).build();
+        client = WebClient.builder()
                 .baseUrl(mockWebServer.url("/").toString())
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper)))
                 .build();
 
-        adapter = new WebClientAccountAdapter(client);
+        adapter = adapter(0);
+    }
+
+    private WebClientAccountAdapter adapter(int maxRetries) {
+        var properties = new AccountMsProperties();
+        properties.getRetry().setMaxRetries(maxRetries);
+        properties.getRetry().setMinBackoff(Duration.ofMillis(1));
+        return new WebClientAccountAdapter(client, properties);
+    }
+
+    private MockResponse accountResponse() {
+        return new MockResponse().setResponseCode(200).setBody(ACCOUNT_JSON)
+                .addHeader("Content-Type", "application/json");
     }
 
     @AfterEach
@@ -33,11 +69,23 @@ class WebClientAccountAdapterTest {
         mockWebServer.shutdown();
     }
 
+    @Test
+    void getAccount_shouldRoundBalanceWithMoreThanTwoDecimals() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("""
+                {"id": "acc1", "accountNumber": "123456", "balance": 10.555,
+                 "type": "SAVINGS", "clientId": "client1"}
+                """).addHeader("Content-Type", "application/json"));
+
+        StepVerifier.create(adapter.getAccount("acc1"))
+                .assertNext(account -> assertThat(account.balance()).isEqualTo(Money.of("10.56")))
+                .verifyComplete();
+    }
+
     @Test
     void deposit_shouldReturnVoidOnSuccess() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(200));
 
-        StepVerifier.create(adapter.deposit("acc1", BigDecimal.TEN))
+        StepVerifier.create(adapter.deposit("acc1", Money.of("10")))
                 .verifyComplete();
     }
 
@@ -45,7 +93,7 @@ class WebClientAccountAdapterTest {
     void withdraw_shouldReturnVoidOnSuccess() {
         mockWebServer.enqueue(new MockResponse().setResponseCode(200));
 
-        StepVerifier.create(adapter.withdraw("acc1", BigDecimal.TEN))
+        StepVerifier.create(adapter.withdraw("acc1", Money.of("10")))
                 .verifyComplete();
     }
 
@@ -70,10 +118,128 @@ class WebClientAccountAdapterTest {
                 .expectNextMatches(account ->
                         account.id().equals("acc1") &&
                                 account.accountNumber().equals("123456") &&
-                                account.balance().compareTo(BigDecimal.valueOf(1000.0)) == 0 &&
+                                account.balance().compareTo(Money.of("1000.0")) == 0 &&
                                 account.type().toString().equals("SAVINGS") &&
                                 account.clientId().equals("client1")
                 )
                 .verifyComplete();
     }
+
+    @Test
+    void getAccount_shouldCoalesceConcurrentRequestsForSameAccount() {
+        String json = """
+                {"id": "acc1", "accountNumber": "123456", "balance": 10.0,
+                 "type": "SAVINGS", "clientId": "client1"}
+                """;
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(json)
+                .addHeader("Content-Type", "application/json")
+                .setBodyDelay(200, TimeUnit.MILLISECONDS));
+
+        StepVerifier.create(Mono.zip(adapter.getAccount("acc1"), adapter.getAccount("acc1")))
+                .expectNextMatches(t -> t.getT1().id().equals("acc1")
+                        && t.getT2().id().equals("acc1"))
+                .verifyComplete();
+
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getAccount_shouldShareErrorsAndNotKeepThem() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500)
+                .setBodyDelay(200, TimeUnit.MILLISECONDS));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200)
+                .setBody("{\"id\": \"acc1\"}")
+                .addHeader("Content-Type", "application/json"));
+
+        var failed = new AccountResponse("err", null, null, null, null);
+
+        StepVerifier.create(Mono.zip(
+                        adapter.getAccount("acc1").onErrorReturn(failed),
+                        adapter.getAccount("acc1").onErrorReturn(failed)))
+                .expectNextMatches(t -> t.getT1().id().equals("err") && t.getT2().id().equals("err"))
+                .verifyComplete();
+
+        StepVerifier.create(adapter.getAccount("acc1"))
+                .expectNextMatches(account -> account.id().equals("acc1"))
+                .verifyComplete();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getAccount_shouldRetryTransientErrors() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(accountResponse());
+
+        StepVerifier.create(adapter(2).getAccount("acc1"))
+                .expectNextMatches(account -> account.id().equals("acc1"))
+                .verifyComplete();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getAccount_shouldNotRetryClientErrors() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+        StepVerifier.create(adapter(2).getAccount("acc1"))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fetchAccount_shouldStopAtDeadlineAndPropagateRemainingBudget() throws InterruptedException {
+        mockWebServer.enqueue(accountResponse().setBodyDelay(500, TimeUnit.MILLISECONDS));
+
+        StepVerifier.create(adapter.fetchAccount("acc1")
+                        .contextWrite(RequestDeadline.after(Duration.ofMillis(100))::writeTo))
+                .expectError(DeadlineExceededException.class)
+                .verify(Duration.ofMillis(400));
+
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(Long.parseLong(request.getHeader(RequestDeadline.HEADER)))
+                .isBetween(1L, 100L);
+    }
+
+    @Test
+    void getAccount_shouldApplyEachSubscribersOwnDeadline() throws InterruptedException {
+        mockWebServer.enqueue(accountResponse().setBodyDelay(300, TimeUnit.MILLISECONDS));
+        var failed = new AccountResponse("err", null, null, null, null);
+
+        StepVerifier.create(Mono.zip(
+                        adapter.getAccount("acc1").onErrorReturn(DeadlineExceededException.class, failed)
+                                .contextWrite(RequestDeadline.after(Duration.ofMillis(50))::writeTo),
+                        adapter.getAccount("acc1")
+                                .contextWrite(RequestDeadline.after(Duration.ofSeconds(5))::writeTo)))
+                .expectNextMatches(t -> t.getT1().id().equals("err") && t.getT2().id().equals("acc1"))
+                .verifyComplete();
+
+        RecordedRequest request = mockWebServer.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(request.getHeader(RequestDeadline.HEADER)).isNull();
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void withdraw_shouldNotSendWhenDeadlineAlreadyExpired() {
+        var mutations = AccountMutations.track();
+        StepVerifier.create(adapter.withdraw("acc1", Money.of("1"))
+                        .contextWrite(new RequestDeadline(System.nanoTime() - 1)::writeTo)
+                        .contextWrite(mutations::writeTo))
+                .expectError(DeadlineExceededException.class)
+                .verify();
+        assertThat(mockWebServer.getRequestCount()).isZero();
+        assertThat(mutations.attempted()).isFalse();
+    }
+
+    @Test
+    void withdraw_shouldMarkWriteAttemptedEvenWhenItFails() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(500));
+        var mutations = AccountMutations.track();
+
+        StepVerifier.create(adapter.withdraw("acc1", Money.of("1")).contextWrite(mutations::writeTo))
+                .expectError(WebClientResponseException.class)
+                .verify();
+        assertThat(mutations.attempted()).isTrue();
+    }
 }
@@ -0,0 +1,113 @@
+package org.taller01.transactionms.infrastructure.mapper;
+
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionEntityCodecTest {
+
+    private final TransactionEntityCodec codec = new TransactionEntityCodec();
+
+    private BsonDocument encode(TransactionEntity entity) {
+        var document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), entity, EncoderContext.builder().build());
+        return document;
+    }
+
+    private TransactionEntity decode(BsonDocument document) {
+        return codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    @Test
+    void encode_shouldWriteSameLayoutAsSpringData() {
+        var id = new ObjectId();
+        var createdAt = Instant.parse("2025-01-01T10:15:30.123Z");
+        var entity = TransactionEntity.builder().id(id.toHexString()).type(TransactionType.TRANSFER)
+                .status(TransactionStatus.SUCCESS).fromAccountId("a").toAccountId("b")
+                .amount(Money.of("12.5")).createdAt(createdAt).build();
+
+        var document = encode(entity);
+
+        assertThat(document.getObjectId("_id").getValue()).isEqualTo(id);
+        assertThat(document.getString("type").getValue()).isEqualTo("TRANSFER");
+        assertThat(document.getString("status").getValue()).isEqualTo("SUCCESS");
+        assertThat(document.getDecimal128("amount").getValue())
+                .isEqualTo(Decimal128.parse("12.50"));
+        assertThat(document.getDateTime("createdAt").getValue()).isEqualTo(createdAt.toEpochMilli());
+        assertThat(document).doesNotContainKey("message");
+    }
+
+    @Test
+    void decode_shouldRoundTrip() {
+        var entity = TransactionEntity.builder().id("custom-id").type(TransactionType.DEPOSIT)
+                .status(TransactionStatus.FAILED).toAccountId("b").amount(Money.of("-0.01"))
+                .createdAt(Instant.parse("2025-01-01T00:00:00Z")).message("sin saldo").build();
+
+        assertThat(decode(encode(entity))).isEqualTo(entity);
+    }
+
+    @Test
+    void decode_shouldReadLegacyDocumentsWrittenBySpringData() {
+        var id = new ObjectId();
+        var legacy = new Document("_id", id)
+                .append("type", "WITHDRAWAL").append("status", "SUCCESS")
+                .append("fromAccountId", "a").append("toAccountId", null)
+                .append("amount", "7.5")
+                .append("createdAt", Date.from(Instant.parse("2024-06-01T12:00:00Z")))
+                .append("_class", "org.taller01.transactionms.infrastructure.entity.TransactionEntity")
+                .toBsonDocument();
+
+        var entity = decode(legacy);
+
+        assertThat(entity.getId()).isEqualTo(id.toHexString());
+        assertThat(entity.getType()).isEqualTo(TransactionType.WITHDRAWAL);
+        assertThat(entity.getAmount()).isEqualTo(Money.of("7.50"));
+        assertThat(entity.getToAccountId()).isNull();
+        assertThat(entity.getCreatedAt()).isEqualTo(Instant.parse("2024-06-01T12:00:00Z"));
+    }
+
+    @Test
+    void decode_shouldRoundLegacyAmountsWithMoreThanTwoDecimals() {
+        assertThat(decode(new BsonDocument("amount", new BsonString("10.555"))).getAmount())
+                .isEqualTo(Money.of("10.56"));
+        assertThat(decode(new BsonDocument("amount",
+                new BsonDecimal128(Decimal128.parse("-2.345")))).getAmount())
+                .isEqualTo(Money.of("-2.34"));
+    }
+
+    @Test
+    void generateIdIfAbsent_shouldAssignObjectIdHex() {
+        var entity = codec.generateIdIfAbsentFromDocument(TransactionEntity.builder().build());
+
+        assertThat(ObjectId.isValid(entity.getId())).isTrue();
+        assertThat(codec.getDocumentId(entity).isObjectId()).isTrue();
+        assertThat(codec.getDocumentId(TransactionEntity.builder().id("x").build()))
+                .isEqualTo(new BsonString("x"));
+    }
+
+    @Test
+    void decode_shouldReadDecimal128Amount() {
+        var document = new BsonDocument("amount",
+                new BsonDecimal128(new Decimal128(new BigDecimal("3.00"))));
+
+        assertThat(decode(document).getAmount()).isEqualTo(Money.of("3"));
+    }
+}
@@ -1,12 +1,12 @@
 package org.taller01.transactionms.infrastructure.mapper;
 
 import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.model.Money;
 import org.taller01.transactionms.domain.model.Transaction;
 import org.taller01.transactionms.domain.model.TransactionStatus;
 import org.taller01.transactionms.domain.model.TransactionType;
 import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,7 +23,7 @@ class TransactionEntityMapperTest {
                 .status(TransactionStatus.SUCCESS)
                 .fromAccountId("a1")
                 .toAccountId("a2")
-                .amount(BigDecimal.TEN)
+                .amount(Money.of("10"))
                 .createdAt(Instant.now())
                 .message("ok")
                 .build();
@@ -0,0 +1,136 @@
+package org.taller01.transactionms.infrastructure.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.TransactionField;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.infrastructure.config.MoneyJsonComponent;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionJsonWriterTest {
+
+    // Misma configuración que el ObjectMapper de la aplicación
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modules(new JavaTimeModule(), MoneyJsonComponent.module())
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private final TransactionEntityCodec codec = new TransactionEntityCodec();
+    private final TransactionEntityMapper entityMapper = new TransactionEntityMapper();
+    private final TransactionMapper mapper = new TransactionMapper();
+    private final TransactionJsonWriter writer = new TransactionJsonWriter();
+
+    private String write(RawBsonDocument document) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(16);
+        writer.write(document, buffer);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    // Lo que responde el controlador para el mismo documento
+    private String jackson(RawBsonDocument document) throws Exception {
+        TransactionEntity entity = codec.decode(new BsonDocumentReader(document),
+                DecoderContext.builder().build());
+        return objectMapper.writeValueAsString(mapper.toResponse(entityMapper.toDomain(entity)));
+    }
+
+    private static RawBsonDocument raw(BsonDocument document) {
+        return new RawBsonDocument(document, new BsonDocumentCodec());
+    }
+
+    @Test
+    void write_shouldMatchJacksonForCodecDocuments() throws Exception {
+        var entities = new TransactionEntity[] {
+            TransactionEntity.builder().id(new ObjectId().toHexString()).type(TransactionType.TRANSFER)
+                    .status(TransactionStatus.SUCCESS).fromAccountId("a").toAccountId("b")
+                    .amount(Money.of("12.5")).createdAt(Instant.parse("2025-01-01T10:15:30.123Z"))
+                    .message("Transferencia \"urgente\" a José\\Ana\n\tpaso\u0001 ✓ 😀").build(),
+            TransactionEntity.builder().id("custom-id").type(TransactionType.DEPOSIT)
+                    .status(TransactionStatus.PENDING).toAccountId("b").amount(Money.of("-0.05"))
+                    .createdAt(Instant.parse("2024-02-29T23:59:59Z")).build(),
+            TransactionEntity.builder().id(new ObjectId().toHexString())
+                    .type(TransactionType.WITHDRAWAL).status(TransactionStatus.FAILED)
+                    .fromAccountId("a").amount(Money.of("92233720368547758.07"))
+                    .createdAt(Instant.parse("1969-12-31T23:59:59.900Z")).message("").build(),
+            TransactionEntity.builder().createdAt(Instant.parse("+12000-01-01T00:00:00.010Z")).build()
+        };
+        for (TransactionEntity entity : entities) {
+            var document = new RawBsonDocument(entity, codec);
+
+            assertThat(write(document)).isEqualTo(jackson(document));
+        }
+    }
+
+    @Test
+    void write_shouldMatchJacksonForLegacyAndForeignDocuments() throws Exception {
+        // Monto como texto, Decimal128 con exponente, nulls explícitos y campos desconocidos
+        var document = new BsonDocument().append("_id", new BsonString("legacy"))
+                .append("_class", new BsonString("TransactionEntity"))
+                .append("amount", new BsonString("10.5")).append("message", BsonNull.VALUE)
+                .append("extra", new BsonDocument("nested", new BsonInt32(1)))
+                .append("type", new BsonString("DEPOSIT"))
+                .append("createdAt", new BsonDateTime(0));
+        var scaled = new BsonDocument().append("amount",
+                new BsonDecimal128(new Decimal128(new BigDecimal("1.2E+3"))));
+        var trailing = new BsonDocument().append("amount",
+                new BsonDecimal128(Decimal128.parse("7.5000")));
+
+        assertThat(write(raw(document))).isEqualTo(jackson(raw(document)));
+        assertThat(write(raw(scaled))).isEqualTo(jackson(raw(scaled)));
+        assertThat(write(raw(trailing))).isEqualTo(jackson(raw(trailing)));
+        assertThat(write(raw(trailing))).contains("\"amount\":7.50,");
+    }
+
+    @Test
+    void write_shouldWriteOnlyProjectedFieldsLikeMapper() throws Exception {
+        var fields = Set.of(TransactionField.STATUS, TransactionField.CREATED_AT,
+                TransactionField.AMOUNT, TransactionField.ID);
+        var entity = TransactionEntity.builder().id(new ObjectId().toHexString())
+                .type(TransactionType.DEPOSIT).status(TransactionStatus.SUCCESS)
+                .amount(Money.of("99.9")).createdAt(Instant.parse("2025-03-01T12:00:00.500Z"))
+                .message("no se pide").build();
+        var document = new RawBsonDocument(entity, codec);
+        var projected = new TransactionJsonWriter(fields);
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(16);
+
+        projected.write(document, buffer);
+
+        var expected = objectMapper.writeValueAsString(
+                mapper.toFieldsResponse(entityMapper.toDomain(entity), fields));
+        assertThat(buffer.toString(StandardCharsets.UTF_8)).isEqualTo(expected)
+                .startsWith("{\"id\":").doesNotContain("message");
+    }
+
+    @Test
+    void write_shouldRoundLegacyAmountsWithMoreThanTwoDecimalsLikeMapper() throws Exception {
+        var decimal = raw(new BsonDocument().append("amount",
+                new BsonDecimal128(Decimal128.parse("1.005"))));
+        var text = raw(new BsonDocument().append("amount", new BsonString("10.555")));
+
+        assertThat(write(decimal)).isEqualTo(jackson(decimal)).contains("\"amount\":1.00,");
+        assertThat(write(text)).isEqualTo(jackson(text)).contains("\"amount\":10.56,");
+    }
+}
@@ -1,11 +1,11 @@
 package org.taller01.transactionms.infrastructure.mapper;
 
 import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.model.Money;
 import org.taller01.transactionms.domain.model.Transaction;
 import org.taller01.transactionms.domain.model.TransactionStatus;
 import org.taller01.transactionms.domain.model.TransactionType;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,7 +21,7 @@ class TransactionMapperTest {
                 .type(TransactionType.WITHDRAWAL)
                 .status(TransactionStatus.FAILED)
                 .fromAccountId("a1")
-                .amount(BigDecimal.ONE)
+                .amount(Money.of("1"))
                 .createdAt(Instant.now())
                 .message("fail")
                 .build();
@@ -0,0 +1,75 @@
+package org.taller01.transactionms.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.port.out.ITransactionRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class MeteredTransactionRepositoryTest {
+
+    private ITransactionRepository delegate;
+    private SimpleMeterRegistry registry;
+    private MeteredTransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ITransactionRepository.class);
+        registry = new SimpleMeterRegistry();
+        repository = new MeteredTransactionRepository(delegate, registry);
+    }
+
+    private static Transaction tx(String id) {
+        return Transaction.builder().id(id).status(TransactionStatus.SUCCESS).build();
+    }
+
+    @Test
+    void save_shouldRecordOutcome() {
+        var ok = tx("1");
+        when(delegate.save(ok)).thenReturn(Mono.just(ok));
+        var broken = tx("2");
+        when(delegate.save(broken)).thenReturn(Mono.error(new IllegalStateException("boom")));
+
+        StepVerifier.create(repository.save(ok)).expectNext(ok).verifyComplete();
+        StepVerifier.create(repository.save(broken)).expectError().verify();
+
+        assertThat(registry.get("transactionms.repository").tag("operation", "save")
+                .tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("transactionms.repository").tag("operation", "save")
+                .tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void findHistory_shouldRecordRowsStreamed() {
+        var query = HistoryQuery.forAccount("acc1");
+        when(delegate.findHistory(query)).thenReturn(Flux.just(tx("1"), tx("2"), tx("3")));
+
+        StepVerifier.create(repository.findHistory(query)).expectNextCount(3).verifyComplete();
+
+        var rows = registry.get("transactionms.history.rows").summary();
+        assertThat(rows.count()).isEqualTo(1);
+        assertThat(rows.totalAmount()).isEqualTo(3);
+        assertThat(registry.get("transactionms.repository").tag("operation", "findHistory")
+                .tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void findHistory_cancelled_shouldRecordRowsDelivered() {
+        var query = HistoryQuery.forAccount("acc1");
+        when(delegate.findHistory(query)).thenReturn(Flux.just(tx("1"), tx("2"), tx("3")));
+
+        StepVerifier.create(repository.findHistory(query).take(2)).expectNextCount(2)
+                .verifyComplete();
+
+        assertThat(registry.get("transactionms.history.rows").summary().totalAmount())
+                .isEqualTo(2);
+    }
+}
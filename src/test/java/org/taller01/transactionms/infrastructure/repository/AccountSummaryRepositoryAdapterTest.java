@@ -0,0 +1,69 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountSummaryRepositoryAdapterTest {
+
+    private static final Instant T1 = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant T2 = Instant.parse("2025-01-02T00:00:00Z");
+
+    private static Transaction tx(TransactionType type, TransactionStatus status, String from,
+                                  String to, String amount, Instant at) {
+        return Transaction.builder().type(type).status(status).fromAccountId(from)
+                .toAccountId(to).amount(Money.of(amount)).createdAt(at).build();
+    }
+
+    @Test
+    void updatesByAccount_shouldAccumulatePerAccount() {
+        var updates = AccountSummaryRepositoryAdapter.updatesByAccount(List.of(
+                tx(TransactionType.DEPOSIT, TransactionStatus.SUCCESS, null, "a", "10.50", T1),
+                tx(TransactionType.DEPOSIT, TransactionStatus.SUCCESS, null, "a", "4.50", T2),
+                tx(TransactionType.TRANSFER, TransactionStatus.SUCCESS, "a", "b", "3", T1),
+                tx(TransactionType.WITHDRAWAL, TransactionStatus.FAILED, "a", null, "99", T1)));
+
+        Document a = updates.get("a").getUpdateObject();
+        Document inc = (Document) a.get("$inc");
+        assertThat(inc.get("deposited")).isEqualTo(new Decimal128(new BigDecimal("15.00")));
+        assertThat(inc.get("transferredOut")).isEqualTo(new Decimal128(new BigDecimal("3.00")));
+        assertThat(inc).doesNotContainKey("withdrawn");
+        assertThat(inc.get("counts.SUCCESS")).isEqualTo(3L);
+        assertThat(inc.get("counts.FAILED")).isEqualTo(1L);
+        assertThat(((Document) a.get("$max")).get("lastTransactionAt")).isEqualTo(T2);
+
+        Document bInc = (Document) updates.get("b").getUpdateObject().get("$inc");
+        assertThat(bInc.get("transferredIn")).isEqualTo(new Decimal128(new BigDecimal("3.00")));
+        assertThat(bInc.get("counts.SUCCESS")).isEqualTo(1L);
+    }
+
+    @Test
+    void updatesByAccount_sameAccountTransfer_shouldCountOnce() {
+        var updates = AccountSummaryRepositoryAdapter.updatesByAccount(List.of(
+                tx(TransactionType.TRANSFER, TransactionStatus.FAILED, "a", "a", "5", T1)));
+
+        assertThat(updates).containsOnlyKeys("a");
+        Document inc = (Document) updates.get("a").getUpdateObject().get("$inc");
+        assertThat(inc.get("counts.FAILED")).isEqualTo(1L);
+        assertThat(inc).doesNotContainKey("transferredOut");
+    }
+
+    @Test
+    void updatesByAccount_shouldSkipOpenAsyncTransfers() {
+        var updates = AccountSummaryRepositoryAdapter.updatesByAccount(List.of(
+                tx(TransactionType.TRANSFER, TransactionStatus.PENDING, "a", "b", "5", T1),
+                tx(TransactionType.TRANSFER, TransactionStatus.PROCESSING, "a", "b", "5", T1)));
+
+        assertThat(updates).isEmpty();
+    }
+}
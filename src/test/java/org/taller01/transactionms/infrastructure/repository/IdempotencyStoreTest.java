@@ -0,0 +1,226 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.taller01.transactionms.domain.exception.IdempotencyConflictException;
+import org.taller01.transactionms.domain.exception.InvalidRequestException;
+import org.taller01.transactionms.domain.model.AccountMutations;
+import org.taller01.transactionms.dto.response.TransactionResponse;
+import org.taller01.transactionms.infrastructure.config.IdempotencyProperties;
+import org.taller01.transactionms.infrastructure.entity.IdempotencyRecordEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IdempotencyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private ReactiveMongoTemplate mongoTemplate;
+    private IdempotencyStore store;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(ReactiveMongoTemplate.class);
+        var properties = new IdempotencyProperties();
+        properties.setInFlightWait(Duration.ofMillis(50));
+        properties.setPollInterval(Duration.ofMillis(10));
+        store = new IdempotencyStore(mongoTemplate, properties, Clock.fixed(NOW, ZoneOffset.UTC));
+        calls = new AtomicInteger();
+
+        when(mongoTemplate.insert(any(IdempotencyRecordEntity.class)))
+                .thenAnswer(inv -> Mono.just(inv.getArgument(0)));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class),
+                eq(IdempotencyRecordEntity.class)))
+                .thenReturn(Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+        when(mongoTemplate.remove(any(Query.class), eq(IdempotencyRecordEntity.class)))
+                .thenReturn(Mono.just(DeleteResult.acknowledged(1)));
+    }
+
+    private Mono<TransactionResponse> action(String id) {
+        return Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            return TransactionResponse.builder().id(id).build();
+        });
+    }
+
+    @Test
+    void execute_withoutKey_shouldRunActionEveryTime() {
+        store.execute(null, "deposito", "req", () -> action("a")).block();
+        store.execute(" ", "deposito", "req", () -> action("a")).block();
+
+        assertEquals(2, calls.get());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    void execute_shouldReturnStoredResponseOnRepeat() {
+        StepVerifier.create(store.execute("k1", "deposito", "req", () -> action("t1")))
+                .assertNext(r -> assertEquals("t1", r.getId()))
+                .verifyComplete();
+        StepVerifier.create(store.execute("k1", "deposito", "req", () -> action("t2")))
+                .assertNext(r -> assertEquals("t1", r.getId()))
+                .verifyComplete();
+
+        assertEquals(1, calls.get());
+        verify(mongoTemplate).insert(any(IdempotencyRecordEntity.class));
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class),
+                eq(IdempotencyRecordEntity.class));
+    }
+
+    @Test
+    void execute_concurrentDuplicate_shouldWaitForOriginal() {
+        Sinks.One<TransactionResponse> original = Sinks.one();
+        Mono<TransactionResponse> first = store.execute("k1", "retiro", "req", original::asMono);
+        Mono<TransactionResponse> second = store.execute("k1", "retiro", "req", () -> action("x"));
+
+        StepVerifier.create(first.zipWith(second))
+                .then(() -> original.tryEmitValue(TransactionResponse.builder().id("t1").build()))
+                .assertNext(t -> {
+                    assertEquals("t1", t.getT1().getId());
+                    assertEquals("t1", t.getT2().getId());
+                })
+                .verifyComplete();
+
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void execute_sameKeyDifferentRequest_shouldConflict() {
+        store.execute("k1", "deposito", "req-a", () -> action("t1")).block();
+
+        StepVerifier.create(store.execute("k1", "deposito", "req-b", () -> action("t2")))
+                .expectError(IdempotencyConflictException.class)
+                .verify();
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_completedInMongo_shouldSkipAction() {
+        var stored = TransactionResponse.builder().id("t1").build();
+        when(mongoTemplate.insert(any(IdempotencyRecordEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("dup")));
+        when(mongoTemplate.findById("k1", IdempotencyRecordEntity.class))
+                .thenReturn(Mono.just(IdempotencyRecordEntity.builder().key("k1")
+                        .fingerprint(IdempotencyStore.fingerprint("deposito", "req"))
+                        .status(IdempotencyRecordEntity.COMPLETED).response(stored)
+                        .createdAt(NOW).build()));
+
+        StepVerifier.create(store.execute("k1", "deposito", "req", () -> action("t2")))
+                .assertNext(r -> assertEquals("t1", r.getId()))
+                .verifyComplete();
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void execute_pendingElsewhere_shouldConflictAfterWait() {
+        when(mongoTemplate.insert(any(IdempotencyRecordEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("dup")));
+        when(mongoTemplate.findById("k1", IdempotencyRecordEntity.class))
+                .thenReturn(Mono.just(IdempotencyRecordEntity.builder().key("k1")
+                        .fingerprint(IdempotencyStore.fingerprint("deposito", "req"))
+                        .status(IdempotencyRecordEntity.PENDING).createdAt(NOW).build()));
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(1));
+        var properties = new IdempotencyProperties();
+        properties.setInFlightWait(Duration.ofMillis(50));
+        properties.setPollInterval(Duration.ofMillis(10));
+        var waiting = new IdempotencyStore(mongoTemplate, properties, clock);
+
+        StepVerifier.create(waiting.execute("k1", "deposito", "req", () -> action("t2")))
+                .expectError(IdempotencyConflictException.class)
+                .verify();
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void execute_actionError_shouldReleaseKeyForRetry() {
+        StepVerifier.create(store.execute("k1", "deposito", "req",
+                        () -> Mono.error(new IllegalStateException("boom"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        verify(mongoTemplate).remove(any(Query.class), eq(IdempotencyRecordEntity.class));
+
+        StepVerifier.create(store.execute("k1", "deposito", "req", () -> action("t1")))
+                .assertNext(r -> assertEquals("t1", r.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_errorAfterAccountWrite_shouldKeepKeyFailed() {
+        Mono<TransactionResponse> writesThenFails = Mono.deferContextual(ctx -> {
+            AccountMutations.markAttempted(ctx);
+            return Mono.error(new IllegalStateException("mongo caído"));
+        });
+
+        StepVerifier.create(store.execute("k1", "deposito", "req", () -> writesThenFails))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(IdempotencyRecordEntity.class));
+        verify(mongoTemplate).updateFirst(any(Query.class),
+                eq(Update.update("status", IdempotencyRecordEntity.FAILED)),
+                eq(IdempotencyRecordEntity.class));
+    }
+
+    @Test
+    void execute_completeError_shouldPropagateAndKeepKeyFailed() {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class),
+                eq(IdempotencyRecordEntity.class)))
+                .thenReturn(Mono.error(new IllegalStateException("mongo caído")),
+                        Mono.just(UpdateResult.acknowledged(1, 1L, null)));
+        Mono<TransactionResponse> writes = Mono.deferContextual(ctx -> {
+            AccountMutations.markAttempted(ctx);
+            return action("t1");
+        });
+
+        StepVerifier.create(store.execute("k1", "deposito", "req", () -> writes))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(mongoTemplate).updateFirst(any(Query.class),
+                eq(Update.update("status", IdempotencyRecordEntity.FAILED)),
+                eq(IdempotencyRecordEntity.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(IdempotencyRecordEntity.class));
+    }
+
+    @Test
+    void execute_failedInMongo_shouldConflictWithoutRunning() {
+        when(mongoTemplate.insert(any(IdempotencyRecordEntity.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("dup")));
+        when(mongoTemplate.findById("k1", IdempotencyRecordEntity.class))
+                .thenReturn(Mono.just(IdempotencyRecordEntity.builder().key("k1")
+                        .fingerprint(IdempotencyStore.fingerprint("deposito", "req"))
+                        .status(IdempotencyRecordEntity.FAILED).createdAt(NOW).build()));
+
+        StepVerifier.create(store.execute("k1", "deposito", "req", () -> action("t2")))
+                .expectError(IdempotencyConflictException.class)
+                .verify();
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void execute_keyTooLong_shouldFail() {
+        StepVerifier.create(store.execute("k".repeat(256), "deposito", "req", () -> action("t1")))
+                .expectError(InvalidRequestException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,168 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import org.taller01.transactionms.domain.model.HistoryCursor;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.infrastructure.config.LogStoreProperties;
+import reactor.test.StepVerifier;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedLogTransactionRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2025-01-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private MappedLogTransactionRepository open(DataSize segmentSize) {
+        var properties = new LogStoreProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(segmentSize);
+        return new MappedLogTransactionRepository(properties);
+    }
+
+    private static Transaction tx(String from, String to, long second, TransactionStatus status) {
+        return Transaction.builder().type(TransactionType.TRANSFER).status(status)
+                .fromAccountId(from).toAccountId(to).amount(Money.of("12.50"))
+                .createdAt(T0.plusSeconds(second)).message("ok").build();
+    }
+
+    private static List<String> ids(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getId).toList();
+    }
+
+    @Test
+    void save_shouldAssignIdAndServeHistoryNewestFirst() {
+        var repository = open(DataSize.ofKilobytes(64));
+        var first = repository.save(tx("a", "b", 1, TransactionStatus.SUCCESS)).block();
+        var second = repository.save(tx("c", "a", 2, TransactionStatus.FAILED)).block();
+
+        assertThat(first.getId()).hasSize(24);
+        StepVerifier.create(repository.findHistory(HistoryQuery.forAccount("a")).collectList())
+                .assertNext(list -> assertThat(ids(list)).containsExactly(second.getId(), first.getId()))
+                .verifyComplete();
+        StepVerifier.create(repository.findById(first.getId()))
+                .assertNext(found -> assertThat(found).isEqualTo(first))
+                .verifyComplete();
+    }
+
+    @Test
+    void save_shouldAppendOffTheCallerThread() {
+        var repository = open(DataSize.ofKilobytes(64));
+
+        StepVerifier.create(repository.save(tx("a", "b", 1, TransactionStatus.SUCCESS))
+                        .map(tx -> Thread.currentThread().getName()))
+                .assertNext(thread -> assertThat(thread).startsWith("boundedElastic"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findPageByAccountId_shouldContinueAfterCursor() {
+        var repository = open(DataSize.ofKilobytes(64));
+        var saved = repository.saveAll(List.of(tx("a", null, 1, TransactionStatus.SUCCESS),
+                tx("a", null, 2, TransactionStatus.SUCCESS),
+                tx("a", null, 3, TransactionStatus.SUCCESS))).collectList().block();
+
+        StepVerifier.create(repository.findPageByAccountId("a", HistoryCursor.of(saved.get(2)), 1)
+                        .collectList())
+                .assertNext(list -> assertThat(ids(list)).containsExactly(saved.get(1).getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void compareAndSetStatus_shouldOnlyChangeExpectedStatus() {
+        var repository = open(DataSize.ofKilobytes(64));
+        var pending = repository.save(tx("a", "b", 1, TransactionStatus.PENDING)).block();
+
+        StepVerifier.create(repository.compareAndSetStatus(pending.getId(),
+                        TransactionStatus.PENDING, TransactionStatus.PROCESSING))
+                .assertNext(tx -> assertThat(tx.getStatus()).isEqualTo(TransactionStatus.PROCESSING))
+                .verifyComplete();
+        StepVerifier.create(repository.compareAndSetStatus(pending.getId(),
+                        TransactionStatus.PENDING, TransactionStatus.PROCESSING))
+                .verifyComplete();
+        StepVerifier.create(repository.findByStatus(TransactionStatus.PROCESSING).count())
+                .expectNext(1L)
+                .verifyComplete();
+    }
+
+    @Test
+    void open_shouldRecoverIndexAcrossSegments() {
+        var repository = open(DataSize.ofBytes(256));
+        var pending = repository.save(tx("a", "b", 1, TransactionStatus.PENDING)).block();
+        repository.save(tx("a", null, 2, TransactionStatus.SUCCESS)).block();
+        repository.save(tx("b", null, 3, TransactionStatus.SUCCESS)).block();
+        pending.setStatus(TransactionStatus.SUCCESS);
+        repository.update(pending).block();
+        repository.close();
+
+        var reopened = open(DataSize.ofBytes(256));
+
+        assertThat(directory.toFile().list()).hasSizeGreaterThan(1);
+        StepVerifier.create(reopened.findHistory(HistoryQuery.forAccount("a")).count()).expectNext(2L).verifyComplete();
+        StepVerifier.create(reopened.findHistory(HistoryQuery.forAccount("b")).count()).expectNext(2L).verifyComplete();
+        StepVerifier.create(reopened.findById(pending.getId()))
+                .assertNext(tx -> assertThat(tx.getStatus()).isEqualTo(TransactionStatus.SUCCESS))
+                .verifyComplete();
+        StepVerifier.create(reopened.findByStatus(TransactionStatus.PENDING)).verifyComplete();
+    }
+
+    @Test
+    void open_shouldDropTornTailAndKeepAppending() throws Exception {
+        var repository = open(DataSize.ofKilobytes(4));
+        var kept = repository.save(tx("a", null, 1, TransactionStatus.SUCCESS)).block();
+        repository.save(tx("a", null, 2, TransactionStatus.SUCCESS)).block();
+        repository.close();
+
+        // Corrompe un byte del segundo registro, como una escritura cortada a la mitad
+        Path segment;
+        try (var files = Files.list(directory)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        int secondRecord = 8 + MappedLogTransactionRepository.encode(kept).length;
+        try (var file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(secondRecord + 12);
+            file.write(file.read() ^ 0xFF);
+        }
+
+        var reopened = open(DataSize.ofKilobytes(4));
+        var appended = reopened.save(tx("a", null, 3, TransactionStatus.SUCCESS)).block();
+
+        StepVerifier.create(reopened.findHistory(HistoryQuery.forAccount("a")).collectList())
+                .assertNext(list -> assertThat(ids(list))
+                        .containsExactly(appended.getId(), kept.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    void findHistory_shouldApplyRangeAndFilters() {
+        var repository = open(DataSize.ofKilobytes(64));
+        var saved = repository.saveAll(List.of(tx("a", null, 1, TransactionStatus.SUCCESS),
+                tx("a", null, 2, TransactionStatus.FAILED),
+                tx("a", null, 3, TransactionStatus.SUCCESS),
+                tx("a", null, 4, TransactionStatus.SUCCESS))).collectList().block();
+
+        var query = new HistoryQuery("a", T0.plusSeconds(1), T0.plusSeconds(4),
+                Set.of(TransactionType.TRANSFER), Set.of(TransactionStatus.SUCCESS),
+                null, null, null);
+
+        StepVerifier.create(repository.findHistory(query).collectList())
+                .assertNext(list -> assertThat(ids(list))
+                        .containsExactly(saved.get(2).getId(), saved.get(0).getId()))
+                .verifyComplete();
+    }
+}
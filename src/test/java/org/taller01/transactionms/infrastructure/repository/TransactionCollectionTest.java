@@ -0,0 +1,85 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscriber;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.infrastructure.config.MongoConfig;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class TransactionCollectionTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void find_shouldMapQueryLikeSpringData() {
+        var conversions = new MongoConfig().mongoCustomConversions();
+        var context = new MongoMappingContext();
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        var converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, context);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        var template = mock(ReactiveMongoTemplate.class);
+        MongoCollection<Document> raw = mock(MongoCollection.class);
+        MongoCollection<TransactionEntity> typed = mock(MongoCollection.class);
+        FindPublisher<TransactionEntity> find = mock(FindPublisher.class);
+        when(template.getCollectionName(TransactionEntity.class)).thenReturn("transactions");
+        when(template.getConverter()).thenReturn(converter);
+        when(template.getCollection("transactions")).thenReturn(Mono.just(raw));
+        when(raw.withDocumentClass(TransactionEntity.class)).thenReturn(typed);
+        when(typed.find(any(Bson.class))).thenReturn(find);
+        when(find.sort(any())).thenReturn(find);
+        when(find.projection(any())).thenReturn(find);
+        when(find.limit(anyInt())).thenReturn(find);
+        when(find.batchSize(anyInt())).thenReturn(find);
+        var entity = TransactionEntity.builder().id("e1").build();
+        doAnswer(inv -> {
+            Flux.just(entity).subscribe(inv.<Subscriber<TransactionEntity>>getArgument(0));
+            return null;
+        }).when(find).subscribe(any());
+
+        var id = new ObjectId();
+        var query = Query.query(Criteria.where("id").lt(id.toHexString()).and("type")
+                        .in(List.of(TransactionType.DEPOSIT)))
+                .with(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+                .limit(5).cursorBatchSize(50);
+        query.fields().include("amount").exclude("id");
+
+        StepVerifier.create(new TransactionCollection(template).find(query))
+                .expectNext(entity)
+                .verifyComplete();
+
+        var filter = ArgumentCaptor.forClass(Bson.class);
+        var sort = ArgumentCaptor.forClass(Bson.class);
+        verify(typed).find(filter.capture());
+        verify(find).sort(sort.capture());
+        verify(find).projection(new Document("amount", 1).append("_id", 0));
+        verify(find).limit(5);
+        verify(find).batchSize(50);
+        var mapped = (Document) filter.getValue();
+        assertThat(mapped.get("_id")).isEqualTo(new Document("$lt", id));
+        assertThat(mapped.get("type")).isEqualTo(new Document("$in", List.of("DEPOSIT")));
+        assertThat(((Document) sort.getValue()).keySet()).containsExactly("createdAt", "_id");
+    }
+}
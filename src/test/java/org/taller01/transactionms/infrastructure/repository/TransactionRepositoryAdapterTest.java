@@ -0,0 +1,112 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.taller01.transactionms.domain.model.HistoryQuery;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionField;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.domain.port.out.IAccountSummaryRepository;
+import org.taller01.transactionms.domain.port.out.ITransactionStatsRepository;
+import org.taller01.transactionms.infrastructure.mapper.TransactionEntityMapper;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransactionRepositoryAdapterTest {
+
+    @Test
+    void filtered_shouldPushEveryFilterIntoTheBranch() {
+        var from = Instant.parse("2025-01-01T00:00:00Z");
+        var to = Instant.parse("2025-02-01T00:00:00Z");
+        var query = new HistoryQuery("acc1", from, to, Set.of(TransactionType.DEPOSIT),
+                Set.of(TransactionStatus.SUCCESS), Money.of("10"), Money.of("20.5"), 10);
+
+        Document branch = TransactionRepositoryAdapter
+                .filtered(Criteria.where("toAccountId").is("acc1"), query).getCriteriaObject();
+
+        assertThat(branch.get("toAccountId")).isEqualTo("acc1");
+        assertThat(branch.get("createdAt")).isEqualTo(new Document("$gte", from).append("$lt", to));
+        assertThat(branch.get("type")).isEqualTo(new Document("$in", Set.of(TransactionType.DEPOSIT)));
+        assertThat(branch.get("status")).isEqualTo(new Document("$in", Set.of(TransactionStatus.SUCCESS)));
+        assertThat(branch.get("amount")).isEqualTo(new Document("$gte", Decimal128.parse("10.00"))
+                .append("$lte", Decimal128.parse("20.50")));
+    }
+
+    @Test
+    void saveAll_shouldKeepInsertedTransactionsWhenSomeAreRejected() {
+        var collection = mock(TransactionCollection.class);
+        var summaries = mock(IAccountSummaryRepository.class);
+        var stats = mock(ITransactionStatsRepository.class);
+        var adapter = new TransactionRepositoryAdapter(null, null, new TransactionEntityMapper(),
+                null, Optional.empty(), collection, new TransactionProjector(summaries, stats));
+        var error = new BulkWriteError(121, "Document failed validation", new BsonDocument(), 1);
+        when(collection.bulkInsert(anyList(), any(BulkWriteOptions.class))).thenReturn(Mono.error(
+                new MongoBulkWriteException(mock(BulkWriteResult.class), List.of(error), null,
+                        new ServerAddress(), Set.of())));
+        when(summaries.apply(anyList())).thenReturn(Mono.empty());
+        var ok = Transaction.builder().type(TransactionType.DEPOSIT).toAccountId("a").build();
+        var rejected = Transaction.builder().type(TransactionType.DEPOSIT).toAccountId("b").build();
+
+        StepVerifier.create(adapter.saveAll(List.of(ok, rejected)))
+                .expectNextMatches(tx -> tx.getId() != null && tx.getToAccountId().equals("a"))
+                .expectNextMatches(tx -> tx.getId() == null && tx.getToAccountId().equals("b"))
+                .verifyComplete();
+
+        verify(collection).bulkInsert(anyList(),
+                argThat((BulkWriteOptions options) -> !options.isOrdered()));
+        verify(summaries).apply(argThat(saved -> saved.size() == 1
+                && saved.get(0).getToAccountId().equals("a")));
+    }
+
+    @Test
+    void filtered_shouldLeaveOnlyAccountWhenNoFilters() {
+        Document branch = TransactionRepositoryAdapter.filtered(
+                Criteria.where("fromAccountId").is("acc1"), HistoryQuery.forAccount("acc1"))
+                .getCriteriaObject();
+
+        assertThat(branch).containsOnlyKeys("fromAccountId");
+    }
+
+    @Test
+    void historyQuery_shouldProjectFieldsAndDropIdWhenNotRequested() {
+        var history = new HistoryQuery("acc1", null, null, null, null, null, null, null,
+                Set.of(TransactionField.AMOUNT, TransactionField.CREATED_AT));
+
+        Query query = TransactionRepositoryAdapter.historyQuery(history, 100);
+
+        assertThat(query.getFieldsObject()).isEqualTo(
+                new Document("amount", 1).append("createdAt", 1).append("id", 0));
+    }
+
+    @Test
+    void historyQuery_shouldReadWholeDocumentWithoutFields() {
+        Query query = TransactionRepositoryAdapter.historyQuery(HistoryQuery.forAccount("acc1"), 100);
+
+        assertThat(query.getFieldsObject()).isEmpty();
+        assertThat(query.getMeta().getCursorBatchSize()).isEqualTo(100);
+    }
+}
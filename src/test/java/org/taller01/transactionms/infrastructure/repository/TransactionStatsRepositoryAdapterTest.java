@@ -0,0 +1,149 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.taller01.transactionms.domain.model.Money;
+import org.taller01.transactionms.domain.model.StatsGranularity;
+import org.taller01.transactionms.domain.model.Transaction;
+import org.taller01.transactionms.domain.model.TransactionStatus;
+import org.taller01.transactionms.domain.model.TransactionType;
+import org.taller01.transactionms.infrastructure.config.StatsProperties;
+import org.taller01.transactionms.infrastructure.entity.TransactionStatsEntity;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransactionStatsRepositoryAdapterTest {
+
+    private static final Instant T1 = Instant.parse("2025-01-01T10:15:30Z");
+    private static final Instant T2 = Instant.parse("2025-01-01T10:15:45Z");
+    private static final Instant MINUTE = Instant.parse("2025-01-01T10:15:00Z");
+    private static final Instant HOUR = Instant.parse("2025-01-01T10:00:00Z");
+
+    private static Transaction tx(TransactionType type, TransactionStatus status, String from,
+                                  String to, String amount, Instant at) {
+        return Transaction.builder().type(type).status(status).fromAccountId(from)
+                .toAccountId(to).amount(Money.of(amount)).createdAt(at).build();
+    }
+
+    @Test
+    void updatesByBucket_shouldAccumulatePerScopeAndGranularity() {
+        var updates = TransactionStatsRepositoryAdapter.updatesByBucket(List.of(
+                        tx(TransactionType.DEPOSIT, TransactionStatus.SUCCESS, null, "a", "10.50", T1),
+                        tx(TransactionType.DEPOSIT, TransactionStatus.SUCCESS, null, "a", "4.50", T2),
+                        tx(TransactionType.TRANSFER, TransactionStatus.FAILED, "a", "b", "3", T1)),
+                List.of(StatsGranularity.MINUTE, StatsGranularity.HOUR),
+                Map.of(StatsGranularity.MINUTE, Duration.ofDays(2)));
+
+        assertThat(updates).containsOnlyKeys(
+                TransactionStatsRepositoryAdapter.id("*", StatsGranularity.MINUTE, MINUTE),
+                TransactionStatsRepositoryAdapter.id("a", StatsGranularity.MINUTE, MINUTE),
+                TransactionStatsRepositoryAdapter.id("b", StatsGranularity.MINUTE, MINUTE),
+                TransactionStatsRepositoryAdapter.id("*", StatsGranularity.HOUR, HOUR),
+                TransactionStatsRepositoryAdapter.id("a", StatsGranularity.HOUR, HOUR),
+                TransactionStatsRepositoryAdapter.id("b", StatsGranularity.HOUR, HOUR));
+
+        Document a = updates.get(TransactionStatsRepositoryAdapter.id("a", StatsGranularity.MINUTE,
+                MINUTE)).getUpdateObject();
+        Document inc = (Document) a.get("$inc");
+        assertThat(inc.get("counts.DEPOSIT.SUCCESS")).isEqualTo(2L);
+        assertThat(inc.get("amounts.DEPOSIT.SUCCESS"))
+                .isEqualTo(new Decimal128(new BigDecimal("15.00")));
+        assertThat(inc.get("counts.TRANSFER.FAILED")).isEqualTo(1L);
+        Document onInsert = (Document) a.get("$setOnInsert");
+        assertThat(onInsert.get("scope")).isEqualTo("a");
+        assertThat(onInsert.get("start")).isEqualTo(MINUTE);
+        assertThat(onInsert.get("expireAt")).isEqualTo(MINUTE.plus(Duration.ofDays(2)));
+
+        Document hourOnInsert = (Document) updates.get(TransactionStatsRepositoryAdapter
+                .id("*", StatsGranularity.HOUR, HOUR)).getUpdateObject().get("$setOnInsert");
+        assertThat(hourOnInsert).doesNotContainKey("expireAt");
+    }
+
+    @Test
+    void record_shouldKeepEveryTransactionUnderConcurrentCallers() throws Exception {
+        var template = mock(ReactiveMongoTemplate.class);
+        var bulk = mock(ReactiveBulkOperations.class);
+        var global = new AtomicLong();
+        String globalId = TransactionStatsRepositoryAdapter.id("*", StatsGranularity.DAY,
+                Instant.parse("2025-01-01T00:00:00Z"));
+        when(template.bulkOps(any(BulkOperations.BulkMode.class), eq(TransactionStatsEntity.class)))
+                .thenReturn(bulk);
+        when(bulk.upsert(any(Query.class), any(Update.class))).thenAnswer(inv -> {
+            Query query = inv.getArgument(0);
+            if (globalId.equals(query.getQueryObject().get("_id"))) {
+                Document inc = (Document) inv.<Update>getArgument(1).getUpdateObject().get("$inc");
+                global.addAndGet((Long) inc.get("counts.DEPOSIT.SUCCESS"));
+            }
+            return bulk;
+        });
+        when(bulk.execute()).thenReturn(Mono.empty());
+        var properties = new StatsProperties();
+        properties.setGranularities(List.of(StatsGranularity.DAY));
+        properties.setMaxDelay(Duration.ofMillis(5));
+        var adapter = new TransactionStatsRepositoryAdapter(template, properties);
+
+        int threads = 8;
+        int perThread = 200;
+        var start = new CountDownLatch(1);
+        var pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    adapter.record(List.of(
+                            tx(TransactionType.DEPOSIT, TransactionStatus.SUCCESS, null, "a", "1", T1)));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        adapter.shutdown();
+
+        assertThat(global.get()).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    void updatesByBucket_sameAccountTransfer_shouldCountOncePerScope() {
+        var updates = TransactionStatsRepositoryAdapter.updatesByBucket(List.of(
+                        tx(TransactionType.TRANSFER, TransactionStatus.FAILED, "a", "a", "5", T1)),
+                List.of(StatsGranularity.DAY), Map.of());
+
+        assertThat(updates).hasSize(2);
+        Document inc = (Document) updates.get(TransactionStatsRepositoryAdapter.id("a",
+                StatsGranularity.DAY, Instant.parse("2025-01-01T00:00:00Z")))
+                .getUpdateObject().get("$inc");
+        assertThat(inc.get("counts.TRANSFER.FAILED")).isEqualTo(1L);
+    }
+
+    @Test
+    void updatesByBucket_shouldSkipPendingTransfers() {
+        var updates = TransactionStatsRepositoryAdapter.updatesByBucket(List.of(
+                        tx(TransactionType.TRANSFER, TransactionStatus.PENDING, "a", "b", "5", T1)),
+                List.of(StatsGranularity.MINUTE), Map.of());
+
+        assertThat(updates).isEmpty();
+    }
+}
@@ -0,0 +1,115 @@
+package org.taller01.transactionms.infrastructure.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.taller01.transactionms.domain.exception.WriteQueueFullException;
+import org.taller01.transactionms.domain.port.out.IAccountSummaryRepository;
+import org.taller01.transactionms.domain.port.out.ITransactionStatsRepository;
+import org.taller01.transactionms.infrastructure.config.PersistenceProperties;
+import org.taller01.transactionms.infrastructure.entity.TransactionEntity;
+import org.taller01.transactionms.infrastructure.mapper.TransactionEntityMapper;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class TransactionWriteBatcherTest {
+
+    private TransactionCollection collection;
+    private IAccountSummaryRepository summaries;
+    private TransactionProjector projector;
+    private TransactionWriteBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        collection = mock(TransactionCollection.class);
+        summaries = mock(IAccountSummaryRepository.class);
+        when(summaries.apply(anyList())).thenReturn(Mono.empty());
+        projector = new TransactionProjector(summaries, mock(ITransactionStatsRepository.class));
+
+        var properties = new PersistenceProperties();
+        properties.getBatching().setMaxBatchSize(2);
+        properties.getBatching().setMaxDelay(Duration.ofSeconds(5));
+        batcher = new TransactionWriteBatcher(collection, properties, new TransactionEntityMapper(), projector);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        batcher.shutdown();
+    }
+
+    @Test
+    void submit_shouldGroupConcurrentSavesIntoOneBulkWrite() {
+        when(collection.bulkInsert(anyList(), any(BulkWriteOptions.class)))
+                .thenReturn(Mono.just(mock(BulkWriteResult.class)));
+
+        var first = batcher.submit(TransactionEntity.builder().message("a").build());
+        var second = batcher.submit(TransactionEntity.builder().message("b").build());
+
+        StepVerifier.create(Mono.zip(first, second))
+                .expectNextMatches(t -> t.getT1().getMessage().equals("a")
+                        && t.getT2().getMessage().equals("b")
+                        && t.getT1().getId() != null)
+                .verifyComplete();
+
+        verify(collection, times(1)).bulkInsert(anyList(), any(BulkWriteOptions.class));
+        verify(summaries, times(1)).apply(argThat(saved -> saved.size() == 2));
+    }
+
+    @Test
+    void submit_shouldRouteItemErrorsToTheirOwnCaller() {
+        var error = new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1);
+        var bulkEx = new MongoBulkWriteException(mock(BulkWriteResult.class), List.of(error), null,
+                new ServerAddress(), Set.of());
+        when(collection.bulkInsert(anyList(), any(BulkWriteOptions.class)))
+                .thenReturn(Mono.error(bulkEx));
+
+        var ok = batcher.submit(TransactionEntity.builder().message("ok").build());
+        var duplicated = batcher.submit(TransactionEntity.builder().message("dup").build())
+                .map(TransactionEntity::getMessage)
+                .onErrorResume(DuplicateKeyException.class, ex -> Mono.just("duplicate"));
+
+        StepVerifier.create(Mono.zip(ok.map(TransactionEntity::getMessage), duplicated))
+                .expectNextMatches(t -> t.getT1().equals("ok") && t.getT2().equals("duplicate"))
+                .verifyComplete();
+
+        verify(summaries, times(1)).apply(argThat(saved -> saved.size() == 1
+                && saved.get(0).getMessage().equals("ok")));
+    }
+
+    @Test
+    void submit_shouldRejectWhenPendingQueueIsFull() {
+        when(collection.bulkInsert(anyList(), any(BulkWriteOptions.class))).thenReturn(Mono.never());
+        var properties = new PersistenceProperties();
+        properties.getBatching().setMaxBatchSize(1);
+        properties.getBatching().setMaxConcurrentFlushes(1);
+        properties.getBatching().setMaxPending(1);
+        var saturated = new TransactionWriteBatcher(collection, properties, new TransactionEntityMapper(), projector);
+
+        List<CompletableFuture<TransactionEntity>> saves = IntStream.range(0, 10)
+                .mapToObj(i -> saturated.submit(TransactionEntity.builder().build()).toFuture())
+                .toList();
+
+        assertThat(saves).anySatisfy(save -> assertThat(save)
+                .failsWithin(Duration.ofSeconds(1)).withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(WriteQueueFullException.class));
+    }
+}